@@ -13,6 +13,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.jar.JarFile;
 
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
@@ -50,6 +51,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
 
 public class ApplicationArchiveBuildStep {
@@ -90,6 +92,26 @@ interface IndexDependencyConfig {
         }
     }
 
+    /**
+     * Index cache
+     */
+    @ConfigMapping(prefix = "quarkus.index-cache")
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    interface IndexCacheConfiguration {
+        /**
+         * Whether the indexes of the dependencies which do not contain a Jandex index are stored on disk,
+         * and reused by the next builds, of this and any other application.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The directory in which the indexes of the dependencies are stored.
+         */
+        @WithDefault("${user.home}/.quarkus/index-cache")
+        Path directory();
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(IndexDependencyConfiguration config,
             BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
@@ -108,13 +130,15 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfiguration indexCacheConfig) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.persistent = indexCacheConfig.enabled() ? new PersistentIndexCache(indexCacheConfig.directory()) : null;
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources().entrySet()) {
@@ -269,8 +293,15 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         }
                         Index index = indexCache.cache.get(rootPath);
                         if (index == null) {
+                            final Set<String> removedResources = removed.get(dependencyKey);
                             try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
+                                if (indexCache.persistent != null
+                                        && (removedResources != null || !tree.contains(IndexingUtil.JANDEX_INDEX))) {
+                                    index = indexCache.persistent.get(rootPath, removedResources,
+                                            () -> IndexingUtil.indexTree(tree, removedResources));
+                                } else {
+                                    index = IndexingUtil.indexTree(tree, removedResources);
+                                }
                             } catch (IOException ioe) {
                                 throw new UncheckedIOException(ioe);
                             }
@@ -329,6 +360,10 @@ private static Index handleJarPath(Path path, IndexCache indexCache, Set<String>
             @Override
             public Index apply(Path path) {
                 try {
+                    // archives with a Jandex index are read directly, unless resources are removed from them
+                    if (indexCache.persistent != null && (removed != null || !containsJandexIndex(path))) {
+                        return indexCache.persistent.get(path, removed, () -> IndexingUtil.indexJar(path, removed));
+                    }
                     return IndexingUtil.indexJar(path, removed);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
@@ -337,11 +372,19 @@ public Index apply(Path path) {
         });
     }
 
+    private static boolean containsJandexIndex(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry(IndexingUtil.JANDEX_INDEX) != null;
+        }
+    }
+
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * Archives indexed for the first time are looked up in the persistent cache, if enabled.
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        PersistentIndexCache persistent;
     }
 }
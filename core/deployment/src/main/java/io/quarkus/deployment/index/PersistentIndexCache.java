@@ -0,0 +1,145 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk cache of the indexes of dependency archives, shared by all the builds of a machine.
+ * <p>
+ * Indexes are keyed by the checksum of the archive content, so that the same artifact is only ever indexed once,
+ * whatever its location. Cached indexes are memory mapped when they are read.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.deployment.index");
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the index of the given archive from the cache, or compute and store it.
+     *
+     * @param archive the archive
+     * @param removed the resources removed from the archive, may be {@code null}
+     * @param indexing the function indexing the archive
+     * @return the index of the archive
+     */
+    Index get(Path archive, Set<String> removed, Indexing indexing) throws IOException {
+        final Path file = directory.resolve(key(archive, removed) + INDEX_SUFFIX);
+        try (FileChannel channel = FileChannel.open(file)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new IndexReader(new ByteBufferInputStream(buffer)).read();
+        } catch (NoSuchFileException e) {
+            // Not indexed yet
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Ignoring the unreadable cached index %s of %s", file, archive);
+        }
+        final Index index = indexing.index();
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to cache the index of %s", archive);
+            if (tmp != null) {
+                Files.deleteIfExists(tmp);
+            }
+        }
+        return index;
+    }
+
+    private static String key(Path archive, Set<String> removed) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        // Indexes written by another Jandex version may not be readable
+        final String jandexVersion = Index.class.getPackage().getImplementationVersion();
+        if (jandexVersion != null) {
+            digest.update(jandexVersion.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+        // The resources removed from an archive change its index
+        if (removed != null) {
+            for (String resource : new TreeSet<>(removed)) {
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+        }
+        digest.update((byte) 0);
+        final byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(archive)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @FunctionalInterface
+    interface Indexing {
+        Index index() throws IOException;
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -53,6 +53,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.model.MutableJarApplicationModel;
+import io.quarkus.bootstrap.runner.ClassIndex;
 import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
@@ -765,6 +766,9 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             Collections.sort(sortedNonExistentResources);
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
                     sortedNonExistentResources);
+            try (OutputStream indexOut = Files.newOutputStream(buildDir.resolve(QuarkusEntryPoint.QUARKUS_CLASS_INDEX_DAT))) {
+                ClassIndex.write(indexOut, buildDir, allJars);
+            }
         }
 
         runnerJar.toFile().setReadable(true, false);
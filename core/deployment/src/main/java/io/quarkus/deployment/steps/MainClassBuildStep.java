@@ -89,6 +89,7 @@
 import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.runtime.configuration.ConfigUtils;
+import io.quarkus.runtime.util.StartupTimeline;
 import io.quarkus.runtime.util.StepTiming;
 
 public class MainClassBuildStep {
@@ -120,6 +121,14 @@ public class MainClassBuildStep {
             "unset", void.class);
     public static final MethodDescriptor CONFIGURE_STEP_TIME_START = ofMethod(StepTiming.class.getName(), "configureStart",
             void.class);
+    public static final MethodDescriptor STARTUP_TIMELINE_RESET = ofMethod(StartupTimeline.class.getName(), "reset",
+            void.class);
+    public static final MethodDescriptor STARTUP_TIMELINE_START = ofMethod(StartupTimeline.class.getName(), "start",
+            long.class);
+    public static final MethodDescriptor STARTUP_TIMELINE_RECORD = ofMethod(StartupTimeline.class.getName(), "record",
+            void.class, String.class, String.class, long.class);
+    public static final MethodDescriptor STARTUP_TIMELINE_FINISHED = ofMethod(StartupTimeline.class.getName(),
+            "startupFinished", void.class);
     private static final DotName QUARKUS_APPLICATION = DotName.createSimple(QuarkusApplication.class.getName());
     private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
     private static final Type STRING_ARRAY = Type.create(DotName.createSimple(String[].class.getName()), Type.Kind.ARRAY);
@@ -185,16 +194,20 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
                 lm);
 
         mv.invokeStaticMethod(CONFIGURE_STEP_TIME_ENABLED);
+        mv.invokeStaticMethod(STARTUP_TIMELINE_RESET);
         mv.invokeStaticMethod(RUNTIME_EXECUTION_STATIC_INIT);
 
         mv.invokeStaticMethod(ofMethod(Timing.class, "staticInitStarted", void.class, boolean.class),
                 mv.load(launchMode.isAuxiliaryApplication()));
 
         // ensure that the config class is initialized
+        ResultHandle configStart = mv.invokeStaticMethod(STARTUP_TIMELINE_START);
         mv.invokeStaticMethod(RunTimeConfigurationGenerator.C_ENSURE_INITIALIZED);
         if (liveReloadBuildItem.isLiveReload()) {
             mv.invokeStaticMethod(RunTimeConfigurationGenerator.REINIT);
         }
+        mv.invokeStaticMethod(STARTUP_TIMELINE_RECORD, mv.load(StartupTimeline.CONFIG),
+                mv.load("Static init configuration"), configStart);
         // Init the LOG instance
         mv.writeStaticField(logField.getFieldDescriptor(), mv.invokeStaticMethod(
                 ofMethod(Logger.class, "getLogger", Logger.class, String.class), mv.load("io.quarkus.application")));
@@ -311,6 +324,8 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
                 tryBlock.load(LaunchMode.DEVELOPMENT.equals(launchMode.getLaunchMode())),
                 tryBlock.load(launchMode.isAuxiliaryApplication()));
 
+        tryBlock.invokeStaticMethod(STARTUP_TIMELINE_FINISHED);
+
         tryBlock.invokeStaticMethod(
                 ofMethod(QuarkusConsole.class, "start", void.class));
 
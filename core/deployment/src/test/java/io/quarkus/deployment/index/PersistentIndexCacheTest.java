@@ -0,0 +1,68 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testIndexIsReusedAcrossBuilds() throws IOException {
+        Path jar = createJar(dir.resolve("dep.jar"));
+        AtomicInteger indexings = new AtomicInteger();
+        PersistentIndexCache.Indexing indexing = () -> {
+            indexings.incrementAndGet();
+            return IndexingUtil.indexJar(jar);
+        };
+        DotName name = DotName.createSimple(PersistentIndexCacheTest.class.getName());
+
+        Index first = new PersistentIndexCache(dir.resolve("cache")).get(jar, null, indexing);
+        Index second = new PersistentIndexCache(dir.resolve("cache")).get(jar, null, indexing);
+        assertEquals(1, indexings.get());
+        assertNotNull(first.getClassByName(name));
+        assertNotNull(second.getClassByName(name));
+
+        // Removing resources changes the index
+        new PersistentIndexCache(dir.resolve("cache")).get(jar, Set.of("foo/Bar.class"), indexing);
+        assertEquals(2, indexings.get());
+
+        // So does changing the archive
+        Files.delete(jar);
+        createJar(jar, "other/");
+        new PersistentIndexCache(dir.resolve("cache")).get(jar, null, indexing);
+        assertEquals(3, indexings.get());
+    }
+
+    private static Path createJar(Path jar, String... directories) throws IOException {
+        String resource = PersistentIndexCacheTest.class.getName().replace('.', '/') + ".class";
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out);
+                InputStream in = PersistentIndexCacheTest.class.getClassLoader().getResourceAsStream(resource)) {
+            for (String directory : directories) {
+                jarOut.putNextEntry(new JarEntry(directory));
+                jarOut.closeEntry();
+            }
+            jarOut.putNextEntry(new JarEntry(resource));
+            in.transferTo(jarOut);
+            jarOut.closeEntry();
+        }
+        return jar;
+    }
+}
@@ -18,13 +18,13 @@
 import jakarta.enterprise.inject.spi.CDI;
 
 import org.jboss.logging.Logger;
-import org.jboss.logmanager.handlers.AsyncHandler;
 import org.wildfly.common.lock.Locks;
 
 import io.quarkus.bootstrap.logging.InitialConfigurator;
 import io.quarkus.bootstrap.runner.RunnerClassLoader;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.graal.DiagnosticPrinter;
+import io.quarkus.runtime.logging.QuarkusAsyncHandler;
 import io.quarkus.runtime.util.ExceptionUtil;
 import io.quarkus.runtime.util.StringUtil;
 import io.smallrye.config.ConfigValidationException;
@@ -243,10 +243,10 @@ public static void run(Application application, Class<? extends QuarkusApplicati
 
     // this is needed only when async console logging is enabled
     private static void ensureConsoleLogsDrained() {
-        AsyncHandler asyncHandler = null;
+        QuarkusAsyncHandler asyncHandler = null;
         for (Handler handler : InitialConfigurator.DELAYED_HANDLER.getHandlers()) {
-            if (handler instanceof AsyncHandler) {
-                asyncHandler = (AsyncHandler) handler;
+            if (handler instanceof QuarkusAsyncHandler) {
+                asyncHandler = (QuarkusAsyncHandler) handler;
                 Handler[] nestedHandlers = asyncHandler.getHandlers();
                 boolean foundNestedConsoleHandler = false;
                 for (Handler nestedHandler : nestedHandlers) {
@@ -264,12 +264,8 @@ private static void ensureConsoleLogsDrained() {
             }
         }
         if (asyncHandler != null) {
-            try {
-                // all we can do is wait because the thread that takes records off the queue is a daemon thread and there is no way to interact with its lifecycle
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            // waits for the queued records to be written by the daemon writer thread
+            asyncHandler.flush();
         }
     }
 
@@ -1,5 +1,7 @@
 package io.quarkus.runtime;
 
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -18,4 +20,20 @@ public interface DebugRuntimeConfig {
      */
     @WithDefault("false")
     boolean printStartupTimes();
+
+    /**
+     * If set to {@code true}, Quarkus records a timeline of the startup, with the time taken by each build step,
+     * {@code @Startup} bean and the configuration, and the classes loaded from each class path element.
+     * The timeline is written as JSON once the application is started, and each step is committed as a JFR event.
+     * <p>
+     * Like {@code quarkus.debug.print-startup-times}, this must be set as a system property.
+     */
+    @WithDefault("false")
+    boolean startupTimeline();
+
+    /**
+     * The file the startup timeline is written to, setting it enables the startup timeline.
+     * Defaults to {@code startup-timeline.json} in the working directory.
+     */
+    Optional<String> startupTimelineFile();
 }
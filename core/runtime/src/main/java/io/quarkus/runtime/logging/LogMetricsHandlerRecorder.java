@@ -22,6 +22,14 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String ASYNC_QUEUE_METRIC_NAME = "log.async.queue.size";
+
+    static final String ASYNC_QUEUE_METRIC_DESCRIPTION = "Number of log events queued by the async log handlers.";
+
+    static final String ASYNC_DROPPED_METRIC_NAME = "log.async.dropped";
+
+    static final String ASYNC_DROPPED_METRIC_DESCRIPTION = "Number of log events dropped because the queue of an async log handler was full.";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
@@ -43,10 +51,22 @@ public void accept(MetricsFactory metricsFactory) {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
                 }
+                metricsFactory.builder(ASYNC_QUEUE_METRIC_NAME).description(ASYNC_QUEUE_METRIC_DESCRIPTION)
+                        .buildGauge(LogMetricsHandlerRecorder::asyncQueueSize);
+                metricsFactory.builder(ASYNC_DROPPED_METRIC_NAME).description(ASYNC_DROPPED_METRIC_DESCRIPTION)
+                        .buildCounter(QuarkusAsyncHandler.DROPPED::sum);
             }
         };
     }
 
+    static int asyncQueueSize() {
+        int size = 0;
+        for (QuarkusAsyncHandler handler : QuarkusAsyncHandler.HANDLERS) {
+            size += handler.getQueueSize();
+        }
+        return size;
+    }
+
     public RuntimeValue<Optional<Handler>> getLogHandler() {
         return new RuntimeValue(Optional.of(new LogMetricsHandler(COUNTERS)));
     }
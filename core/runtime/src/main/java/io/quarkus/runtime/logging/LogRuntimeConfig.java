@@ -502,5 +502,14 @@ interface AsyncConfig {
          */
         @WithDefault("block")
         OverflowAction overflow();
+
+        /**
+         * The level below which log records are dropped when the queue is full, whatever the overflow action.
+         * <p>
+         * For instance, with the `block` overflow action and the `WARN` discard level, the publishers are only blocked
+         * by the warnings and errors, and the records of lower levels are dropped.
+         */
+        @WithConverter(LevelConverter.class)
+        Optional<Level> discardLevel();
     }
 }
@@ -43,7 +43,6 @@
 import org.jboss.logmanager.formatters.ColorPatternFormatter;
 import org.jboss.logmanager.formatters.PatternFormatter;
 import org.jboss.logmanager.formatters.TextBannerFormatter;
-import org.jboss.logmanager.handlers.AsyncHandler;
 import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.jboss.logmanager.handlers.FileHandler;
 import org.jboss.logmanager.handlers.PeriodicSizeRotatingFileHandler;
@@ -845,11 +844,24 @@ private static Handler configureSocketHandler(final LogRuntimeConfig.SocketConfi
         }
     }
 
-    private static AsyncHandler createAsyncHandler(LogRuntimeConfig.AsyncConfig asyncConfig, Level level, Handler handler) {
-        final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength());
+    private static QuarkusAsyncHandler createAsyncHandler(LogRuntimeConfig.AsyncConfig asyncConfig, Level level,
+            Handler handler) {
+        final QuarkusAsyncHandler asyncHandler = new QuarkusAsyncHandler(asyncConfig.queueLength());
         asyncHandler.setOverflowAction(asyncConfig.overflow());
+        asyncHandler.setDiscardLevel(asyncConfig.discardLevel().orElse(null));
+        if (handler instanceof ExtHandler) {
+            // the async handler flushes once per batch of records
+            ((ExtHandler) handler).setAutoFlush(false);
+        }
         asyncHandler.addHandler(handler);
         asyncHandler.setLevel(level);
+        // the handlers replacing this one do not close it, and its writer thread would keep running
+        InitialConfigurator.DELAYED_HANDLER.addLoggingCloseTask(new Runnable() {
+            @Override
+            public void run() {
+                asyncHandler.close();
+            }
+        });
         return asyncHandler;
     }
 
@@ -0,0 +1,270 @@
+package io.quarkus.runtime.logging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler, publishing the records to its nested handlers from a single writer thread.
+ * <p>
+ * The records are queued in a bounded ring buffer which the publishing threads claim slots of without locking. The
+ * writer thread publishes the queued records in batches and flushes the nested handlers once per batch, so that the
+ * nested handlers are expected not to flush every record.
+ * <p>
+ * When the queue is full, the records below the discard level are dropped, and the other ones are either dropped or
+ * wait for a free slot, depending on the overflow action.
+ * <p>
+ * The writer thread is started when the first record is published, and stopped when the handler is closed.
+ */
+public class QuarkusAsyncHandler extends ExtHandler {
+
+    static final List<QuarkusAsyncHandler> HANDLERS = new CopyOnWriteArrayList<>();
+    static final LongAdder DROPPED = new LongAdder();
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final AtomicReferenceArray<ExtLogRecord> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    // only written by the writer thread
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Object writerLock = new Object();
+    private volatile Thread writer;
+
+    private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+    private volatile Level discardLevel;
+    private volatile int discardLevelValue = Integer.MIN_VALUE;
+    private volatile boolean waiting;
+    private volatile boolean closed;
+
+    /**
+     * @param queueLength the length of the queue, rounded up to the next power of two
+     */
+    public QuarkusAsyncHandler(int queueLength) {
+        int capacity = Integer.highestOneBit(Math.max(2, queueLength) - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public int getQueueLength() {
+        return buffer.length();
+    }
+
+    public OverflowAction getOverflowAction() {
+        return overflowAction;
+    }
+
+    public void setOverflowAction(OverflowAction overflowAction) {
+        checkAccess();
+        this.overflowAction = overflowAction;
+    }
+
+    /**
+     * @return the level below which the records are dropped when the queue is full, {@code null} if none
+     */
+    public Level getDiscardLevel() {
+        return discardLevel;
+    }
+
+    public void setDiscardLevel(Level discardLevel) {
+        checkAccess();
+        this.discardLevel = discardLevel;
+        this.discardLevelValue = discardLevel == null ? Integer.MIN_VALUE : discardLevel.intValue();
+    }
+
+    /**
+     * @return the number of queued records
+     */
+    public int getQueueSize() {
+        return (int) Math.max(0, producerIndex.get() - consumerIndex.get());
+    }
+
+    /**
+     * @return the number of records dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        final Thread writer = startWriter();
+        if (writer == null) {
+            // closed
+            return;
+        }
+        // prepare record to move to another thread
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+        }
+        if (offer(record)) {
+            return;
+        }
+        // the writer thread cannot wait for itself, when a nested handler logs
+        if (record.getLevel().intValue() < discardLevelValue || overflowAction == OverflowAction.DISCARD
+                || Thread.currentThread() == writer) {
+            drop();
+            return;
+        }
+        // wait for the writer thread to free a slot
+        long parkNanos = 1_000;
+        while (!offer(record)) {
+            if (closed) {
+                drop();
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(parkNanos);
+            parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+        }
+    }
+
+    // the writer thread, started if needed, or null if the handler is closed
+    private Thread startWriter() {
+        Thread writer = this.writer;
+        if (writer != null && !closed) {
+            return writer;
+        }
+        synchronized (writerLock) {
+            if (closed) {
+                return null;
+            }
+            writer = this.writer;
+            if (writer == null) {
+                writer = new Thread(this::run, "quarkus-async-log");
+                writer.setDaemon(true);
+                writer.start();
+                HANDLERS.add(this);
+                this.writer = writer;
+            }
+            return writer;
+        }
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() > mask) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        buffer.set((int) index & mask, record);
+        if (waiting) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    private void drop() {
+        dropped.increment();
+        DROPPED.increment();
+    }
+
+    private void run() {
+        while (true) {
+            if (drain() == 0) {
+                if (closed && producerIndex.get() == consumerIndex.get()) {
+                    return;
+                }
+                waiting = true;
+                // a record may have been queued before the flag was set
+                if (buffer.get((int) consumerIndex.get() & mask) == null) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                waiting = false;
+            }
+        }
+    }
+
+    // publishes a batch of queued records to the nested handlers and flushes them once
+    private int drain() {
+        long index = consumerIndex.get();
+        int count = 0;
+        ExtLogRecord record;
+        while (count < buffer.length() && (record = buffer.get((int) index & mask)) != null) {
+            buffer.lazySet((int) index & mask, null);
+            consumerIndex.lazySet(++index);
+            count++;
+            try {
+                publishToNestedHandlers(record);
+            } catch (Exception e) {
+                reportError("Failed to publish the log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+        if (count > 0) {
+            flushNestedHandlers();
+        }
+        return count;
+    }
+
+    private void flushNestedHandlers() {
+        for (Handler handler : getHandlers()) {
+            try {
+                handler.flush();
+            } catch (Exception e) {
+                reportError("Failed to flush the nested handler", e, ErrorManager.FLUSH_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Waits for the records queued so far to be written, and flushes the nested handlers.
+     */
+    @Override
+    public void flush() {
+        final Thread writer = this.writer;
+        if (writer == null) {
+            // nothing was published
+            flushNestedHandlers();
+            return;
+        }
+        long target = producerIndex.get();
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (consumerIndex.get() < target && writer.isAlive() && Thread.currentThread() != writer
+                && System.nanoTime() - deadline < 0) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(100_000);
+        }
+        flushNestedHandlers();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        checkAccess();
+        final Thread writer;
+        synchronized (writerLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writer = this.writer;
+        }
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(TimeUnit.NANOSECONDS.toMillis(DRAIN_TIMEOUT_NANOS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            HANDLERS.remove(this);
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,223 @@
+package io.quarkus.runtime.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.commons.classloading.ClassLoadingStatistics;
+import io.quarkus.runtime.ExecutionModeManager;
+import io.quarkus.runtime.LaunchMode;
+
+/**
+ * A timeline of the application startup: the recorded steps, the {@code @Startup} beans, the configuration
+ * initialization and the classes loaded from each class path element.
+ * <p>
+ * The timeline is collected when the {@value #STARTUP_TIMELINE} system property is set to {@code true}, and always in
+ * dev mode, where it is displayed in the Dev UI. Once the application is started, it is written as JSON to the file
+ * set by the {@value #STARTUP_TIMELINE_FILE} system property, or to {@code startup-timeline.json} when the timeline was
+ * enabled explicitly. Each entry is also committed as a JFR event if JFR is available.
+ */
+public final class StartupTimeline {
+
+    private static final Logger log = Logger.getLogger(StartupTimeline.class);
+
+    public static final String STARTUP_TIMELINE = ClassLoadingStatistics.ENABLED_PROPERTY;
+    public static final String STARTUP_TIMELINE_FILE = "quarkus.debug.startup-timeline-file";
+
+    public static final String RECORDER = "recorder";
+    public static final String STARTUP_BEAN = "startup-bean";
+    public static final String CONFIG = "config";
+
+    private static volatile boolean enabled;
+    private static volatile boolean jfrEnabled;
+    private static long origin;
+    private static long finished;
+    private static final List<Entry> entries = new ArrayList<>();
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Enable the timeline according to the system properties, at static init and again at runtime init.
+     */
+    public static void configureEnabled() {
+        enabled = Boolean.getBoolean(STARTUP_TIMELINE) || System.getProperty(STARTUP_TIMELINE_FILE) != null
+                || LaunchMode.current() == LaunchMode.DEVELOPMENT;
+        jfrEnabled = enabled;
+        synchronized (entries) {
+            if (entries.isEmpty()) {
+                // the static init happened at build time in native mode
+                origin = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Reset the timeline, at the beginning of the static initialization of the application.
+     */
+    public static void reset() {
+        synchronized (entries) {
+            entries.clear();
+            origin = System.nanoTime();
+            finished = -1;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the start time of an entry, or {@code 0} if the timeline is not enabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Record an entry ending now.
+     *
+     * @param kind the kind of entry, e.g. {@link #RECORDER}
+     * @param name the name of the entry
+     * @param start the start time of the entry, as returned by {@link #start()}
+     */
+    public static void record(String kind, String name, long start) {
+        if (enabled) {
+            record(kind, name, start, System.nanoTime());
+        }
+    }
+
+    static void record(String kind, String name, long start, long end) {
+        Entry entry = new Entry(kind, name, String.valueOf(ExecutionModeManager.getExecutionMode()), start, end - start);
+        synchronized (entries) {
+            entries.add(entry);
+        }
+        if (jfrEnabled) {
+            try {
+                StartupTimelineEvent.commit(entry.kind, entry.name, entry.phase, entry.duration);
+            } catch (LinkageError e) {
+                // the jdk.jfr module is not available
+                jfrEnabled = false;
+            }
+        }
+    }
+
+    /**
+     * Mark the end of the startup, and write the timeline if a file was requested.
+     */
+    public static void startupFinished() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (entries) {
+            finished = System.nanoTime();
+        }
+        String file = System.getProperty(STARTUP_TIMELINE_FILE,
+                Boolean.getBoolean(STARTUP_TIMELINE) ? "startup-timeline.json" : null);
+        if (file == null) {
+            return;
+        }
+        Path path = Path.of(file);
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(toJson());
+            log.infof("Startup timeline written to %s", path.toAbsolutePath());
+        } catch (IOException e) {
+            log.warnf(e, "Unable to write the startup timeline to %s", path);
+        }
+    }
+
+    /**
+     * @return the timeline as JSON, with all times in microseconds relative to the beginning of the static init
+     */
+    public static String toJson() {
+        StringBuilder json = new StringBuilder(8192);
+        synchronized (entries) {
+            json.append("{\"duration\":")
+                    .append(finished < 0 ? -1 : micros(finished - origin))
+                    .append(",\"entries\":[");
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"kind\":");
+                appendString(json, entry.kind);
+                json.append(",\"name\":");
+                appendString(json, entry.name);
+                json.append(",\"phase\":");
+                appendString(json, entry.phase);
+                json.append(",\"start\":").append(micros(entry.start - origin))
+                        .append(",\"duration\":").append(micros(entry.duration))
+                        .append('}');
+            }
+        }
+        json.append("],\"classLoading\":[");
+        boolean first = true;
+        for (Map.Entry<String, long[]> element : ClassLoadingStatistics.snapshot().entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"element\":");
+            appendString(json, element.getKey());
+            json.append(",\"classes\":").append(element.getValue()[0])
+                    .append(",\"bytes\":").append(element.getValue()[1])
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    private static final class Entry {
+        final String kind;
+        final String name;
+        final String phase;
+        final long start;
+        final long duration;
+
+        Entry(String kind, String name, String phase, long start, long duration) {
+            this.kind = kind;
+            this.name = name;
+            this.phase = phase;
+            this.start = start;
+            this.duration = duration;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.runtime.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event for an entry of the {@link StartupTimeline}.
+ * <p>
+ * Only loaded when the timeline is enabled, so that the {@code jdk.jfr} module is not required otherwise.
+ */
+@Name("quarkus.StartupStep")
+@Label("Startup Step")
+@Category({ "Quarkus", "Startup" })
+@Description("A step of the Quarkus application startup")
+@StackTrace(false)
+class StartupTimelineEvent extends Event {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Name")
+    String name;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Step Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long stepDuration;
+
+    static void commit(String kind, String name, String phase, long duration) {
+        StartupTimelineEvent event = new StartupTimelineEvent();
+        if (event.isEnabled()) {
+            event.kind = kind;
+            event.name = name;
+            event.phase = phase;
+            event.stepDuration = duration;
+            event.commit();
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class StepTiming {
 
     public static void configureEnabled() {
         stepTimingEnabled = System.getProperty(PRINT_STARTUP_TIMES, "false").equalsIgnoreCase("true");
+        StartupTimeline.configureEnabled();
     }
 
     public static void configureStart() {
@@ -23,14 +24,29 @@ public static void configureStart() {
     }
 
     public static void printStepTime(StartupContext startupContext) {
-        if (!stepTimingEnabled) {
+        printStepTime(StartupTimeline.RECORDER, startupContext.getCurrentBuildStepName());
+    }
+
+    /**
+     * Print the time since the previous step, and record it in the startup timeline.
+     *
+     * @param kind the kind of the step in the startup timeline
+     * @param name the name of the step
+     */
+    public static void printStepTime(String kind, String name) {
+        if (!stepTimingEnabled && !StartupTimeline.isEnabled()) {
             return;
         }
-        String currentBuildStepName = startupContext.getCurrentBuildStepName();
-        System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms%n",
-                LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
-                currentBuildStepName,
-                duration(System.nanoTime(), stepTimingStart));
+        long now = System.nanoTime();
+        if (StartupTimeline.isEnabled()) {
+            StartupTimeline.record(kind, name, stepTimingStart, now);
+        }
+        if (stepTimingEnabled) {
+            System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms%n",
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                    name,
+                    duration(now, stepTimingStart));
+        }
         stepTimingStart = System.nanoTime();
     }
 
@@ -0,0 +1,143 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class QuarkusAsyncHandlerTest {
+
+    QuarkusAsyncHandler handler;
+
+    RecordingHandler nested;
+
+    @BeforeEach
+    public void setUp() {
+        handler = new QuarkusAsyncHandler(4);
+        nested = new RecordingHandler();
+        handler.addHandler(nested);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        nested.release.countDown();
+        handler.close();
+    }
+
+    @Test
+    public void queueLengthIsRoundedUp() {
+        assertEquals(4, handler.getQueueLength());
+        QuarkusAsyncHandler other = new QuarkusAsyncHandler(5);
+        assertEquals(8, other.getQueueLength());
+        other.close();
+    }
+
+    @Test
+    public void writerThreadIsStartedOnFirstRecord() {
+        nested.release.countDown();
+        QuarkusAsyncHandler unused = new QuarkusAsyncHandler(4);
+        assertFalse(QuarkusAsyncHandler.HANDLERS.contains(unused));
+        unused.close();
+
+        assertFalse(QuarkusAsyncHandler.HANDLERS.contains(handler));
+        handler.publish(new LogRecord(Level.INFO, "message"));
+        assertTrue(QuarkusAsyncHandler.HANDLERS.contains(handler));
+        handler.close();
+        assertFalse(QuarkusAsyncHandler.HANDLERS.contains(handler));
+        assertEquals(1, nested.records.size());
+    }
+
+    @Test
+    public void recordsArePublishedInOrder() {
+        nested.release.countDown();
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, nested.records.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, nested.records.get(i).getMessage());
+        }
+        assertTrue(nested.flushes > 0 && nested.flushes <= 100);
+        assertEquals(0, handler.getQueueSize());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void recordsBelowDiscardLevelAreDroppedWhenFull() throws Exception {
+        handler.setDiscardLevel(Level.WARN);
+        fill();
+
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        // blocks until the writer thread is released
+        Thread publisher = new Thread(() -> handler.publish(new LogRecord(Level.ERROR, "kept")));
+        publisher.start();
+        publisher.join(200);
+        assertTrue(publisher.isAlive());
+
+        nested.release.countDown();
+        publisher.join(5_000);
+        handler.flush();
+        assertEquals("kept", nested.records.get(nested.records.size() - 1).getMessage());
+        assertEquals(1, handler.getDroppedCount());
+    }
+
+    @Test
+    public void recordsAreDroppedWhenFull() throws Exception {
+        handler.setOverflowAction(OverflowAction.DISCARD);
+        fill();
+
+        handler.publish(new LogRecord(Level.ERROR, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+    }
+
+    // blocks the writer thread on the first record and fills the queue
+    private void fill() throws InterruptedException {
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(nested.started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < handler.getQueueLength(); i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+        assertEquals(handler.getQueueLength(), handler.getQueueSize());
+    }
+
+    static class RecordingHandler extends ExtHandler {
+
+        final List<ExtLogRecord> records = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile int flushes;
+
+        @Override
+        protected void doPublish(ExtLogRecord record) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
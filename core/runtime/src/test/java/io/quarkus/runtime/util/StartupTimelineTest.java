@@ -0,0 +1,52 @@
+package io.quarkus.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StartupTimelineTest {
+
+    @AfterEach
+    public void cleanup() {
+        System.clearProperty(StartupTimeline.STARTUP_TIMELINE_FILE);
+        StartupTimeline.configureEnabled();
+        StartupTimeline.reset();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        StartupTimeline.configureEnabled();
+        StartupTimeline.reset();
+        assertFalse(StartupTimeline.isEnabled());
+        assertEquals(0, StartupTimeline.start());
+        StartupTimeline.record(StartupTimeline.RECORDER, "Ignored.step", 0);
+        assertFalse(StartupTimeline.toJson().contains("Ignored.step"));
+    }
+
+    @Test
+    public void testTimelineIsWritten(@TempDir Path tmp) throws Exception {
+        Path file = tmp.resolve("timeline.json");
+        System.setProperty(StartupTimeline.STARTUP_TIMELINE_FILE, file.toString());
+        StartupTimeline.configureEnabled();
+        StartupTimeline.reset();
+        assertTrue(StartupTimeline.isEnabled());
+
+        StartupTimeline.record(StartupTimeline.RECORDER, "Processor.\"step\"", StartupTimeline.start());
+        StepTiming.configureStart();
+        StepTiming.printStepTime(StartupTimeline.STARTUP_BEAN, "org.acme.Bean");
+        StartupTimeline.startupFinished();
+
+        String json = Files.readString(file);
+        assertTrue(json.startsWith("{\"duration\":"), json);
+        assertTrue(json.contains("{\"kind\":\"recorder\",\"name\":\"Processor.\\\"step\\\"\",\"phase\":\"UNSET\""), json);
+        assertTrue(json.contains("{\"kind\":\"startup-bean\",\"name\":\"org.acme.Bean\""), json);
+        assertTrue(json.endsWith(",\"classLoading\":[]}"), json);
+    }
+}
@@ -11,6 +11,7 @@
 import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -63,17 +64,26 @@ public void testMetricsOfDs1() throws SQLException {
                 new Tag("datasource", "ds1")));
         Gauge<?> maxUsed = registry.getGauges().get(new MetricID("agroal.max.used.count",
                 new Tag("datasource", "ds1")));
+        Timer acquisitionTime = registry.getTimers().get(new MetricID("agroal.acquisition.time",
+                new Tag("datasource", "ds1")));
+        Timer usageTime = registry.getTimers().get(new MetricID("agroal.usage.time",
+                new Tag("datasource", "ds1")));
         Assertions.assertNotNull(acquireCount, "Agroal metrics should be registered eagerly");
         Assertions.assertNotNull(maxUsed, "Agroal metrics should be registered eagerly");
+        Assertions.assertNotNull(acquisitionTime, "Agroal metrics should be registered eagerly");
+        Assertions.assertNotNull(usageTime, "Agroal metrics should be registered eagerly");
 
         try (Connection connection = ds1.getConnection()) {
             try (Statement statement = connection.createStatement()) {
                 statement.execute("SELECT 1");
             }
+            Assertions.assertEquals(1L, acquisitionTime.getCount());
+            Assertions.assertEquals(0L, usageTime.getCount());
         }
 
         Assertions.assertEquals(1L, acquireCount.getCount());
         Assertions.assertEquals(1L, maxUsed.getValue());
+        Assertions.assertEquals(1L, usageTime.getCount());
     }
 
 }
@@ -23,6 +23,38 @@ default void disableSslSupport(String databaseKind, AgroalDataSourceConfiguratio
         disableSslSupport(databaseKind, dataSourceConfiguration);
     }
 
+    /**
+     * Sets the maximum number of prepared statements cached by the driver for each connection.
+     * <p>
+     * Implementations should not override properties set explicitly in {@code additionalJdbcProperties}.
+     */
+    default void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize, Map<String, String> additionalJdbcProperties) {
+        log.warnv("Agroal does not support configuring the prepared statement cache for database kind: {0}", databaseKind);
+    }
+
+    /**
+     * Enables or disables the rewriting of batched statements into multi-row statements by the driver.
+     * <p>
+     * Implementations should not override properties set explicitly in {@code additionalJdbcProperties}.
+     */
+    default void setRewriteBatchedStatements(String databaseKind,
+            AgroalDataSourceConfigurationSupplier dataSourceConfiguration, boolean rewriteBatchedStatements,
+            Map<String, String> additionalJdbcProperties) {
+        log.warnv("Agroal does not support configuring the rewriting of batched statements for database kind: {0}",
+                databaseKind);
+    }
+
+    /**
+     * Sets a driver property, unless it was set explicitly in {@code additionalJdbcProperties}.
+     */
+    static void setJdbcPropertyIfAbsent(AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            Map<String, String> additionalJdbcProperties, String name, String value) {
+        if (!additionalJdbcProperties.containsKey(name)) {
+            dataSourceConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcProperty(name, value);
+        }
+    }
+
     default void setExceptionSorter(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration) {
         log.warnv("Agroal does not support detecting if a connection is still usable after an exception for database kind: {0}",
                 databaseKind);
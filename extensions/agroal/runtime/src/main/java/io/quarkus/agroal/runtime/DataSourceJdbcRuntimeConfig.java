@@ -140,6 +140,28 @@ public interface DataSourceJdbcRuntimeConfig {
      */
     Optional<AgroalConnectionPoolConfiguration.TransactionRequirement> transactionRequirement();
 
+    /**
+     * The maximum number of prepared statements cached by the JDBC driver for each pooled connection.
+     * <p>
+     * Cached statements do not need to be prepared again when executed again on the same connection;
+     * drivers evict the least recently used statements when the cache is full.
+     * This is translated to the relevant driver-specific properties, unless they were set explicitly
+     * in {@code additional-jdbc-properties}.
+     * Set to {@code 0} to disable the cache, when the driver supports it.
+     */
+    @ConfigDocDefault("The driver's default.")
+    OptionalInt statementCacheSize();
+
+    /**
+     * Whether the JDBC driver should rewrite batched statements into multi-row statements,
+     * so that a batch can be sent to the database in fewer round-trips.
+     * <p>
+     * This is translated to the relevant driver-specific property, unless it was set explicitly
+     * in {@code additional-jdbc-properties}.
+     */
+    @ConfigDocDefault("The driver's default.")
+    Optional<Boolean> rewriteBatchedStatements();
+
     /**
      * Other unspecified properties to be passed to the JDBC driver when creating new connections.
      */
@@ -30,6 +30,7 @@
 import io.agroal.api.transaction.TransactionIntegration;
 import io.agroal.narayana.NarayanaTransactionIntegration;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.AgroalPoolMetricsListener;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.credentials.CredentialsProvider;
@@ -204,12 +205,31 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
+        // Statement cache and batching
+        if (dataSourceJdbcRuntimeConfig.statementCacheSize().isPresent()) {
+            agroalConnectionConfigurer.setStatementCacheSize(resolvedDbKind, dataSourceConfiguration,
+                    dataSourceJdbcRuntimeConfig.statementCacheSize().getAsInt(),
+                    dataSourceJdbcRuntimeConfig.additionalJdbcProperties());
+        }
+        if (dataSourceJdbcRuntimeConfig.rewriteBatchedStatements().isPresent()) {
+            agroalConnectionConfigurer.setRewriteBatchedStatements(resolvedDbKind, dataSourceConfiguration,
+                    dataSourceJdbcRuntimeConfig.rewriteBatchedStatements().get(),
+                    dataSourceJdbcRuntimeConfig.additionalJdbcProperties());
+        }
+
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
         AgroalDataSourceConfiguration agroalConfiguration = dataSourceConfiguration.get();
-        AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration,
-                new AgroalEventLoggingListener(dataSourceName,
-                        agroalConfiguration.connectionPoolConfiguration()
-                                .transactionRequirement() == TransactionRequirement.WARN));
+        AgroalEventLoggingListener loggingListener = new AgroalEventLoggingListener(dataSourceName,
+                agroalConfiguration.connectionPoolConfiguration()
+                        .transactionRequirement() == TransactionRequirement.WARN);
+        AgroalDataSource dataSource;
+        if (agroalConfiguration.metricsEnabled()) {
+            dataSource = new io.agroal.pool.DataSource(agroalConfiguration, loggingListener,
+                    AgroalPoolMetricsListener.create(dataSourceName,
+                            agroalConfiguration.connectionPoolConfiguration().leakTimeout()));
+        } else {
+            dataSource = new io.agroal.pool.DataSource(agroalConfiguration, loggingListener);
+        }
         log.debugv("Started datasource {0} connected to {1}", dataSourceName,
                 agroalConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcUrl());
 
@@ -121,6 +121,25 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                AgroalPoolMetricsListener listener = AgroalPoolMetricsListener.get(dataSourceName);
+                if (listener != null) {
+                    listener.setAcquisitionTimer(metricsFactory.builder("agroal.acquisition.time")
+                            .description("Time an application waited to acquire a connection.")
+                            .tag("datasource", tagValue)
+                            .buildTimer());
+                    listener.setUsageTimer(metricsFactory.builder("agroal.usage.time")
+                            .description("Time a connection was in use, from acquisition to return to the pool.")
+                            .tag("datasource", tagValue)
+                            .buildTimer());
+                    if (listener.isLeakDetectionEnabled()) {
+                        metricsFactory.builder("agroal.leak.candidates.count")
+                                .description(
+                                        "Number of connections in use for longer than the leak detection interval.")
+                                .tag("datasource", tagValue)
+                                .buildGauge(listener::leakCandidatesCount);
+                    }
+                }
             }
         };
     }
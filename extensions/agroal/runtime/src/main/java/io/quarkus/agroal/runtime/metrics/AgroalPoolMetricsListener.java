@@ -0,0 +1,106 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.agroal.api.AgroalDataSourceListener;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Collects pool metrics that {@link io.agroal.api.AgroalDataSourceMetrics} does not provide:
+ * the distribution of connection acquisition and usage times, and connections that are currently leak candidates.
+ * <p>
+ * Registered on datasources that have metrics enabled; timers are set once a {@link MetricsFactory} is available.
+ */
+public final class AgroalPoolMetricsListener implements AgroalDataSourceListener {
+
+    private static final Map<String, AgroalPoolMetricsListener> LISTENERS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<long[]> ACQUISITION_START = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final long leakTimeoutNanos;
+    private final Map<Connection, Long> acquisitionTimes = new ConcurrentHashMap<>();
+    private volatile MetricsFactory.TimeRecorder acquisitionTimer;
+    private volatile MetricsFactory.TimeRecorder usageTimer;
+
+    private AgroalPoolMetricsListener(Duration leakTimeout) {
+        this.leakTimeoutNanos = leakTimeout.toNanos();
+    }
+
+    /**
+     * Creates the listener for the given datasource, replacing any previous one.
+     *
+     * @param leakTimeout The duration after which an acquired connection is considered a leak candidate,
+     *        or {@link Duration#ZERO} if leak detection is disabled.
+     */
+    public static AgroalPoolMetricsListener create(String dataSourceName, Duration leakTimeout) {
+        AgroalPoolMetricsListener listener = new AgroalPoolMetricsListener(leakTimeout);
+        LISTENERS.put(dataSourceName, listener);
+        return listener;
+    }
+
+    static AgroalPoolMetricsListener get(String dataSourceName) {
+        return LISTENERS.get(dataSourceName);
+    }
+
+    boolean isLeakDetectionEnabled() {
+        return leakTimeoutNanos > 0;
+    }
+
+    void setAcquisitionTimer(MetricsFactory.TimeRecorder acquisitionTimer) {
+        this.acquisitionTimer = acquisitionTimer;
+    }
+
+    void setUsageTimer(MetricsFactory.TimeRecorder usageTimer) {
+        this.usageTimer = usageTimer;
+    }
+
+    /**
+     * @return The number of connections that have been acquired for longer than the leak detection interval
+     *         and not returned yet.
+     */
+    long leakCandidatesCount() {
+        long threshold = System.nanoTime() - leakTimeoutNanos;
+        long count = 0;
+        for (Long acquisitionTime : acquisitionTimes.values()) {
+            if (acquisitionTime - threshold < 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        ACQUISITION_START.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        long now = System.nanoTime();
+        long[] start = ACQUISITION_START.get();
+        MetricsFactory.TimeRecorder timer = acquisitionTimer;
+        if (timer != null && start[0] != 0) {
+            timer.update(now - start[0], TimeUnit.NANOSECONDS);
+        }
+        start[0] = 0;
+        acquisitionTimes.put(connection, now);
+    }
+
+    @Override
+    public void onConnectionReturn(Connection connection) {
+        Long acquisitionTime = acquisitionTimes.remove(connection);
+        MetricsFactory.TimeRecorder timer = usageTimer;
+        if (timer != null && acquisitionTime != null) {
+            timer.update(System.nanoTime() - acquisitionTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onConnectionDestroy(Connection connection) {
+        acquisitionTimes.remove(connection);
+    }
+}
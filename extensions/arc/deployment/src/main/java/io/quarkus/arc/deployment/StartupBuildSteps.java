@@ -47,6 +47,7 @@
 import io.quarkus.gizmo.TryBlock;
 import io.quarkus.runtime.Startup;
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.util.StartupTimeline;
 
 public class StartupBuildSteps {
 
@@ -64,6 +65,10 @@ public class StartupBuildSteps {
             "create", Object.class, CreationalContext.class);
     static final MethodDescriptor CONTEXTUAL_DESTROY = MethodDescriptor.ofMethod(Contextual.class,
             "destroy", void.class, Object.class, CreationalContext.class);
+    static final MethodDescriptor STARTUP_TIMELINE_START = MethodDescriptor.ofMethod(StartupTimeline.class, "start",
+            long.class);
+    static final MethodDescriptor STARTUP_TIMELINE_RECORD = MethodDescriptor.ofMethod(StartupTimeline.class, "record",
+            void.class, String.class, String.class, long.class);
 
     private static final Logger LOG = Logger.getLogger(StartupBuildSteps.class);
 
@@ -176,6 +181,7 @@ private void registerStartupObserver(ObserverRegistrationPhaseBuildItem observer
         configurator.id(id);
         configurator.priority(priority);
         configurator.notify(mc -> {
+            ResultHandle start = mc.invokeStaticMethod(STARTUP_TIMELINE_START);
             // InjectableBean<Foo> bean = Arc.container().bean("bflmpsvz");
             ResultHandle containerHandle = mc.invokeStaticMethod(ARC_CONTAINER);
             ResultHandle beanHandle = mc.invokeInterfaceMethod(ARC_CONTAINER_BEAN, containerHandle,
@@ -234,6 +240,10 @@ private void registerStartupObserver(ObserverRegistrationPhaseBuildItem observer
                     mc.invokeInterfaceMethod(CLIENT_PROXY_CONTEXTUAL_INSTANCE, proxyHandle);
                 }
             }
+            mc.invokeStaticMethod(STARTUP_TIMELINE_RECORD, mc.load(StartupTimeline.STARTUP_BEAN),
+                    mc.load(startupMethod != null ? bean.getBeanClass() + "#" + startupMethod.name()
+                            : bean.getBeanClass().toString()),
+                    start);
             mc.returnVoid();
         });
         configurator.done();
@@ -193,7 +193,7 @@ private void buildGrpcServer(Vertx vertx, GrpcServerConfiguration configuration,
         for (GrpcServiceDefinition service : toBeRegistered) {
             ServerServiceDefinition serviceDefinition = serviceWithInterceptors(
                     vertx, grpcContainer, blockingMethodsPerService, virtualMethodsPerService, compressionInterceptor,
-                    globalInterceptors, service,
+                    globalInterceptors, service, configuration.blockingBatchSize(),
                     launchMode == LaunchMode.DEVELOPMENT);
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             GrpcServiceBridge bridge = GrpcServiceBridge.bridge(serviceDefinition);
@@ -510,7 +510,7 @@ private void devModeReload(GrpcContainer grpcContainer, Vertx vertx, GrpcServerC
         for (GrpcServiceDefinition service : services) {
             servicesWithInterceptors.add(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService, virtualMethodsPerService,
-                            compressionInterceptor, globalInterceptors, service, true));
+                            compressionInterceptor, globalInterceptors, service, configuration.blockingBatchSize(), true));
         }
 
         // add after actual services, so we don't inspect them for interceptors, etc
@@ -605,7 +605,8 @@ private Map.Entry<Integer, Server> buildServer(Vertx vertx, GrpcServerConfigurat
             builder.addService(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService,
                             virtualMethodsPerService,
-                            compressionInterceptor, globalInterceptors, service, launchMode == LaunchMode.DEVELOPMENT));
+                            compressionInterceptor, globalInterceptors, service, configuration.blockingBatchSize(),
+                            launchMode == LaunchMode.DEVELOPMENT));
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             definitions.add(service.definition);
         }
@@ -647,7 +648,7 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
             Map<String, List<String>> virtualMethodsPerService,
             CompressionInterceptor compressionInterceptor,
             List<ServerInterceptor> globalInterceptors,
-            GrpcServiceDefinition service, boolean devMode) {
+            GrpcServiceDefinition service, int blockingBatchSize, boolean devMode) {
         List<ServerInterceptor> interceptors = new ArrayList<>();
         if (compressionInterceptor != null) {
             interceptors.add(compressionInterceptor);
@@ -662,7 +663,7 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
             if (list != null || virtuals != null) {
                 interceptors
                         .add(new BlockingServerInterceptor(vertx, list, virtuals,
-                                VirtualThreadsRecorder.getCurrent(), devMode));
+                                VirtualThreadsRecorder.getCurrent(), blockingBatchSize, devMode));
             }
         }
         interceptors.sort(Interceptors.INTERCEPTOR_COMPARATOR);
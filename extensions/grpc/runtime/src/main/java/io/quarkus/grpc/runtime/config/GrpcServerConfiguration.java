@@ -117,6 +117,15 @@ default boolean isPlainTextEnabled() {
     @WithDefault("1")
     int instances();
 
+    /**
+     * Maximum number of incoming events, such as the messages of a client-streaming call, processed in a single dispatch
+     * to a worker thread or a virtual thread, for methods annotated with `@Blocking` or `@RunOnVirtualThread`.
+     * Events received while the previous ones are being processed are drained in batches of this size,
+     * instead of being dispatched one by one.
+     */
+    @WithDefault("64")
+    int blockingBatchSize();
+
     /**
      * Configures the netty server settings.
      */
@@ -1,5 +1,6 @@
 package io.quarkus.grpc.runtime.supports.blocking;
 
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 
@@ -15,17 +16,24 @@
     private final InjectableContext.ContextState state;
     private final ManagedContext requestContext;
     private final Object lock;
+    private final Queue<Consumer<ServerCall.Listener<ReqT>>> pending;
+    private final int maxBatchSize;
 
+    /**
+     * @param pending the events received after {@code consumer}, drained by this handler up to {@code maxBatchSize} events
+     */
     public BlockingExecutionHandler(Consumer<ServerCall.Listener<ReqT>> consumer, Context grpcContext,
             ServerCall.Listener<ReqT> delegate, InjectableContext.ContextState state,
             ManagedContext requestContext,
-            Object lock) {
+            Object lock, Queue<Consumer<ServerCall.Listener<ReqT>>> pending, int maxBatchSize) {
         this.consumer = consumer;
         this.grpcContext = grpcContext;
         this.delegate = delegate;
         this.state = state;
         this.requestContext = requestContext;
         this.lock = lock;
+        this.pending = pending;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Override
@@ -41,6 +49,13 @@ public Void call() {
                 requestContext.activate(state);
                 try {
                     consumer.accept(delegate);
+                    // Process the events received in the meantime without dispatching each of them to a new thread
+                    int processed = 1;
+                    Consumer<ServerCall.Listener<ReqT>> next;
+                    while (processed < maxBatchSize && (next = pending.poll()) != null) {
+                        next.accept(delegate);
+                        processed++;
+                    }
                 } finally {
                     requestContext.deactivate();
                 }
@@ -44,10 +44,21 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
     private final Map<String, Boolean> virtualCache = new ConcurrentHashMap<>();
     private final boolean devMode;
     private final Executor virtualThreadExecutor;
+    private final int maxBatchSize;
 
     public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, List<String> virtualMethods,
             Executor virtualThreadExecutor, boolean devMode) {
+        this(vertx, blockingMethods, virtualMethods, virtualThreadExecutor, 1, devMode);
+    }
+
+    /**
+     * @param maxBatchSize the maximum number of incoming events of a call processed in a single dispatch to a worker
+     *        or virtual thread
+     */
+    public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, List<String> virtualMethods,
+            Executor virtualThreadExecutor, int maxBatchSize, boolean devMode) {
         this.vertx = vertx;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
         this.blockingMethods = new HashSet<>();
         this.virtualMethods = new HashSet<>();
         this.devMode = devMode;
@@ -196,7 +207,7 @@ private void scheduleOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
         private void executeBlockingWithRequestContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
             final Context grpcContext = Context.current();
             Callable<Void> blockingHandler = new BlockingExecutionHandler<>(consumer, grpcContext, delegate,
-                    requestContextState, getRequestContext(), this);
+                    requestContextState, getRequestContext(), this, incomingEvents, maxBatchSize);
 
             if (!isExecutable()) {
                 log.warn("Not executable, already shutdown? Ignoring execution ...");
@@ -292,7 +303,7 @@ private void scheduleOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
         private void executeVirtualWithRequestContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
             final Context grpcContext = Context.current();
             Callable<Void> blockingHandler = new BlockingExecutionHandler<>(consumer, grpcContext, delegate,
-                    requestContextState, getRequestContext(), this);
+                    requestContextState, getRequestContext(), this, incomingEvents, maxBatchSize);
             if (devMode) {
                 blockingHandler = new DevModeBlockingExecutionHandler(Thread.currentThread().getContextClassLoader(),
                         blockingHandler);
@@ -4,7 +4,9 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,7 @@ class BlockingServerInterceptorTest {
     public static final Context.Key<String> USERNAME = Context.key("username");
 
     BlockingServerInterceptor blockingServerInterceptor;
+    BlockingServerInterceptor batchingServerInterceptor;
     Vertx vertx;
 
     @BeforeEach
@@ -41,6 +44,18 @@ protected boolean isExecutable() {
                 return true;
             }
 
+            @Override
+            protected ManagedContext getRequestContext() {
+                return requestContext;
+            }
+        };
+        batchingServerInterceptor = new BlockingServerInterceptor(vertx, Collections.singletonList("blocking"),
+                Collections.emptyList(), null, 16, false) {
+            @Override
+            protected boolean isExecutable() {
+                return true;
+            }
+
             @Override
             protected ManagedContext getRequestContext() {
                 return requestContext;
@@ -80,6 +95,46 @@ void testContextPropagation() throws Exception {
         }
     }
 
+    @Test
+    @Timeout(10)
+    void testMessagesAreProcessedInOrderWhenBatched() throws Exception {
+        final ServerCall serverCall = mock(ServerCall.class);
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/blocking");
+        when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+        List<Object> received = new ArrayList<>();
+        CountDownLatch halfClosed = new CountDownLatch(1);
+        ServerCallHandler serverCallHandler = (call, metadata) -> new ServerCall.Listener() {
+            @Override
+            public void onMessage(Object message) {
+                received.add(message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                halfClosed.countDown();
+            }
+        };
+
+        CountDownLatch sent = new CountDownLatch(1);
+        vertx.runOnContext(ignored -> {
+            ServerCall.Listener listener = batchingServerInterceptor.interceptCall(serverCall, null, serverCallHandler);
+            for (int i = 0; i < 1000; i++) {
+                listener.onMessage(i);
+            }
+            listener.onHalfClose();
+            sent.countDown();
+        });
+        sent.await();
+        halfClosed.await();
+
+        assertThat(received).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+    }
+
     static class BlockingServerCallHandler implements ServerCallHandler {
         String threadName;
         String contextUserName;
@@ -6,6 +6,7 @@
 
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.hibernate.orm.runtime.config.DatabaseOrmCompatibilityVersion;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -90,6 +91,12 @@ default Map<String, HibernateOrmConfigPersistenceUnit> namedPersistenceUnits() {
      */
     HibernateOrmConfigMetric metrics();
 
+    /**
+     * Configuration related to the detection of N+1 select problems.
+     */
+    @ConfigDocSection
+    HibernateOrmConfigNPlusOneDetection nPlusOneDetection();
+
     default boolean isAnyNonPersistenceXmlPropertySet() {
         // Do NOT include persistenceXml in here.
         return defaultPersistenceUnit().isAnyPropertySet() ||
@@ -97,7 +104,8 @@ default boolean isAnyNonPersistenceXmlPropertySet() {
                 log().isAnyPropertySet() ||
                 statistics().isPresent() ||
                 logSessionMetrics().isPresent() ||
-                metrics().isAnyPropertySet();
+                metrics().isAnyPropertySet() ||
+                nPlusOneDetection().isAnyPropertySet();
     }
 
     @ConfigGroup
@@ -177,8 +185,76 @@ interface HibernateOrmConfigMetric {
         @WithDefault("false")
         boolean enabled();
 
+        /**
+         * Configuration related to Quarkus instrumentation of Hibernate ORM.
+         */
+        HibernateOrmConfigMetricInstrumentation instrumentation();
+
+        default boolean isAnyPropertySet() {
+            return enabled() || instrumentation().isAnyPropertySet();
+        }
+    }
+
+    @ConfigGroup
+    interface HibernateOrmConfigMetricInstrumentation {
+
+        /**
+         * Whether Quarkus should collect its own, lightweight metrics for Hibernate ORM,
+         * if metrics are enabled.
+         *
+         * These metrics include per-query execution time and returned rows,
+         * flush durations and the number of entities managed per session.
+         *
+         * When enabled, statistics (`quarkus.hibernate-orm.statistics`) default to false:
+         * Hibernate ORM's own per-query statistics are not collected, as they are much more expensive.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of distinct queries to collect metrics for.
+         *
+         * Queries are grouped after replacing literals with `?`,
+         * and queries beyond that limit are reported under a single `<other>` query tag.
+         */
+        @WithDefault("100")
+        int maxQueries();
+
+        default boolean isAnyPropertySet() {
+            return enabled() || maxQueries() != 100;
+        }
+    }
+
+    @ConfigGroup
+    interface HibernateOrmConfigNPlusOneDetection {
+
+        /**
+         * Whether Quarkus should detect suspected N+1 select problems:
+         * the same lazy association being initialized,
+         * or the same SQL statement being executed,
+         * many times within a single session.
+         *
+         * Detections are logged as warnings, along with the code that triggered them and a suggested fix,
+         * counted in metrics if metrics are enabled, and listed in the Dev UI.
+         *
+         * Enabled by default in dev mode only.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * How many times the same association must be initialized lazily,
+         * or the same statement must be executed,
+         * within a single session before it is reported.
+         */
+        @WithDefault("5")
+        int threshold();
+
+        default boolean isEnabled(LaunchMode launchMode) {
+            return enabled().orElse(launchMode == LaunchMode.DEVELOPMENT);
+        }
+
         default boolean isAnyPropertySet() {
-            return enabled();
+            return enabled().isPresent() || threshold() != 5;
         }
     }
 
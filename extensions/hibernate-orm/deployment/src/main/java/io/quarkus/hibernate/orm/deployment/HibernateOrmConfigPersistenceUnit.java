@@ -463,6 +463,21 @@ enum NullOrdering {
             LAST
         }
 
+        enum NamedQueryCheck {
+            /**
+             * Named queries are checked during startup, which fails if a named query is invalid.
+             */
+            STARTUP,
+            /**
+             * Named queries are checked in the background after startup, and invalid ones are logged as errors.
+             */
+            BACKGROUND,
+            /**
+             * Named queries are not checked: they are only interpreted on first use.
+             */
+            NONE
+        }
+
         /**
          * The maximum size of the query plan cache.
          * see #{@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE}
@@ -486,10 +501,25 @@ enum NullOrdering {
         @WithDefault("true")
         boolean inClauseParameterPadding();
 
+        /**
+         * When to check named queries.
+         *
+         * Checking named queries involves interpreting each of them,
+         * which can take a significant part of startup time for applications with many named queries.
+         * When checked, named queries are also cached in the query plan cache, so they are fast on first use.
+         *
+         * Valid values are: `startup`, `background`, `none`.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("startup")
+        NamedQueryCheck namedQueryCheck();
+
         default boolean isAnyPropertySet() {
             return queryPlanCacheMaxSize() != DEFAULT_QUERY_PLAN_CACHE_MAX_SIZE
                     || defaultNullOrdering() != NullOrdering.NONE
-                    || !inClauseParameterPadding();
+                    || !inClauseParameterPadding()
+                    || namedQueryCheck() != NamedQueryCheck.STARTUP;
         }
     }
 
@@ -112,6 +112,7 @@
 import io.quarkus.deployment.util.IoUtil;
 import io.quarkus.deployment.util.ServiceUtil;
 import io.quarkus.hibernate.orm.PersistenceUnit;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitQuery.NamedQueryCheck;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.IdentifierQuotingStrategy;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationRuntimeConfiguredBuildItem;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationStaticConfiguredBuildItem;
@@ -130,7 +131,11 @@
 import io.quarkus.hibernate.orm.runtime.dev.HibernateOrmDevIntegrator;
 import io.quarkus.hibernate.orm.runtime.graal.RegisterServicesForReflectionFeature;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
+import io.quarkus.hibernate.orm.runtime.metrics.QuarkusStatistics;
+import io.quarkus.hibernate.orm.runtime.metrics.QuarkusStatisticsFactory;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetector;
+import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForNamedQueryValidation;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
 import io.quarkus.hibernate.orm.runtime.recording.RecordedConfig;
 import io.quarkus.hibernate.orm.runtime.schema.SchemaManagementIntegrator;
@@ -1015,6 +1020,12 @@ private static void producePersistenceUnitDescriptorFromConfig(
         descriptor.getProperties().setProperty(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING,
                 String.valueOf(persistenceUnitConfig.query().inClauseParameterPadding()));
 
+        NamedQueryCheck namedQueryCheck = persistenceUnitConfig.query().namedQueryCheck();
+        descriptor.getProperties().setProperty(AvailableSettings.QUERY_STARTUP_CHECKING,
+                String.valueOf(namedQueryCheck != NamedQueryCheck.NONE));
+        descriptor.getProperties().setProperty(SessionFactoryObserverForNamedQueryValidation.BACKGROUND_CHECK,
+                String.valueOf(namedQueryCheck == NamedQueryCheck.BACKGROUND));
+
         // Disable sequence validations: they are reportedly slow, and people already get the same validation from normal schema validation
         descriptor.getProperties().put(AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY,
                 SequenceMismatchStrategy.NONE);
@@ -1035,12 +1046,29 @@ private static void producePersistenceUnitDescriptorFromConfig(
         if (hibernateOrmConfig.metrics().enabled()
                 || (hibernateOrmConfig.statistics().isPresent() && hibernateOrmConfig.statistics().get())) {
             descriptor.getProperties().setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+            if (hibernateOrmConfig.metrics().enabled() && hibernateOrmConfig.metrics().instrumentation().enabled()) {
+                // Statistics callbacks are needed for instrumentation,
+                // but Hibernate ORM's own statistics are only collected on explicit request
+                descriptor.getProperties().setProperty(QuarkusStatisticsFactory.STATISTICS_FACTORY,
+                        QuarkusStatisticsFactory.class.getName());
+                descriptor.getProperties().setProperty(QuarkusStatistics.FULL_STATISTICS,
+                        String.valueOf(hibernateOrmConfig.statistics().orElse(false)));
+                descriptor.getProperties().setProperty(QuarkusStatistics.MAX_QUERIES,
+                        String.valueOf(hibernateOrmConfig.metrics().instrumentation().maxQueries()));
+            }
             //When statistics are enabled, the default in Hibernate ORM is to also log them after each
             // session; turn that off by default as it's very noisy:
             descriptor.getProperties().setProperty(AvailableSettings.LOG_SESSION_METRICS,
                     String.valueOf(hibernateOrmConfig.logSessionMetrics().orElse(false)));
         }
 
+        // N+1 select detection
+        if (hibernateOrmConfig.nPlusOneDetection().isEnabled(launchMode)) {
+            descriptor.getProperties().setProperty(NPlusOneDetector.ENABLED, "true");
+            descriptor.getProperties().setProperty(NPlusOneDetector.THRESHOLD,
+                    String.valueOf(hibernateOrmConfig.nPlusOneDetection().threshold()));
+        }
+
         // sql-load-scripts
         List<String> importFiles = getSqlLoadScript(persistenceUnitConfig.sqlLoadScript(), launchMode);
 
@@ -39,6 +39,11 @@ public CardPageBuildItem create() {
                 .componentLink("hibernate-orm-named-queries.js")
                 .icon("font-awesome-solid:circle-question")
                 .dynamicLabelJsonRPCMethodName("getNumberOfNamedQueries"));
+        card.addPage(Page.webComponentPageBuilder()
+                .title("N+1 Selects")
+                .componentLink("hibernate-orm-n-plus-one.js")
+                .icon("font-awesome-solid:triangle-exclamation")
+                .dynamicLabelJsonRPCMethodName("getNumberOfNPlusOneDetections"));
 
         return card;
     }
@@ -10,12 +10,14 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.BuildSteps;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfig;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmEnabled;
 import io.quarkus.hibernate.orm.deployment.PersistenceProviderSetUpBuildItem;
 import io.quarkus.hibernate.orm.runtime.metrics.HibernateMetricsRecorder;
+import io.quarkus.hibernate.orm.runtime.metrics.QuarkusStatisticsFactory;
 
 /**
  * Produce metrics for Hibernate ORM
@@ -33,10 +35,23 @@ public void metrics(HibernateOrmConfig config,
             Optional<MetricsCapabilityBuildItem> metricsConfiguration,
             BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
 
-        // IF Hibernate metrics and Hibernate statistics are enabled
+        // IF Hibernate metrics and Hibernate statistics (or Quarkus instrumentation) are enabled
         // then define a consumer. It will only be invoked if metrics is enabled
-        if (config.metrics().enabled() && config.statistics().orElse(true) && metricsConfiguration.isPresent()) {
+        if (config.metrics().enabled()
+                && (config.statistics().orElse(true) || config.metrics().instrumentation().enabled())
+                && metricsConfiguration.isPresent()) {
             datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(metricsRecorder.consumeMetricsFactory()));
         }
     }
+
+    @BuildStep
+    public void instrumentation(HibernateOrmConfig config,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (config.metrics().enabled() && config.metrics().instrumentation().enabled()) {
+            // Instantiated by Hibernate ORM from its class name
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(QuarkusStatisticsFactory.class)
+                    .reason(getClass().getName())
+                    .build());
+        }
+    }
 }
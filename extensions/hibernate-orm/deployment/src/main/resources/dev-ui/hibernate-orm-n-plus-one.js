@@ -0,0 +1,97 @@
+import { QwcHotReloadElement, html, css} from 'qwc-hot-reload-element';
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/icon';
+import '@vaadin/button';
+import '@vaadin/grid';
+import '@vaadin/progress-bar';
+import { notifier } from 'notifier';
+
+export class HibernateOrmNPlusOneComponent extends QwcHotReloadElement {
+
+    static styles = css`
+        :host {
+            display: flex;
+            flex-direction: column;
+            padding-left: 10px;
+            padding-right: 10px;
+        }
+        .full-height {
+            height: 100%;
+            width: 100%;
+        }
+    `;
+
+    jsonRpc = new JsonRpc(this);
+
+    static properties = {
+        _detections: {state: true, type: Array}
+    }
+
+    constructor() {
+        super();
+        this._detections = null;
+    }
+
+    connectedCallback() {
+        super.connectedCallback();
+        this.hotReload();
+    }
+
+    hotReload(){
+        this.jsonRpc.getNPlusOneDetections().then(response => {
+            // Most recent first
+            this._detections = response.result.reverse();
+        }).catch(error => {
+            console.error("Failed to fetch N+1 select detections:", error);
+            this._detections = [];
+            notifier.showErrorMessage("Failed to fetch N+1 select detections: " + error, "bottom-start", 30);
+        });
+    }
+
+    render() {
+        if (this._detections) {
+            return this._renderDetections();
+        } else {
+            return html`<div style="color: var(--lumo-secondary-text-color);width: 95%;" >
+                            <div>Fetching N+1 select detections...</div>
+                            <vaadin-progress-bar indeterminate></vaadin-progress-bar>
+                        </div>`;
+        }
+    }
+
+    _renderDetections() {
+        if (this._detections.length == 0) {
+            return html`<p>No N+1 select problems were detected. <vaadin-button @click="${this.hotReload}" theme="small">Check again</vaadin-button></p>`
+        }
+        return html`
+                <vaadin-button @click="${this.hotReload}" theme="small">Refresh</vaadin-button>
+                <vaadin-grid .items="${this._detections}" class="datatable full-height" theme="no-border row-stripes wrap-cell-content">
+                    <vaadin-grid-column auto-width
+                                        header="Persistence Unit"
+                                        path="persistenceUnitName">
+                    </vaadin-grid-column>
+                    <vaadin-grid-column auto-width
+                                        header="Kind"
+                                        path="kind">
+                    </vaadin-grid-column>
+                    <vaadin-grid-column auto-width
+                                        header="Fetched"
+                                        path="subject">
+                    </vaadin-grid-column>
+                    <vaadin-grid-column auto-width
+                                        header="Count"
+                                        path="count">
+                    </vaadin-grid-column>
+                    <vaadin-grid-column auto-width
+                                        header="Call Site"
+                                        path="callSite">
+                    </vaadin-grid-column>
+                    <vaadin-grid-column auto-width
+                                        header="Suggestion"
+                                        path="suggestion">
+                    </vaadin-grid-column>
+                </vaadin-grid>`;
+    }
+
+}
+customElements.define('hibernate-orm-n-plus-one', HibernateOrmNPlusOneComponent);
@@ -0,0 +1,120 @@
+package io.quarkus.hibernate.orm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.transaction.Transactional;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.metrics.QuarkusStatistics;
+import io.quarkus.hibernate.orm.runtime.metrics.QueryMetrics;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Smoke test for metrics computed by Quarkus instrumentation of Hibernate ORM, without Hibernate statistics.
+ */
+public class HibernateInstrumentationMetricsTestCase {
+
+    private static final Tag PU_TAG = new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+
+    @RegisterExtension
+    static QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addAsResource("application-metrics-instrumentation.properties", "application.properties")
+            .addClasses(DummyEntity.class));
+
+    @Entity(name = "DummyEntity")
+    static class DummyEntity {
+
+        @Id
+        private Long number;
+
+        public Long getNumber() {
+            return number;
+        }
+
+        public void setNumber(Long number) {
+            this.number = number;
+        }
+    }
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    @Transactional
+    public void testMetrics() {
+        QuarkusStatistics statistics = (QuarkusStatistics) sessionFactory.getStatistics();
+        assertFalse(statistics.isFullStatistics());
+
+        DummyEntity entity = new DummyEntity();
+        entity.number = 12345L;
+        em.persist(entity);
+        em.flush();
+        em.createQuery("from DummyEntity e where e.number = 12345").getResultList();
+        em.createQuery("from DummyEntity e where e.number = 67890").getResultList();
+
+        assertEquals(2L, getCounterValueOrNull("hibernate.query.executions", PU_TAG));
+        assertEquals(1L, getCounterValueOrNull("hibernate.query.rows", PU_TAG,
+                new Tag("query", "from DummyEntity e where e.number = ?")));
+        // Hibernate ORM's per-query statistics are not collected
+        assertEquals(0, statistics.getQueries().length);
+
+        em.createQuery("select count(e) from DummyEntity e").getResultList();
+        em.createQuery("select max(e.number) from DummyEntity e").getResultList();
+        // Beyond max-queries, queries are grouped together
+        assertEquals(2, statistics.getQueryMetrics().getQueries().size());
+        assertEquals(1L, statistics.getQueryMetrics().getOther().getExecutionCount());
+        assertTrue(metricRegistry.getMetrics().keySet().stream()
+                .anyMatch(id -> id.getName().equals("hibernate.query.execution")
+                        && QueryMetrics.OTHER_QUERIES.equals(id.getTags().get("query"))));
+    }
+
+    @Test
+    public void testManagedEntitiesOfSessionWithoutFlush() {
+        QuarkusStatistics statistics = (QuarkusStatistics) sessionFactory.getStatistics();
+        QuarkusTransaction.requiringNew().run(() -> {
+            DummyEntity entity = new DummyEntity();
+            entity.number = 424242L;
+            em.persist(entity);
+        });
+
+        long sessions = statistics.getSessionsWithEntitiesCount();
+        long entities = statistics.getManagedEntitiesCount();
+        QuarkusTransaction.requiringNew().run(() -> {
+            em.unwrap(Session.class).setHibernateFlushMode(FlushMode.MANUAL);
+            em.find(DummyEntity.class, 424242L);
+        });
+        assertEquals(sessions + 1, statistics.getSessionsWithEntitiesCount());
+        assertEquals(entities + 1, statistics.getManagedEntitiesCount());
+    }
+
+    public Long getCounterValueOrNull(String metricName, Tag... tags) {
+        Counter metric = metricRegistry.getCounters().get(new MetricID(metricName, tags));
+        return metric != null ? metric.getCount() : null;
+    }
+
+}
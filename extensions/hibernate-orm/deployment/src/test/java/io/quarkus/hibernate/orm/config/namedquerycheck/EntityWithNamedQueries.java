@@ -0,0 +1,19 @@
+package io.quarkus.hibernate.orm.config.namedquerycheck;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+@Entity
+@NamedQuery(name = "valid", query = "from EntityWithNamedQueries")
+@NamedQuery(name = "invalid", query = "from EntityWithNamedQueries where doesNotExist = 1")
+public class EntityWithNamedQueries {
+
+    @Id
+    @GeneratedValue
+    public Long id;
+
+    public String name;
+
+}
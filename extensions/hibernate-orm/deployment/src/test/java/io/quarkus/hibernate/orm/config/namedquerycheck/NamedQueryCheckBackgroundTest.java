@@ -0,0 +1,51 @@
+package io.quarkus.hibernate.orm.config.namedquerycheck;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.UserTransaction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.TransactionTestUtils;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NamedQueryCheckBackgroundTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(TransactionTestUtils.class)
+                    .addClass(EntityWithNamedQueries.class)
+                    .addAsResource("application.properties"))
+            .overrideConfigKey("quarkus.hibernate-orm.query.named-query-check", "background")
+            // The invalid named query must be reported, but must not prevent startup
+            .setLogRecordPredicate(record -> record.getLoggerName().contains("NamedQueryValidation"))
+            .assertLogRecords(records -> assertThat(records)
+                    .anySatisfy(record -> assertThat(record.getMessage()).contains("named query check failed")));
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void test() throws InterruptedException {
+        // Failures are only reported by a check which completes before the application stops
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("Hibernate ORM named query check")) {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            }
+        }
+        TransactionTestUtils.inTransaction(transaction, () -> {
+            assertThat(entityManager.createNamedQuery("valid", EntityWithNamedQueries.class).getResultList())
+                    .isEmpty();
+        });
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.hibernate.orm.nplusone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.transaction.UserTransaction;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.batch.MainEntity;
+import io.quarkus.hibernate.orm.batch.OtherEntity;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetection;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NPlusOneDetectionTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(MainEntity.class)
+                    .addClass(OtherEntity.class)
+                    .addAsResource("application.properties"))
+            .overrideConfigKey("quarkus.hibernate-orm.fetch.batch-size", "-1")
+            .overrideConfigKey("quarkus.hibernate-orm.n-plus-one-detection.enabled", "true")
+            .overrideConfigKey("quarkus.hibernate-orm.n-plus-one-detection.threshold", "5");
+
+    @Inject
+    Session session;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testLazyCollectionInitialization() throws Exception {
+        NPlusOneDetector detector = NPlusOneDetector.forPersistenceUnit(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)
+                .orElseThrow();
+
+        transaction.begin();
+        for (int i = 0; i < 10; i++) {
+            MainEntity mainEntity = new MainEntity();
+            for (int j = 0; j < 3; j++) {
+                OtherEntity otherEntity = new OtherEntity();
+                session.persist(otherEntity);
+                mainEntity.others.add(otherEntity);
+            }
+            session.persist(mainEntity);
+        }
+        transaction.commit();
+        // Repeated inserts are not N+1 selects
+        assertThat(detector.getRecentDetections()).isEmpty();
+
+        transaction.begin();
+        // Below the threshold
+        List<MainEntity> entities = session.createQuery("from MainEntity", MainEntity.class).setMaxResults(3).list();
+        entities.forEach(e -> e.others.size());
+        transaction.commit();
+        assertThat(detector.getRecentDetections()).isEmpty();
+
+        transaction.begin();
+        entities = session.createQuery("from MainEntity", MainEntity.class).list();
+        entities.forEach(e -> e.others.size());
+        transaction.commit();
+
+        assertThat(detector.getDetectionCount(NPlusOneDetection.Kind.LAZY_COLLECTION)).isEqualTo(1L);
+        // Statements executed by lazy initialization are reported as such, not as repeated queries
+        assertThat(detector.getDetectionCount(NPlusOneDetection.Kind.REPEATED_QUERY)).isZero();
+        assertThat(detector.getRecentDetections()).singleElement().satisfies(detection -> {
+            assertThat(detection.getSubject()).isEqualTo(MainEntity.class.getName() + ".others");
+            assertThat(detection.getCount()).isEqualTo(10);
+            assertThat(detection.getCallSite()).contains(NPlusOneDetectionTest.class.getName());
+            assertThat(detection.getSuggestion()).contains("@BatchSize");
+        });
+    }
+
+}
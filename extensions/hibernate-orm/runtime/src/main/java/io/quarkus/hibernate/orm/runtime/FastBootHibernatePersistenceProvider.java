@@ -35,6 +35,7 @@
 import io.quarkus.hibernate.orm.runtime.config.DatabaseOrmCompatibilityVersion;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationRuntimeDescriptor;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationRuntimeInitListener;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetector;
 import io.quarkus.hibernate.orm.runtime.recording.PrevalidatedQuarkusMetadata;
 import io.quarkus.hibernate.orm.runtime.recording.RecordedState;
 
@@ -212,6 +213,8 @@ private RuntimeSettings buildRuntimeSettings(String persistenceUnitName, Recorde
         // Inject runtime configuration if the persistence unit was defined by Quarkus configuration
         if (!recordedState.isFromPersistenceXml()) {
             injectRuntimeConfiguration(persistenceUnitConfig, runtimeSettingsBuilder);
+            runtimeSettingsBuilder.put(NPlusOneDetector.SAMPLE_RATIO,
+                    String.valueOf(hibernateOrmRuntimeConfig.nPlusOneDetectionSampleRatio()));
         }
 
         for (HibernateOrmIntegrationRuntimeDescriptor descriptor : integrationRuntimeDescriptors
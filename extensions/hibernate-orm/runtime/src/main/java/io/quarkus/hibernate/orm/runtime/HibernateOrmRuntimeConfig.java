@@ -38,6 +38,16 @@ public interface HibernateOrmRuntimeConfig {
     @WithDefault("true")
     boolean requestScopedSessionEnabled();
 
+    /**
+     * The ratio of sessions to track for N+1 select detection, between `0.0` and `1.0`.
+     *
+     * Tracking a session has a small cost; use a low ratio when enabling detection in production.
+     * Only used when `quarkus.hibernate-orm.n-plus-one-detection.enabled` is `true`.
+     */
+    @WithName("n-plus-one-detection.sample-ratio")
+    @WithDefault("1.0")
+    double nPlusOneDetectionSampleRatio();
+
     static String extensionPropertyKey(String radical) {
         return "quarkus.hibernate-orm." + radical;
     }
@@ -9,6 +9,9 @@
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 
+import io.quarkus.hibernate.orm.runtime.metrics.QuarkusStatistics;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetector;
+
 /**
  * Bean that is used to manage request scoped sessions
  */
@@ -18,7 +21,8 @@ public class RequestScopedSessionHolder {
     private final Map<String, Session> sessions = new HashMap<>();
 
     public Session getOrCreateSession(String name, SessionFactory factory) {
-        return sessions.computeIfAbsent(name, (n) -> factory.openSession());
+        return sessions.computeIfAbsent(name,
+                (n) -> NPlusOneDetector.instrument(factory, QuarkusStatistics.instrument(factory, factory.openSession())));
     }
 
     @PreDestroy
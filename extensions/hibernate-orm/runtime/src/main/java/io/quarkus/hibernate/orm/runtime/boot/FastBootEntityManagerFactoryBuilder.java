@@ -38,6 +38,7 @@
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.hibernate.orm.runtime.RuntimeSettings;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetector;
 import io.quarkus.hibernate.orm.runtime.observers.QuarkusSessionFactoryObserverForDbVersionCheck;
 import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForNamedQueryValidation;
 import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForSchemaExport;
@@ -211,8 +212,16 @@ protected void populate(String persistenceUnitName, SessionFactoryOptionsBuilder
 
         InjectableInstance<StatementInspector> statementInspectorInstance = PersistenceUnitUtil
                 .singleExtensionInstanceForPersistenceUnit(StatementInspector.class, persistenceUnitName);
-        if (!statementInspectorInstance.isUnsatisfied()) {
-            options.applyStatementInspector(statementInspectorInstance.get());
+        StatementInspector statementInspector = statementInspectorInstance.isUnsatisfied() ? null
+                : statementInspectorInstance.get();
+        NPlusOneDetector nPlusOneDetector = NPlusOneDetector.create(persistenceUnitName, runtimeSettings,
+                statementInspector);
+        if (nPlusOneDetector != null) {
+            // The detector delegates to the application's statement inspector, if any
+            options.applyStatementInspector(nPlusOneDetector);
+            options.addSessionFactoryObservers(nPlusOneDetector);
+        } else if (statementInspector != null) {
+            options.applyStatementInspector(statementInspector);
         }
 
         InjectableInstance<FormatMapper> jsonFormatMapper = PersistenceUnitUtil.singleExtensionInstanceForPersistenceUnit(
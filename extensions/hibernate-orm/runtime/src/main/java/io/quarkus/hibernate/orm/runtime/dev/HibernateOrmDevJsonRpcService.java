@@ -1,5 +1,10 @@
 package io.quarkus.hibernate.orm.runtime.dev;
 
+import java.util.List;
+
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetection;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetector;
+
 public class HibernateOrmDevJsonRpcService {
 
     public HibernateOrmDevInfo getInfo() {
@@ -18,4 +23,12 @@ public int getNumberOfNamedQueries() {
         return getInfo().getNumberOfNamedQueries();
     }
 
+    public List<NPlusOneDetection> getNPlusOneDetections() {
+        return NPlusOneDetector.getAllRecentDetections();
+    }
+
+    public int getNumberOfNPlusOneDetections() {
+        return getNPlusOneDetections().size();
+    }
+
 }
@@ -1,6 +1,7 @@
 package io.quarkus.hibernate.orm.runtime.metrics;
 
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -11,11 +12,13 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetection;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetector;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
 /**
- * This recorder is invoked IFF Hibernate metrics and Hibernate statistics are enabled
+ * This recorder is invoked IFF Hibernate metrics and either Hibernate statistics or Quarkus instrumentation are enabled
  */
 @Recorder
 public class HibernateMetricsRecorder {
@@ -31,6 +34,11 @@ public void accept(MetricsFactory metricsFactory) {
                     SessionFactory sessionFactory = jpaConfig.getEntityManagerFactory(puName).unwrap(SessionFactory.class);
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, puName, sessionFactory.getStatistics());
+                        if (sessionFactory.getStatistics() instanceof QuarkusStatistics quarkusStatistics) {
+                            registerInstrumentationMetrics(metricsFactory, puName, quarkusStatistics);
+                        }
+                        NPlusOneDetector.forPersistenceUnit(puName)
+                                .ifPresent(detector -> registerNPlusOneDetectionMetrics(metricsFactory, puName, detector));
                     }
                 }
             }
@@ -203,6 +211,50 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register metrics collected by Quarkus instrumentation
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param statistics Quarkus statistics for persistence unit
+     */
+    void registerInstrumentationMetrics(MetricsFactory metricsFactory, String puName, QuarkusStatistics statistics) {
+        statistics.setFlushTimer(createBuilder(metricsFactory, "hibernate.flush.duration",
+                "Duration of flush operations",
+                puName).buildTimer());
+
+        // Sessions
+        createStatisticsCounter(metricsFactory, "hibernate.sessions.entities",
+                "Total number of entities managed by sessions, as observed when flushing",
+                puName, statistics, QuarkusStatistics::getManagedEntitiesCount);
+        createStatisticsCounter(metricsFactory, "hibernate.sessions.with.entities",
+                "Number of sessions that managed at least one entity",
+                puName, statistics, QuarkusStatistics::getSessionsWithEntitiesCount);
+        createBuilder(metricsFactory, "hibernate.sessions.entities.max",
+                "Maximum number of entities managed by a single session",
+                puName).buildGauge(statistics, QuarkusStatistics::getMaxManagedEntitiesPerSession);
+
+        // Per-query metrics, registered as queries get executed
+        statistics.getQueryMetrics().onNewQuery(query -> {
+            query.setTimer(createBuilder(metricsFactory, "hibernate.query.execution",
+                    "Execution time of the query",
+                    puName, "query", query.getQuery()).buildTimer());
+            createStatisticsCounter(metricsFactory, "hibernate.query.rows",
+                    "Number of rows returned by the query",
+                    puName, query, QueryMetrics.QueryStatistics::getRowCount,
+                    "query", query.getQuery());
+        });
+    }
+
+    void registerNPlusOneDetectionMetrics(MetricsFactory metricsFactory, String puName, NPlusOneDetector detector) {
+        for (NPlusOneDetection.Kind kind : NPlusOneDetection.Kind.values()) {
+            createStatisticsCounter(metricsFactory, "hibernate.n.plus.one",
+                    "Number of suspected N+1 select problems detected in sampled sessions",
+                    puName, detector, d -> d.getDetectionCount(kind),
+                    "kind", kind.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
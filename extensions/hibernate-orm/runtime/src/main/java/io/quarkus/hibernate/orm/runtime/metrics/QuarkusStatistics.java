@@ -0,0 +1,173 @@
+package io.quarkus.hibernate.orm.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Statistics implementation used when Quarkus instrumentation of Hibernate ORM is enabled.
+ * <p>
+ * Query executions are recorded in a bounded {@link QueryMetrics} instead of Hibernate ORM's per-query statistics,
+ * query plan cache and compilation events only update the global counters, and per-session metrics (flush durations,
+ * managed entities) are collected through a {@link SessionEventListener}.
+ * Unless full statistics were requested explicitly, Hibernate ORM's own per-query statistics are not collected.
+ */
+public class QuarkusStatistics extends StatisticsImpl {
+
+    /**
+     * Hibernate ORM setting: whether Hibernate ORM's full statistics should be collected as well.
+     */
+    public static final String FULL_STATISTICS = "quarkus.hibernate-orm.statistics.full";
+    /**
+     * Hibernate ORM setting: the maximum number of distinct queries to collect metrics for.
+     */
+    public static final String MAX_QUERIES = "quarkus.hibernate-orm.metrics.instrumentation.max-queries";
+
+    private final boolean fullStatistics;
+    private final QueryMetrics queryMetrics;
+
+    private final LongAdder queryExecutions = new LongAdder();
+    private final LongAccumulator queryExecutionMaxTime = new LongAccumulator(Math::max, 0);
+    private final LongAdder sessionsWithEntities = new LongAdder();
+    private final LongAdder managedEntities = new LongAdder();
+    private final LongAccumulator maxManagedEntities = new LongAccumulator(Math::max, 0);
+    private volatile MetricsFactory.TimeRecorder flushTimer;
+
+    public QuarkusStatistics(SessionFactoryImplementor sessionFactory, boolean fullStatistics, int maxQueries) {
+        super(sessionFactory);
+        this.fullStatistics = fullStatistics;
+        this.queryMetrics = new QueryMetrics(maxQueries);
+    }
+
+    public boolean isFullStatistics() {
+        return fullStatistics;
+    }
+
+    public QueryMetrics getQueryMetrics() {
+        return queryMetrics;
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        queryExecutions.increment();
+        queryExecutionMaxTime.accumulate(time);
+        queryMetrics.recordExecution(hql, rows, time);
+        if (fullStatistics) {
+            super.queryExecuted(hql, rows, time);
+        }
+    }
+
+    // Hibernate ORM only updates its per-query statistics for a non-null query string
+
+    @Override
+    public void queryPlanCacheHit(String hql) {
+        super.queryPlanCacheHit(fullStatistics ? hql : null);
+    }
+
+    @Override
+    public void queryPlanCacheMiss(String hql) {
+        super.queryPlanCacheMiss(fullStatistics ? hql : null);
+    }
+
+    @Override
+    public void queryCompiled(String hql, long microseconds) {
+        super.queryCompiled(fullStatistics ? hql : null, microseconds);
+    }
+
+    @Override
+    public long getQueryExecutionCount() {
+        return fullStatistics ? super.getQueryExecutionCount() : queryExecutions.sum();
+    }
+
+    @Override
+    public long getQueryExecutionMaxTime() {
+        return fullStatistics ? super.getQueryExecutionMaxTime() : queryExecutionMaxTime.get();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        queryExecutions.reset();
+        queryExecutionMaxTime.reset();
+    }
+
+    public long getSessionsWithEntitiesCount() {
+        return sessionsWithEntities.sum();
+    }
+
+    public long getManagedEntitiesCount() {
+        return managedEntities.sum();
+    }
+
+    public long getMaxManagedEntitiesPerSession() {
+        return maxManagedEntities.get();
+    }
+
+    void setFlushTimer(MetricsFactory.TimeRecorder flushTimer) {
+        this.flushTimer = flushTimer;
+    }
+
+    /**
+     * Registers a listener collecting per-session metrics on the given session,
+     * if the session factory uses {@link QuarkusStatistics}.
+     *
+     * @return The given session.
+     */
+    public static Session instrument(SessionFactory sessionFactory, Session session) {
+        if (sessionFactory.getStatistics() instanceof QuarkusStatistics statistics) {
+            session.addEventListeners(statistics.new SessionMetricsListener(session.unwrap(SessionImplementor.class)));
+        }
+        return session;
+    }
+
+    private final class SessionMetricsListener implements SessionEventListener {
+
+        private final SessionImplementor session;
+        private long flushStart;
+        private int maxEntities;
+
+        SessionMetricsListener(SessionImplementor session) {
+            this.session = session;
+        }
+
+        @Override
+        public void flushStart() {
+            flushStart = System.nanoTime();
+        }
+
+        @Override
+        public void flushEnd(int numberOfEntities, int numberOfCollections) {
+            MetricsFactory.TimeRecorder timer = flushTimer;
+            if (timer != null) {
+                timer.update(System.nanoTime() - flushStart, TimeUnit.NANOSECONDS);
+            }
+            // Entities processed by a full flush are the entities managed by the session
+            if (numberOfEntities > maxEntities) {
+                maxEntities = numberOfEntities;
+            }
+        }
+
+        @Override
+        public void end() {
+            // Sessions which never flush, e.g. read-only ones, are only sampled here, before their entities are cleared
+            int entities = session.getPersistenceContextInternal().getNumberOfManagedEntities();
+            if (entities > maxEntities) {
+                maxEntities = entities;
+            }
+            if (maxEntities > 0) {
+                sessionsWithEntities.increment();
+                managedEntities.add(maxEntities);
+                maxManagedEntities.accumulate(maxEntities);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.quarkus.hibernate.orm.runtime.metrics;
+
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Creates {@link QuarkusStatistics} when Quarkus instrumentation of Hibernate ORM is enabled.
+ */
+public class QuarkusStatisticsFactory implements StatisticsFactory {
+
+    /**
+     * The Hibernate ORM setting used to select a statistics factory, see {@code StatisticsInitiator}.
+     */
+    public static final String STATISTICS_FACTORY = "hibernate.stats.factory";
+
+    private static final int DEFAULT_MAX_QUERIES = 100;
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        Map<String, Object> properties = sessionFactory.getProperties();
+        boolean fullStatistics = Boolean.parseBoolean(String.valueOf(properties.get(QuarkusStatistics.FULL_STATISTICS)));
+        Object maxQueries = properties.get(QuarkusStatistics.MAX_QUERIES);
+        return new QuarkusStatistics(sessionFactory, fullStatistics,
+                maxQueries == null ? DEFAULT_MAX_QUERIES : Integer.parseInt(maxQueries.toString()));
+    }
+}
@@ -0,0 +1,195 @@
+package io.quarkus.hibernate.orm.runtime.metrics;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Per-query execution metrics with a bounded number of distinct queries.
+ * <p>
+ * Queries are grouped by their normalized form (literals replaced with {@code ?}, whitespace collapsed).
+ * Once {@code maxQueries} distinct queries have been seen, any new query is accounted for
+ * in a single {@link #OTHER_QUERIES} bucket, so that memory usage and metric cardinality stay bounded.
+ */
+public final class QueryMetrics {
+
+    public static final String OTHER_QUERIES = "<other>";
+
+    private static final int MAX_QUERY_LENGTH = 500;
+
+    private final int maxQueries;
+    private final ConcurrentHashMap<String, QueryStatistics> byNormalizedQuery = new ConcurrentHashMap<>();
+    // Avoids normalizing the same query string over and over; bounded as well
+    private final ConcurrentHashMap<String, QueryStatistics> byQuery = new ConcurrentHashMap<>();
+    private final QueryStatistics other = new QueryStatistics(OTHER_QUERIES);
+
+    private volatile Consumer<QueryStatistics> onNewQuery;
+
+    public QueryMetrics(int maxQueries) {
+        this.maxQueries = maxQueries;
+    }
+
+    public void recordExecution(String query, long rows, long timeMs) {
+        QueryStatistics statistics = byQuery.get(query);
+        if (statistics == null) {
+            statistics = resolve(query);
+        }
+        statistics.record(rows, timeMs);
+    }
+
+    public Collection<QueryStatistics> getQueries() {
+        return byNormalizedQuery.values();
+    }
+
+    public QueryStatistics getOther() {
+        return other;
+    }
+
+    /**
+     * Registers a callback invoked for every query statistics object, existing or future,
+     * e.g. to register metrics for it.
+     */
+    void onNewQuery(Consumer<QueryStatistics> callback) {
+        this.onNewQuery = callback;
+        callback.accept(other);
+        byNormalizedQuery.values().forEach(callback);
+    }
+
+    private QueryStatistics resolve(String query) {
+        String normalized = normalize(query);
+        QueryStatistics statistics = byNormalizedQuery.get(normalized);
+        if (statistics == null) {
+            if (byNormalizedQuery.size() >= maxQueries) {
+                statistics = other;
+            } else {
+                QueryStatistics created = new QueryStatistics(normalized);
+                statistics = byNormalizedQuery.putIfAbsent(normalized, created);
+                if (statistics == null) {
+                    statistics = created;
+                    Consumer<QueryStatistics> callback = onNewQuery;
+                    if (callback != null) {
+                        callback.accept(created);
+                    }
+                }
+            }
+        }
+        if (byQuery.size() < maxQueries * 4) {
+            byQuery.putIfAbsent(query, statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Replaces string and numeric literals with {@code ?} and collapses whitespace,
+     * so that queries differing only by inlined values share the same metrics.
+     */
+    static String normalize(String query) {
+        int length = query.length();
+        StringBuilder builder = new StringBuilder(Math.min(length, MAX_QUERY_LENGTH));
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length && builder.length() < MAX_QUERY_LENGTH) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '\'') {
+                // String literal, '' being an escaped quote
+                i++;
+                while (i < length) {
+                    if (query.charAt(i) == '\'') {
+                        if (i + 1 < length && query.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                builder.append('?');
+                i++;
+            } else if (Character.isDigit(c) && !isIdentifierPart(builder)) {
+                while (i < length && (Character.isLetterOrDigit(query.charAt(i)) || query.charAt(i) == '.')) {
+                    i++;
+                }
+                builder.append('?');
+            } else {
+                builder.append(c);
+                i++;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isIdentifierPart(StringBuilder builder) {
+        if (builder.length() == 0) {
+            return false;
+        }
+        char previous = builder.charAt(builder.length() - 1);
+        // ?1 / :param1 are parameters, foo1 is an identifier
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '?' || previous == ':'
+                || previous == '$';
+    }
+
+    public static final class QueryStatistics {
+
+        private final String query;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalTimeMs = new LongAdder();
+        private final LongAccumulator maxTimeMs = new LongAccumulator(Math::max, 0);
+        private volatile MetricsFactory.TimeRecorder timer;
+
+        QueryStatistics(String query) {
+            this.query = query;
+        }
+
+        void record(long rowCount, long timeMs) {
+            executions.increment();
+            if (rowCount > 0) {
+                rows.add(rowCount);
+            }
+            totalTimeMs.add(timeMs);
+            maxTimeMs.accumulate(timeMs);
+            MetricsFactory.TimeRecorder recorder = timer;
+            if (recorder != null) {
+                recorder.update(timeMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        void setTimer(MetricsFactory.TimeRecorder timer) {
+            this.timer = timer;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public long getExecutionCount() {
+            return executions.sum();
+        }
+
+        public long getRowCount() {
+            return rows.sum();
+        }
+
+        public long getTotalTimeMs() {
+            return totalTimeMs.sum();
+        }
+
+        public long getMaxTimeMs() {
+            return maxTimeMs.get();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.quarkus.hibernate.orm.runtime.nplusone;
+
+import java.time.Instant;
+
+/**
+ * A suspected N+1 select problem, detected within a single session.
+ */
+public class NPlusOneDetection {
+
+    public enum Kind {
+        /**
+         * The same collection role was initialized lazily many times.
+         */
+        LAZY_COLLECTION,
+        /**
+         * Entity proxies of the same type were initialized lazily many times.
+         */
+        LAZY_ENTITY,
+        /**
+         * The same SQL statement was executed many times.
+         */
+        REPEATED_QUERY
+    }
+
+    private final String persistenceUnitName;
+    private final Kind kind;
+    private final String subject;
+    private final int count;
+    private final String callSite;
+    private final String suggestion;
+    private final Instant timestamp;
+
+    public NPlusOneDetection(String persistenceUnitName, Kind kind, String subject, int count, String callSite,
+            String suggestion) {
+        this.persistenceUnitName = persistenceUnitName;
+        this.kind = kind;
+        this.subject = subject;
+        this.count = count;
+        this.callSite = callSite;
+        this.suggestion = suggestion;
+        this.timestamp = Instant.now();
+    }
+
+    public String getPersistenceUnitName() {
+        return persistenceUnitName;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return The collection role, entity name or SQL statement, depending on the {@link #getKind() kind}.
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return The first application frame that triggered the problematic fetch, or {@code null} if unknown.
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    public String getSuggestion() {
+        return suggestion;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+}
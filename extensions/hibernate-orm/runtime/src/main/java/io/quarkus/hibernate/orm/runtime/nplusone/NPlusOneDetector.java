@@ -0,0 +1,384 @@
+package io.quarkus.hibernate.orm.runtime.nplusone;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.jboss.logging.Logger;
+
+import io.quarkus.hibernate.orm.runtime.RuntimeSettings;
+
+/**
+ * Detects suspected N+1 select problems: lazy initialization of the same association,
+ * or execution of the same SQL statement, many times within a single session.
+ * <p>
+ * Only a sample of sessions is tracked, so that detection can remain enabled in production.
+ * Detections are logged, counted per {@link NPlusOneDetection.Kind kind} for metrics,
+ * and the most recent ones are kept for the Dev UI.
+ */
+public final class NPlusOneDetector implements SessionFactoryObserver, StatementInspector {
+
+    private static final Logger LOG = Logger.getLogger(NPlusOneDetector.class);
+
+    /**
+     * Hibernate ORM setting: whether detection is enabled.
+     */
+    public static final String ENABLED = "quarkus.hibernate-orm.n-plus-one-detection.enabled";
+    /**
+     * Hibernate ORM setting: the ratio of sessions to track, between 0 and 1.
+     */
+    public static final String SAMPLE_RATIO = "quarkus.hibernate-orm.n-plus-one-detection.sample-ratio";
+    /**
+     * Hibernate ORM setting: how many repeated fetches within a session are reported.
+     */
+    public static final String THRESHOLD = "quarkus.hibernate-orm.n-plus-one-detection.threshold";
+
+    private static final int MAX_RECENT_DETECTIONS = 100;
+    private static final ThreadLocal<String> CURRENT_SQL = new ThreadLocal<>();
+    private static final Map<String, NPlusOneDetector> DETECTORS = new ConcurrentHashMap<>();
+
+    private final String persistenceUnitName;
+    private final double sampleRatio;
+    private final int threshold;
+    private final StatementInspector delegate;
+    private final Map<Session, SessionTracker> trackers = new ConcurrentHashMap<>();
+    private final Map<NPlusOneDetection.Kind, LongAdder> detectionCounts = new HashMap<>();
+    private final ArrayDeque<NPlusOneDetection> recentDetections = new ArrayDeque<>();
+
+    private NPlusOneDetector(String persistenceUnitName, double sampleRatio, int threshold,
+            StatementInspector delegate) {
+        this.persistenceUnitName = persistenceUnitName;
+        this.sampleRatio = sampleRatio;
+        this.threshold = threshold;
+        this.delegate = delegate;
+        for (NPlusOneDetection.Kind kind : NPlusOneDetection.Kind.values()) {
+            detectionCounts.put(kind, new LongAdder());
+        }
+    }
+
+    /**
+     * @return A detector for the given persistence unit, or {@code null} if detection is disabled.
+     */
+    public static NPlusOneDetector create(String persistenceUnitName, RuntimeSettings settings,
+            StatementInspector delegate) {
+        if (!settings.getBoolean(ENABLED)) {
+            return null;
+        }
+        Object sampleRatio = settings.get(SAMPLE_RATIO);
+        Object threshold = settings.get(THRESHOLD);
+        return new NPlusOneDetector(persistenceUnitName,
+                sampleRatio == null ? 1.0 : Double.parseDouble(sampleRatio.toString()),
+                threshold == null ? 5 : Integer.parseInt(threshold.toString()),
+                delegate);
+    }
+
+    public static Optional<NPlusOneDetector> forPersistenceUnit(String persistenceUnitName) {
+        return Optional.ofNullable(DETECTORS.get(persistenceUnitName));
+    }
+
+    public static List<NPlusOneDetection> getAllRecentDetections() {
+        List<NPlusOneDetection> result = new ArrayList<>();
+        for (NPlusOneDetector detector : DETECTORS.values()) {
+            result.addAll(detector.getRecentDetections());
+        }
+        return result;
+    }
+
+    /**
+     * Starts tracking the given session, if it is part of the sample and detection is enabled for its session factory.
+     *
+     * @return The given session.
+     */
+    public static Session instrument(SessionFactory sessionFactory, Session session) {
+        if (DETECTORS.isEmpty()) {
+            return session;
+        }
+        Object persistenceUnitName = sessionFactory.getProperties().get(AvailableSettings.PERSISTENCE_UNIT_NAME);
+        NPlusOneDetector detector = persistenceUnitName == null ? null : DETECTORS.get(persistenceUnitName.toString());
+        if (detector != null) {
+            detector.track(session);
+        }
+        return session;
+    }
+
+    public String getPersistenceUnitName() {
+        return persistenceUnitName;
+    }
+
+    public long getDetectionCount(NPlusOneDetection.Kind kind) {
+        return detectionCounts.get(kind).sum();
+    }
+
+    public List<NPlusOneDetection> getRecentDetections() {
+        synchronized (recentDetections) {
+            return new ArrayList<>(recentDetections);
+        }
+    }
+
+    private void track(Session session) {
+        if (sampleRatio < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRatio) {
+            return;
+        }
+        SessionTracker tracker = new SessionTracker(session);
+        trackers.put(session, tracker);
+        session.addEventListeners(tracker);
+    }
+
+    @Override
+    public void sessionFactoryCreated(SessionFactory factory) {
+        EventListenerRegistry registry = ((SessionFactoryImplementor) factory).getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        // The listeners performing the fetches are wrapped, so that the end of failed fetches is seen as well
+        registry.setListeners(EventType.INIT_COLLECTION,
+                new CollectionInitializationListener(listeners(registry, EventType.INIT_COLLECTION)));
+        registry.setListeners(EventType.LOAD, new ProxyInitializationListener(listeners(registry, EventType.LOAD)));
+        DETECTORS.put(persistenceUnitName, this);
+    }
+
+    @Override
+    public void sessionFactoryClosed(SessionFactory factory) {
+        DETECTORS.remove(persistenceUnitName, this);
+        trackers.clear();
+    }
+
+    private static <T> List<T> listeners(EventListenerRegistry registry, EventType<T> type) {
+        List<T> listeners = new ArrayList<>();
+        for (T listener : registry.getEventListenerGroup(type).listeners()) {
+            listeners.add(listener);
+        }
+        return listeners;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String result = delegate == null ? sql : delegate.inspect(sql);
+        if (!trackers.isEmpty()) {
+            // Picked up by the session tracker when the statement gets prepared;
+            // only selects are tracked, as repeated inserts/updates are expected (and batched)
+            if (isSelect(result)) {
+                CURRENT_SQL.set(result);
+            } else {
+                CURRENT_SQL.remove();
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSelect(String sql) {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        return sql.regionMatches(true, start, "select", 0, 6) || sql.regionMatches(true, start, "with", 0, 4);
+    }
+
+    private void report(NPlusOneDetection detection) {
+        detectionCounts.get(detection.getKind()).increment();
+        synchronized (recentDetections) {
+            if (recentDetections.size() >= MAX_RECENT_DETECTIONS) {
+                recentDetections.removeFirst();
+            }
+            recentDetections.addLast(detection);
+        }
+        LOG.warnf("Persistence unit [%s]: possible N+1 select problem: %s '%s' fetched %d times in a session%s. %s",
+                persistenceUnitName, describe(detection.getKind()), detection.getSubject(), detection.getCount(),
+                detection.getCallSite() == null ? "" : " from " + detection.getCallSite(), detection.getSuggestion());
+    }
+
+    private static String describe(NPlusOneDetection.Kind kind) {
+        switch (kind) {
+            case LAZY_COLLECTION:
+                return "lazy collection";
+            case LAZY_ENTITY:
+                return "lazy association to entity";
+            default:
+                return "SQL statement";
+        }
+    }
+
+    private static String suggest(NPlusOneDetection.Kind kind, String subject) {
+        switch (kind) {
+            case LAZY_COLLECTION:
+                return "Consider fetching '" + subject + "' with a fetch join or an entity graph,"
+                        + " or annotating it with @BatchSize (or setting quarkus.hibernate-orm.fetch.batch-size).";
+            case LAZY_ENTITY:
+                return "Consider fetching associations to '" + subject + "' with a fetch join or an entity graph,"
+                        + " or annotating the entity with @BatchSize (or setting quarkus.hibernate-orm.fetch.batch-size).";
+            default:
+                return "Consider loading the data with a single query, e.g. using a fetch join or an 'in' clause.";
+        }
+    }
+
+    private static String findCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> !isFrameworkClass(frame.getClassName()))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName()
+                        + "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")")
+                .orElse(null));
+    }
+
+    private static boolean isFrameworkClass(String className) {
+        return className.startsWith("org.hibernate.")
+                || className.startsWith("io.quarkus.hibernate.")
+                || className.startsWith("io.quarkus.arc.")
+                || className.startsWith("io.quarkus.narayana.")
+                || className.startsWith("io.smallrye.")
+                || className.startsWith("java.")
+                || className.startsWith("jdk.")
+                || className.startsWith("sun.")
+                || className.contains("$$");
+    }
+
+    private SessionTracker tracker(Object session) {
+        return trackers.isEmpty() ? null : trackers.get(session);
+    }
+
+    /**
+     * Tracks fetches within a single session; sessions are not thread-safe, so neither is this.
+     */
+    private final class SessionTracker implements SessionEventListener {
+
+        private final Session session;
+        private final Map<String, Counter> lazyCollections = new HashMap<>();
+        private final Map<String, Counter> lazyEntities = new HashMap<>();
+        private final Map<String, Counter> statements = new HashMap<>();
+        private int lazyFetchDepth;
+
+        SessionTracker(Session session) {
+            this.session = session;
+        }
+
+        void lazyFetchStart(Map<String, Counter> counters, String subject) {
+            lazyFetchDepth++;
+            increment(counters, subject);
+        }
+
+        void lazyFetchEnd() {
+            if (lazyFetchDepth > 0) {
+                lazyFetchDepth--;
+            }
+        }
+
+        @Override
+        public void jdbcPrepareStatementStart() {
+            String sql = CURRENT_SQL.get();
+            if (sql == null) {
+                return;
+            }
+            CURRENT_SQL.remove();
+            // Statements issued by lazy fetches are reported as lazy fetches
+            if (lazyFetchDepth == 0) {
+                increment(statements, sql);
+            }
+        }
+
+        private void increment(Map<String, Counter> counters, String subject) {
+            Counter counter = counters.get(subject);
+            if (counter == null) {
+                counter = new Counter();
+                counters.put(subject, counter);
+            }
+            if (++counter.count == threshold) {
+                // Only walk the stack for offending fetches
+                counter.callSite = findCallSite();
+            }
+        }
+
+        @Override
+        public void end() {
+            trackers.remove(session);
+            reportAll(NPlusOneDetection.Kind.LAZY_COLLECTION, lazyCollections);
+            reportAll(NPlusOneDetection.Kind.LAZY_ENTITY, lazyEntities);
+            reportAll(NPlusOneDetection.Kind.REPEATED_QUERY, statements);
+        }
+
+        private void reportAll(NPlusOneDetection.Kind kind, Map<String, Counter> counters) {
+            for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                Counter counter = entry.getValue();
+                if (counter.count >= threshold) {
+                    report(new NPlusOneDetection(persistenceUnitName, kind, entry.getKey(), counter.count,
+                            counter.callSite, suggest(kind, entry.getKey())));
+                }
+            }
+        }
+    }
+
+    private static final class Counter {
+        int count;
+        String callSite;
+    }
+
+    private final class CollectionInitializationListener implements InitializeCollectionEventListener {
+
+        private final List<InitializeCollectionEventListener> delegates;
+
+        CollectionInitializationListener(List<InitializeCollectionEventListener> delegates) {
+            this.delegates = delegates;
+        }
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+            SessionTracker tracker = tracker(event.getSession());
+            if (tracker != null) {
+                tracker.lazyFetchStart(tracker.lazyCollections, event.getCollection().getRole());
+            }
+            try {
+                for (InitializeCollectionEventListener delegate : delegates) {
+                    delegate.onInitializeCollection(event);
+                }
+            } finally {
+                if (tracker != null) {
+                    tracker.lazyFetchEnd();
+                }
+            }
+        }
+    }
+
+    private final class ProxyInitializationListener implements LoadEventListener {
+
+        private final List<LoadEventListener> delegates;
+
+        ProxyInitializationListener(List<LoadEventListener> delegates) {
+            this.delegates = delegates;
+        }
+
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+            // Immediate loads are triggered by the initialization of proxies
+            SessionTracker tracker = loadType == LoadEventListener.IMMEDIATE_LOAD ? tracker(event.getSession()) : null;
+            if (tracker != null) {
+                tracker.lazyFetchStart(tracker.lazyEntities, event.getEntityClassName());
+            }
+            try {
+                for (LoadEventListener delegate : delegates) {
+                    delegate.onLoad(event, loadType);
+                }
+            } finally {
+                if (tracker != null) {
+                    tracker.lazyFetchEnd();
+                }
+            }
+        }
+    }
+}
@@ -1,18 +1,41 @@
 package io.quarkus.hibernate.orm.runtime.observers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.jboss.logging.Logger;
 
 //TODO replace with vanilla SessionFactoryObserverForNamedQueryValidation ?
 //currently not possible as it was made package private;
 //even better: decouple the query validation from the SessionFactory,
 //so to allow validations at build time.
 public class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObserver {
+
+    private static final Logger LOG = Logger.getLogger(SessionFactoryObserverForNamedQueryValidation.class);
+
+    /**
+     * Hibernate ORM setting: whether named queries should be checked in the background rather than during startup.
+     */
+    public static final String BACKGROUND_CHECK = "quarkus.hibernate-orm.query.named-query-check.background";
+
+    // How long closing the SessionFactory waits for the query being checked in the background
+    private static final long CLOSING_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
     private final Metadata metadata;
+    private volatile Thread backgroundCheck;
+    private volatile boolean closing;
 
     public SessionFactoryObserverForNamedQueryValidation(MetadataImplementor metadata) {
         this.metadata = metadata;
@@ -23,8 +46,69 @@ public void sessionFactoryCreated(SessionFactory factory) {
         SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
         final QueryEngine queryEngine = sessionFactory.getQueryEngine();
         queryEngine.getNamedObjectRepository().prepare(sessionFactory, metadata);
-        if (sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled()) {
+        if (!sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled()) {
+            return;
+        }
+        if (Boolean.parseBoolean(String.valueOf(sessionFactory.getProperties().get(BACKGROUND_CHECK)))) {
+            Object persistenceUnitName = sessionFactory.getProperties().get(AvailableSettings.PERSISTENCE_UNIT_NAME);
+            Thread thread = new Thread(() -> validateInBackground(persistenceUnitName, queryEngine),
+                    "Hibernate ORM named query check: " + persistenceUnitName);
+            thread.setDaemon(true);
+            backgroundCheck = thread;
+            thread.start();
+        } else {
             queryEngine.validateNamedQueries();
         }
     }
+
+    @Override
+    public void sessionFactoryClosing(SessionFactory factory) {
+        closing = true;
+        Thread thread = backgroundCheck;
+        if (thread == null) {
+            return;
+        }
+        backgroundCheck = null;
+        // The check uses the SessionFactory: it stops before the next query, wait for the current one
+        try {
+            thread.join(CLOSING_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            LOG.debugf("%s did not stop within %d ms", thread.getName(), CLOSING_TIMEOUT_MILLIS);
+        }
+    }
+
+    private void validateInBackground(Object persistenceUnitName, QueryEngine queryEngine) {
+        // Same check as QueryEngine#validateNamedQueries, one query at a time so that it can stop early
+        List<NamedSqmQueryMemento<?>> mementos = new ArrayList<>();
+        queryEngine.getNamedObjectRepository().visitSqmQueryMementos(memento -> mementos.add(memento));
+        QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+        Map<String, RuntimeException> errors = new TreeMap<>();
+        for (NamedSqmQueryMemento<?> memento : mementos) {
+            if (closing) {
+                // The application stopped before we were done: not a problem with named queries
+                LOG.debugf("Persistence unit [%s]: named query check interrupted", persistenceUnitName);
+                return;
+            }
+            try {
+                if (interpretationCache.isEnabled()) {
+                    // Checking named queries also caches their interpretation, so the first execution will be faster
+                    interpretationCache.resolveHqlInterpretation(memento.getHqlString(), null,
+                            queryEngine.getHqlTranslator());
+                } else {
+                    queryEngine.getHqlTranslator().translate(memento.getHqlString(), null);
+                }
+            } catch (RuntimeException e) {
+                errors.put(memento.getRegistrationName(), e);
+            }
+        }
+        if (closing) {
+            LOG.debugf("Persistence unit [%s]: named query check interrupted", persistenceUnitName);
+            return;
+        }
+        errors.forEach((name, e) -> LOG.errorf(e, "Persistence unit [%s]: named query check failed for query [%s]",
+                persistenceUnitName, name));
+    }
 }
@@ -7,6 +7,9 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 
+import io.quarkus.hibernate.orm.runtime.metrics.QuarkusStatistics;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetector;
+
 /**
  * A delegate for opening a JTA-enabled Hibernate ORM session.
  * <p>
@@ -43,6 +46,7 @@ public JTASessionOpener(SessionFactory sessionFactory, SessionBuilder cachedOpti
 
     public Session openSession() {
         SessionBuilder options = cachedOptions != null ? cachedOptions : createOptions(sessionFactory);
-        return options.openSession();
+        Session session = QuarkusStatistics.instrument(sessionFactory, options.openSession());
+        return NPlusOneDetector.instrument(sessionFactory, session);
     }
 }
@@ -23,4 +23,22 @@ public void setExceptionSorter(String databaseKind, AgroalDataSourceConfiguratio
         dataSourceConfiguration.connectionPoolConfiguration().exceptionSorter(new MySQLExceptionSorter());
     }
 
+    @Override
+    public void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize, Map<String, String> additionalJdbcProperties) {
+        AgroalConnectionConfigurer.setJdbcPropertyIfAbsent(dataSourceConfiguration, additionalJdbcProperties,
+                "cachePrepStmts", String.valueOf(statementCacheSize > 0));
+        AgroalConnectionConfigurer.setJdbcPropertyIfAbsent(dataSourceConfiguration, additionalJdbcProperties,
+                "prepStmtCacheSize", String.valueOf(statementCacheSize));
+    }
+
+    @Override
+    public void setRewriteBatchedStatements(String databaseKind,
+            AgroalDataSourceConfigurationSupplier dataSourceConfiguration, boolean rewriteBatchedStatements,
+            Map<String, String> additionalJdbcProperties) {
+        // The MariaDB driver no longer rewrites batches, but sends them as bulk statements instead
+        AgroalConnectionConfigurer.setJdbcPropertyIfAbsent(dataSourceConfiguration, additionalJdbcProperties,
+                "useBulkStmts", String.valueOf(rewriteBatchedStatements));
+    }
+
 }
@@ -22,4 +22,13 @@ public void setExceptionSorter(String databaseKind, AgroalDataSourceConfiguratio
         dataSourceConfiguration.connectionPoolConfiguration().exceptionSorter(new MSSQLExceptionSorter());
     }
 
+    @Override
+    public void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize, Map<String, String> additionalJdbcProperties) {
+        AgroalConnectionConfigurer.setJdbcPropertyIfAbsent(dataSourceConfiguration, additionalJdbcProperties,
+                "disableStatementPooling", String.valueOf(statementCacheSize <= 0));
+        AgroalConnectionConfigurer.setJdbcPropertyIfAbsent(dataSourceConfiguration, additionalJdbcProperties,
+                "statementPoolingCacheSize", String.valueOf(statementCacheSize));
+    }
+
 }
@@ -33,4 +33,18 @@ public void setExceptionSorter(String databaseKind, AgroalDataSourceConfiguratio
         dataSourceConfiguration.connectionPoolConfiguration().exceptionSorter(new OracleExceptionSorter());
     }
 
+    @Override
+    public void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize, Map<String, String> additionalJdbcProperties) {
+        AgroalConnectionConfigurer.setJdbcPropertyIfAbsent(dataSourceConfiguration, additionalJdbcProperties,
+                "oracle.jdbc.implicitStatementCacheSize", String.valueOf(statementCacheSize));
+    }
+
+    @Override
+    public void setRewriteBatchedStatements(String databaseKind,
+            AgroalDataSourceConfigurationSupplier dataSourceConfiguration, boolean rewriteBatchedStatements,
+            Map<String, String> additionalJdbcProperties) {
+        // The Oracle driver always sends batches in a single round-trip: nothing to do
+    }
+
 }
@@ -23,4 +23,19 @@ public void setExceptionSorter(String databaseKind, AgroalDataSourceConfiguratio
         dataSourceConfiguration.connectionPoolConfiguration().exceptionSorter(new PostgreSQLExceptionSorter());
     }
 
+    @Override
+    public void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize, Map<String, String> additionalJdbcProperties) {
+        AgroalConnectionConfigurer.setJdbcPropertyIfAbsent(dataSourceConfiguration, additionalJdbcProperties,
+                "preparedStatementCacheQueries", String.valueOf(statementCacheSize));
+    }
+
+    @Override
+    public void setRewriteBatchedStatements(String databaseKind,
+            AgroalDataSourceConfigurationSupplier dataSourceConfiguration, boolean rewriteBatchedStatements,
+            Map<String, String> additionalJdbcProperties) {
+        AgroalConnectionConfigurer.setJdbcPropertyIfAbsent(dataSourceConfiguration, additionalJdbcProperties,
+                "reWriteBatchedInserts", String.valueOf(rewriteBatchedStatements));
+    }
+
 }
@@ -11,11 +11,16 @@
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
 import org.jboss.logmanager.formatters.StructuredFormatter;
 import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.quarkus.bootstrap.logging.InitialConfigurator;
 import io.quarkus.bootstrap.logging.QuarkusDelayedHandler;
 import io.quarkus.logging.json.runtime.JsonFormatter;
@@ -41,6 +46,33 @@ public void jsonFormatterDefaultConfigurationTest() {
         assertThat(jsonFormatter.getAdditionalFields().entrySet()).isEmpty();
     }
 
+    @Test
+    public void jsonFormatterOutputTest() throws Exception {
+        JsonFormatter jsonFormatter = getJsonFormatter();
+        ExtLogRecord record = new ExtLogRecord(Level.WARNING, "Hello, \"World\"!\n\tback\\slash \u0001 \u00e9",
+                ConsoleJsonFormatterDefaultConfigTest.class.getName());
+        record.setThrown(new IllegalStateException("boom"));
+        MDC.put("requestId", "a\"b");
+        String line;
+        try {
+            record.copyMdc();
+            line = jsonFormatter.format(record);
+        } finally {
+            MDC.remove("requestId");
+        }
+        assertThat(line).endsWith("}\n").doesNotContain("\n ");
+
+        JsonNode node = new ObjectMapper().readTree(line);
+        assertThat(node.get("message").asText()).isEqualTo("Hello, \"World\"!\n\tback\\slash \u0001 \u00e9");
+        assertThat(node.get("mdc").get("requestId").asText()).isEqualTo("a\"b");
+        assertThat(node.get("exception").get("message").asText()).isEqualTo("boom");
+
+        // the same content as the JSON-P generator, with the same defaults
+        JsonFormatter prettyFormatter = new JsonFormatter();
+        prettyFormatter.setPrettyPrint(true);
+        assertThat(node).isEqualTo(new ObjectMapper().readTree(prettyFormatter.format(record)));
+    }
+
     public static JsonFormatter getJsonFormatter() {
         LogManager logManager = LogManager.getLogManager();
         assertThat(logManager).isInstanceOf(org.jboss.logmanager.LogManager.class);
@@ -0,0 +1,265 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logmanager.formatters.StructuredFormatter.Generator;
+
+/**
+ * A compact JSON generator writing straight to the writer of the formatter, without going through a JSON-P generator
+ * nor copying the values. The output is the one of the JSON-P generator, without pretty printing.
+ */
+final class DirectJsonGenerator implements Generator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer writer;
+    private final Set<String> excludedKeys;
+    // whether a value has already been written at each nesting level, to write the separators
+    private boolean[] notFirst = new boolean[8];
+    private int depth = -1;
+
+    DirectJsonGenerator(final Writer writer, final Set<String> excludedKeys) {
+        this.writer = writer;
+        this.excludedKeys = excludedKeys;
+    }
+
+    @Override
+    public Generator begin() throws Exception {
+        startObject(null);
+        return this;
+    }
+
+    @Override
+    public Generator add(final String key, final int value) throws Exception {
+        if (!excludedKeys.contains(key)) {
+            writeKey(key);
+            writer.write(Integer.toString(value));
+        }
+        return this;
+    }
+
+    @Override
+    public Generator add(final String key, final long value) throws Exception {
+        if (!excludedKeys.contains(key)) {
+            writeKey(key);
+            writer.write(Long.toString(value));
+        }
+        return this;
+    }
+
+    @Override
+    public Generator add(final String key, final Map<String, ?> value) throws Exception {
+        if (!excludedKeys.contains(key)) {
+            writeKey(key);
+            writeMap(value);
+        }
+        return this;
+    }
+
+    @Override
+    public Generator add(final String key, final String value) throws Exception {
+        if (!excludedKeys.contains(key)) {
+            writeKey(key);
+            if (value == null) {
+                writer.write("null");
+            } else {
+                writeString(value);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Generator startObject(final String key) throws Exception {
+        writeKey(key);
+        writer.write('{');
+        push();
+        return this;
+    }
+
+    @Override
+    public Generator endObject() throws Exception {
+        writer.write('}');
+        depth--;
+        return this;
+    }
+
+    @Override
+    public Generator startArray(final String key) throws Exception {
+        writeKey(key);
+        writer.write('[');
+        push();
+        return this;
+    }
+
+    @Override
+    public Generator endArray() throws Exception {
+        writer.write(']');
+        depth--;
+        return this;
+    }
+
+    @Override
+    public Generator end() throws Exception {
+        return endObject();
+    }
+
+    /**
+     * Writes pre-encoded fields, each starting with a {@code ,}, in the current object.
+     */
+    void writeRaw(final String fields) throws IOException {
+        if (fields.isEmpty()) {
+            return;
+        }
+        if (notFirst[depth]) {
+            writer.write(fields);
+        } else {
+            // the first field of the object
+            writer.write(fields, 1, fields.length() - 1);
+            notFirst[depth] = true;
+        }
+    }
+
+    private void push() {
+        depth++;
+        if (depth == notFirst.length) {
+            notFirst = Arrays.copyOf(notFirst, depth * 2);
+        }
+        notFirst[depth] = false;
+    }
+
+    // writes the separator and the key, if any, of the next value
+    private void writeKey(final String key) throws IOException {
+        if (depth >= 0) {
+            if (notFirst[depth]) {
+                writer.write(',');
+            } else {
+                notFirst[depth] = true;
+            }
+        }
+        if (key != null) {
+            writeString(key);
+            writer.write(':');
+        }
+    }
+
+    private void writeMap(final Map<String, ?> map) throws IOException {
+        writer.write('{');
+        push();
+        if (map != null) {
+            for (Map.Entry<String, ?> entry : map.entrySet()) {
+                writeKey(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        }
+        writer.write('}');
+        depth--;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(final Object value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger || value instanceof BigDecimal) {
+            writer.write(value.toString());
+        } else if (value instanceof Boolean) {
+            writer.write(value.toString());
+        } else if (value instanceof Map) {
+            writeMap((Map<String, ?>) value);
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    private void writeString(final String value) throws IOException {
+        writer.write('"');
+        int start = 0;
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            // write the characters which do not need escaping at once
+            if (i > start) {
+                writer.write(value, start, i - start);
+            }
+            start = i + 1;
+            switch (c) {
+                case '"':
+                case '\\':
+                    writer.write('\\');
+                    writer.write(c);
+                    break;
+                case '\b':
+                    writer.write("\\b");
+                    break;
+                case '\f':
+                    writer.write("\\f");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    writer.write("\\u00");
+                    writer.write(HEX[c >> 4]);
+                    writer.write(HEX[c & 0xF]);
+            }
+        }
+        if (start < length) {
+            writer.write(value, start, length - start);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Appends a JSON string, used to pre-encode the fields.
+     */
+    static void appendString(final StringBuilder sb, final String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\':
+                    sb.append('\\').append(c);
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -12,6 +12,8 @@ public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter
 
     private Set<String> excludedKeys;
     private Map<String, AdditionalField> additionalFields;
+    // the additional fields which are not excluded, encoded once as ,"key":value
+    private volatile String encodedAdditionalFields;
 
     /**
      * Creates a new JSON formatter.
@@ -21,6 +23,7 @@ public JsonFormatter() {
         super();
         this.excludedKeys = new HashSet<>();
         this.additionalFields = new HashMap<>();
+        this.encodedAdditionalFields = "";
     }
 
     /**
@@ -34,6 +37,7 @@ public JsonFormatter(final String keyOverrides) {
         super(keyOverrides);
         this.excludedKeys = new HashSet<>();
         this.additionalFields = new HashMap<>();
+        this.encodedAdditionalFields = "";
     }
 
     /**
@@ -50,6 +54,7 @@ public JsonFormatter(final String keyOverrides, final Set<String> excludedKeys,
         super(keyOverrides);
         this.excludedKeys = excludedKeys;
         this.additionalFields = additionalFields;
+        this.encodedAdditionalFields = encodeAdditionalFields();
     }
 
     public Set<String> getExcludedKeys() {
@@ -58,6 +63,7 @@ public Set<String> getExcludedKeys() {
 
     public void setExcludedKeys(Set<String> excludedKeys) {
         this.excludedKeys = excludedKeys;
+        this.encodedAdditionalFields = encodeAdditionalFields();
     }
 
     public Map<String, AdditionalField> getAdditionalFields() {
@@ -66,16 +72,28 @@ public Map<String, AdditionalField> getAdditionalFields() {
 
     public void setAdditionalFields(Map<String, AdditionalField> additionalFields) {
         this.additionalFields = additionalFields;
+        this.encodedAdditionalFields = encodeAdditionalFields();
     }
 
     @Override
     protected Generator createGenerator(final Writer writer) {
+        if (!isPrettyPrint()) {
+            // the common case, written straight to the writer
+            return new DirectJsonGenerator(writer, this.excludedKeys);
+        }
         Generator superGenerator = super.createGenerator(writer);
+        if (this.excludedKeys.isEmpty()) {
+            return superGenerator;
+        }
         return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
     }
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
+        if (generator instanceof DirectJsonGenerator) {
+            ((DirectJsonGenerator) generator).writeRaw(this.encodedAdditionalFields);
+            return;
+        }
         for (var entry : this.additionalFields.entrySet()) {
             switch (entry.getValue().type()) {
                 case STRING:
@@ -91,6 +109,33 @@ protected void after(final Generator generator, final ExtLogRecord record) throw
         }
     }
 
+    private String encodeAdditionalFields() {
+        if (this.additionalFields == null || this.additionalFields.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (var entry : this.additionalFields.entrySet()) {
+            if (this.excludedKeys != null && this.excludedKeys.contains(entry.getKey())) {
+                continue;
+            }
+            sb.append(',');
+            DirectJsonGenerator.appendString(sb, entry.getKey());
+            sb.append(':');
+            switch (entry.getValue().type()) {
+                case STRING:
+                    DirectJsonGenerator.appendString(sb, entry.getValue().value());
+                    break;
+                case INT:
+                    sb.append(Integer.parseInt(entry.getValue().value()));
+                    break;
+                case LONG:
+                    sb.append(Long.parseLong(entry.getValue().value()));
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
     private static class FormatterJsonGenerator implements Generator {
         private final Generator generator;
         private final Set<String> excludedKeys;
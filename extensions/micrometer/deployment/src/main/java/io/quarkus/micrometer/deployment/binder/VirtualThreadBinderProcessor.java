@@ -19,6 +19,11 @@ public class VirtualThreadBinderProcessor {
     static final String VIRTUAL_THREAD_BINDER_CLASS_NAME = "io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics";
     static final Class<?> VIRTUAL_THREAD_BINDER_CLASS = MicrometerRecorder.getClassForName(VIRTUAL_THREAD_BINDER_CLASS_NAME);
 
+    static final String PINNING_SITES_BINDER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.virtualthreads.PinningSitesBinder";
+
+    static final String PINNED_THREAD_MONITOR_CLASS_NAME = "io.quarkus.virtual.threads.PinnedThreadMonitor";
+    static final Class<?> PINNED_THREAD_MONITOR_CLASS = MicrometerRecorder.getClassForName(PINNED_THREAD_MONITOR_CLASS_NAME);
+
     static class VirtualThreadSupportEnabled implements BooleanSupplier {
         MicrometerConfig mConfig;
 
@@ -28,6 +33,15 @@ public boolean getAsBoolean() {
         }
     }
 
+    static class PinningSitesSupportEnabled implements BooleanSupplier {
+        MicrometerConfig mConfig;
+
+        public boolean getAsBoolean() {
+            return PINNED_THREAD_MONITOR_CLASS != null // The monitor is in the virtual threads extension
+                    && mConfig.checkBinderEnabledWithDefault(mConfig.binder().virtualThreads());
+        }
+    }
+
     @BuildStep(onlyIf = VirtualThreadSupportEnabled.class)
     AdditionalBeanBuildItem createCDIEventConsumer() {
         return AdditionalBeanBuildItem.builder()
@@ -35,6 +49,13 @@ AdditionalBeanBuildItem createCDIEventConsumer() {
                 .setUnremovable().build();
     }
 
+    @BuildStep(onlyIf = PinningSitesSupportEnabled.class)
+    AdditionalBeanBuildItem createPinningSitesBinder() {
+        return AdditionalBeanBuildItem.builder()
+                .addBeanClass(PINNING_SITES_BINDER_CLASS_NAME)
+                .setUnremovable().build();
+    }
+
     @BuildStep(onlyIf = VirtualThreadSupportEnabled.class)
     void addNativeMonitoring(BuildProducer<NativeMonitoringBuildItem> nativeMonitoring) {
         nativeMonitoring.produce(new NativeMonitoringBuildItem(NativeConfig.MonitoringOption.JFR));
@@ -0,0 +1,85 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RestClientPoolMetricsTest {
+
+    final static SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(
+                    jar -> jar.addClasses(Resource.class, Client.class))
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.rest-client.pool-client.url", "${test.url}")
+            .overrideConfigKey("quarkus.rest-client.pool-client.prewarm-connections", "2");
+
+    @RestClient
+    Client client;
+
+    @BeforeAll
+    static void setRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterAll()
+    static void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    public void testPoolMetrics() {
+        assertEquals("pong", client.ping());
+
+        Counter requests = registry.find("rest.client.pool.requests").tag("clientName", "pool-client").counter();
+        assertNotNull(requests);
+        assertTrue(requests.count() >= 1);
+
+        // the prewarmed connections
+        await().untilAsserted(() -> assertTrue(
+                registry.find("rest.client.pool.connections.opened").tag("clientName", "pool-client").counter()
+                        .count() >= 2));
+        assertNotNull(registry.find("rest.client.pool.queue.delay").tag("clientName", "pool-client").timer());
+        assertNotNull(registry.find("rest.client.pool.connections").tag("clientName", "pool-client").gauge());
+    }
+
+    @Path("/pool")
+    @RegisterRestClient(configKey = "pool-client")
+    public interface Client {
+
+        @GET
+        @Path("/ping")
+        String ping();
+    }
+
+    @Path("/pool")
+    public static class Resource {
+
+        @GET
+        @Path("/ping")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String ping() {
+            return "pong";
+        }
+    }
+}
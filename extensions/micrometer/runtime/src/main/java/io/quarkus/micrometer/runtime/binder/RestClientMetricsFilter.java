@@ -7,6 +7,7 @@
 import jakarta.ws.rs.client.ClientResponseFilter;
 import jakarta.ws.rs.ext.Provider;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
@@ -25,11 +26,14 @@
 public class RestClientMetricsFilter implements ClientRequestFilter, ClientResponseFilter {
 
     private final static String REQUEST_METRIC_PROPERTY = "restClientMetrics";
+    // set by the response cache of the REST Client Reactive
+    private final static String CACHE_RESULT_PROPERTY = "io.quarkus.rest.client.cache-result";
     private final MeterRegistry registry = Metrics.globalRegistry;
 
     private final HttpBinderConfiguration httpMetricsConfig;
 
     private final Meter.MeterProvider<Timer> timer;
+    private final Meter.MeterProvider<Counter> cacheCounter;
 
     // RESTEasy requires no-arg constructor for CDI injection: https://issues.redhat.com/browse/RESTEASY-1538
     // In the classic Rest Client this is the constructor called whereas in the Reactive one,
@@ -44,7 +48,9 @@ public RestClientMetricsFilter(final HttpBinderConfiguration httpMetricsConfig)
 
         timer = Timer.builder(httpMetricsConfig.getHttpClientRequestsName())
                 .withRegistry(registry);
-
+        cacheCounter = Counter.builder("http.client.cache")
+                .description("The number of requests looked up in the REST Client response cache")
+                .withRegistry(registry);
     }
 
     @Override
@@ -85,6 +91,17 @@ public void filter(final ClientRequestContext requestContext, final ClientRespon
                                 HttpCommonTags.outcome(statusCode),
                                 HttpCommonTags.status(statusCode),
                                 clientName(requestContext))));
+
+                Object cacheResult = requestContext.getProperty(CACHE_RESULT_PROPERTY);
+                if (cacheResult != null) {
+                    cacheCounter.withTags(Tags.of(
+                            HttpCommonTags.method(requestContext.getMethod()),
+                            HttpCommonTags.uri(requestPath, requestContext.getUri().getPath(), statusCode,
+                                    httpMetricsConfig.isClientSuppress4xxErrors()),
+                            Tag.of("result", cacheResult.toString()),
+                            clientName(requestContext)))
+                            .increment();
+                }
             }
         }
     }
@@ -36,6 +36,7 @@ public class VertxMeterBinderAdapter extends MetricsOptions
         implements VertxMetricsFactory, VertxMetrics, ExtendedQuarkusVertxHttpMetrics {
     private static final Logger log = Logger.getLogger(VertxMeterBinderAdapter.class);
     public static final String METRIC_NAME_SEPARATOR = "|";
+    static final String REST_CLIENT_METRICS_PREFIX = "rest-client";
 
     private HttpBinderConfiguration httpBinderConfiguration;
     private OpenTelemetryContextUnwrapper openTelemetryContextUnwrapper;
@@ -96,7 +97,10 @@ public MetricsOptions newOptions() {
 
             // If the name is set, check if it follows the type/client-name syntax
             String clientName = extractClientName(options.getMetricsName());
-            if (clientName != null) {
+            if (clientName != null && REST_CLIENT_METRICS_PREFIX.equals(extractPrefix(options.getMetricsName()))) {
+                // the requests of the REST clients are already measured by the RestClientMetricsFilter
+                return new VertxRestClientPoolMetrics(Metrics.globalRegistry, clientName);
+            } else if (clientName != null) {
                 return new VertxHttpClientMetrics(Metrics.globalRegistry, "http.client",
                         Tags.of(Tag.of("clientName", clientName)),
                         httpBinderConfiguration);
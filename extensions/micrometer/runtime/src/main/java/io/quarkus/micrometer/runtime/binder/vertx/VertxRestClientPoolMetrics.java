@@ -0,0 +1,143 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+/**
+ * Connection pool metrics of the REST clients, per client and host.
+ * <p>
+ * The request metrics of the REST clients are collected by a filter, this only covers the connections: the open
+ * connections and the size of the pool, the requests waiting for a connection and how long they wait, which includes
+ * the connect and TLS handshake time when a new connection is opened, and the number of requests sent, which divided
+ * by the number of opened connections gives the number of requests per connection.
+ */
+class VertxRestClientPoolMetrics implements HttpClientMetrics<Object, Object, Object, EventTiming> {
+
+    private final MeterRegistry registry;
+    // the endpoints of this client: the meters are registered again for each client, as they are dropped on reload
+    private final Map<Tags, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Tags tags;
+
+    VertxRestClientPoolMetrics(MeterRegistry registry, String clientName) {
+        this.registry = registry;
+        this.tags = Tags.of(Tag.of("clientName", clientName));
+    }
+
+    @Override
+    public ClientMetrics<Object, EventTiming, HttpRequest, HttpResponse> createEndpointMetrics(
+            SocketAddress remoteAddress, int maxPoolSize) {
+        Endpoint endpoint = endpoints.computeIfAbsent(tags.and("address", NetworkMetrics.toString(remoteAddress)),
+                new Function<Tags, Endpoint>() {
+                    @Override
+                    public Endpoint apply(Tags endpointTags) {
+                        return new Endpoint(registry, endpointTags);
+                    }
+                });
+        endpoint.maxPoolSize.set(maxPoolSize);
+        return endpoint;
+    }
+
+    @Override
+    public void endpointConnected(ClientMetrics<Object, EventTiming, ?, ?> endpointMetric) {
+        if (endpointMetric instanceof Endpoint endpoint) {
+            endpoint.connections.increment();
+            endpoint.opened.increment();
+        }
+    }
+
+    @Override
+    public void endpointDisconnected(ClientMetrics<Object, EventTiming, ?, ?> endpointMetric) {
+        if (endpointMetric instanceof Endpoint endpoint) {
+            endpoint.connections.decrement();
+        }
+    }
+
+    static final class Endpoint implements ClientMetrics<Object, EventTiming, HttpRequest, HttpResponse> {
+
+        final LongAdder connections = new LongAdder();
+        final LongAdder queue = new LongAdder();
+        final AtomicInteger maxPoolSize = new AtomicInteger();
+        final Counter opened;
+        final Counter requests;
+        final Timer queueDelay;
+
+        Endpoint(MeterRegistry registry, Tags tags) {
+            Gauge.builder("rest.client.pool.connections", new Supplier<Number>() {
+                @Override
+                public Number get() {
+                    return connections.doubleValue();
+                }
+            })
+                    .description("The number of open connections")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+            Gauge.builder("rest.client.pool.max.size", new Supplier<Number>() {
+                @Override
+                public Number get() {
+                    return maxPoolSize.get();
+                }
+            })
+                    .description("The maximum number of connections")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+            Gauge.builder("rest.client.pool.queue.size", new Supplier<Number>() {
+                @Override
+                public Number get() {
+                    return queue.doubleValue();
+                }
+            })
+                    .description("The number of requests waiting for a connection")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+            opened = Counter.builder("rest.client.pool.connections.opened")
+                    .description("The number of connections opened")
+                    .tags(tags)
+                    .register(registry);
+            requests = Counter.builder("rest.client.pool.requests")
+                    .description("The number of requests sent")
+                    .tags(tags)
+                    .register(registry);
+            queueDelay = Timer.builder("rest.client.pool.queue.delay")
+                    .description("Time spent waiting for a connection, including the connection time of new connections")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        @Override
+        public EventTiming enqueueRequest() {
+            queue.increment();
+            return new EventTiming(queueDelay);
+        }
+
+        @Override
+        public void dequeueRequest(EventTiming timing) {
+            queue.decrement();
+            timing.end();
+        }
+
+        @Override
+        public Object requestBegin(String uri, HttpRequest request) {
+            requests.increment();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkus.micrometer.runtime.binder.virtualthreads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.virtual.threads.PinnedThreadMonitor;
+import io.quarkus.virtual.threads.PinnedThreadMonitor.PinningSite;
+
+/**
+ * Exposes the pinning sites recorded by the virtual threads pinning monitor, when it is enabled.
+ * <p>
+ * The number of pinning sites is bounded by the monitor, and so is the number of meters. Registering the meters of a
+ * site twice, when it is recorded while the binder starts, is harmless.
+ */
+@ApplicationScoped
+public class PinningSitesBinder {
+
+    final MeterRegistry registry = Metrics.globalRegistry;
+
+    public void init(@Observes StartupEvent event) {
+        PinnedThreadMonitor monitor = PinnedThreadMonitor.current();
+        if (monitor == null) {
+            return;
+        }
+        monitor.addSiteListener(new Consumer<PinningSite>() {
+            @Override
+            public void accept(PinningSite site) {
+                register(site);
+            }
+        });
+        for (PinningSite site : monitor.sites()) {
+            register(site);
+        }
+    }
+
+    void register(PinningSite site) {
+        FunctionTimer.builder("jvm.threads.virtual.pinned.sites", site,
+                new ToLongFunction<PinningSite>() {
+                    @Override
+                    public long applyAsLong(PinningSite s) {
+                        return s.count();
+                    }
+                },
+                new ToDoubleFunction<PinningSite>() {
+                    @Override
+                    public double applyAsDouble(PinningSite s) {
+                        return s.totalDuration().toNanos();
+                    }
+                }, TimeUnit.NANOSECONDS)
+                .description("The time carrier threads were pinned by virtual threads, by site")
+                .tag("site", site.name())
+                .register(registry);
+    }
+}
@@ -3,10 +3,15 @@
 import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
@@ -15,9 +20,11 @@
 import jakarta.transaction.TransactionManager;
 
 import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 import org.hibernate.query.CommonQueryContract;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.query.SelectionQuery;
+import org.jboss.logging.Logger;
 
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.arc.Arc;
@@ -30,6 +37,8 @@
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
+    private static final Logger LOG = Logger.getLogger(AbstractJpaOperations.class);
+
     private static volatile Map<String, String> entityToPersistenceUnit = Collections.emptyMap();
 
     public static void setEntityToPersistenceUnit(Map<String, String> map) {
@@ -92,6 +101,35 @@ public Session getSession(String persistentUnitName) {
     public Session getSession() {
         return getSession(DEFAULT_PERSISTENCE_UNIT_NAME);
     }
+
+    /**
+     * Returns the {@link StatelessSession} for the given {@link Class<?> entity}
+     *
+     * @return {@link StatelessSession}
+     */
+    public StatelessSession getStatelessSession(Class<?> clazz) {
+        String clazzName = clazz.getName();
+        String persistentUnitName = entityToPersistenceUnit.get(clazzName);
+        return getStatelessSession(persistentUnitName);
+    }
+
+    public StatelessSession getStatelessSession(String persistentUnitName) {
+        ArcContainer arcContainer = Arc.container();
+        InstanceHandle<StatelessSession> sessionHandle;
+        if (persistentUnitName == null || PersistenceUnitUtil.isDefaultPersistenceUnit(persistentUnitName)) {
+            sessionHandle = arcContainer.instance(StatelessSession.class);
+        } else {
+            sessionHandle = arcContainer.instance(StatelessSession.class,
+                    new PersistenceUnit.PersistenceUnitLiteral(persistentUnitName));
+        }
+        if (sessionHandle.isAvailable()) {
+            return sessionHandle.get();
+        }
+        // Let getSession() report the configuration problem, the causes are the same
+        getSession(persistentUnitName);
+        throw new IllegalStateException(
+                "No StatelessSession available for persistence unit '" + persistentUnitName + "'");
+    }
     //
     // Instance methods
 
@@ -123,6 +161,87 @@ public void persist(Stream<?> entities) {
         entities.forEach(entity -> persist(entity));
     }
 
+    //
+    // Bulk operations
+
+    public long persistAll(Iterable<?> entities) {
+        return bulkWrite("insert", StatelessSession::insert, entities.iterator(), 0);
+    }
+
+    public long persistAll(Stream<?> entities) {
+        return persistAll(entities, 0);
+    }
+
+    public long persistAll(Stream<?> entities, int batchSize) {
+        return bulkWrite("insert", StatelessSession::insert, entities.iterator(), batchSize);
+    }
+
+    public long upsertAll(Iterable<?> entities) {
+        return bulkWrite("upsert", StatelessSession::upsert, entities.iterator(), 0);
+    }
+
+    public long upsertAll(Stream<?> entities) {
+        return upsertAll(entities, 0);
+    }
+
+    public long upsertAll(Stream<?> entities, int batchSize) {
+        return bulkWrite("upsert", StatelessSession::upsert, entities.iterator(), batchSize);
+    }
+
+    public long updateAll(Iterable<?> entities) {
+        return bulkWrite("update", StatelessSession::update, entities.iterator(), 0);
+    }
+
+    public long updateAll(Stream<?> entities) {
+        return updateAll(entities, 0);
+    }
+
+    public long updateAll(Stream<?> entities, int batchSize) {
+        return bulkWrite("update", StatelessSession::update, entities.iterator(), batchSize);
+    }
+
+    /**
+     * Writes all entities through the {@link StatelessSession} of their persistence unit, so that they never enter
+     * a persistence context and are sent to the database in JDBC batches.
+     *
+     * @param batchSize the JDBC batch size to use for this operation, or {@code 0} to keep the one configured
+     *        through {@code quarkus.hibernate-orm.jdbc.statement-batch-size}
+     * @return the number of written entities
+     */
+    private long bulkWrite(String operation, BiConsumer<StatelessSession, Object> action, Iterator<?> entities,
+            int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("The batch size must be positive, was " + batchSize);
+        }
+        long start = System.nanoTime();
+        long count = 0;
+        // entities usually all belong to the same persistence unit, avoid a CDI lookup per entity
+        Map<Class<?>, StatelessSession> sessions = new HashMap<>();
+        Map<StatelessSession, Integer> originalBatchSizes = new IdentityHashMap<>();
+        try {
+            while (entities.hasNext()) {
+                Object entity = entities.next();
+                StatelessSession session = sessions.computeIfAbsent(entity.getClass(), this::getStatelessSession);
+                if (batchSize > 0 && !originalBatchSizes.containsKey(session)) {
+                    originalBatchSizes.put(session, session.getJdbcBatchSize());
+                    session.setJdbcBatchSize(batchSize);
+                }
+                action.accept(session, entity);
+                count++;
+            }
+        } finally {
+            for (Entry<StatelessSession, Integer> entry : originalBatchSizes.entrySet()) {
+                entry.getKey().setJdbcBatchSize(entry.getValue());
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            LOG.debugf("Bulk %s of %d entities took %d ms (%d entities/s)", operation, count, elapsedMicros / 1000,
+                    elapsedMicros == 0 ? count : count * 1_000_000 / elapsedMicros);
+        }
+        return count;
+    }
+
     public void delete(Object entity) {
         Session session = getSession(entity.getClass());
         session.remove(session.contains(entity) ? entity : session.getReference(entity));
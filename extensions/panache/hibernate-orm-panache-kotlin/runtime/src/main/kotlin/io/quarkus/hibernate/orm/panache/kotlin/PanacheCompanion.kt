@@ -512,6 +512,93 @@ fun persist(firstEntity: Entity, vararg entities: Entity) {
         INSTANCE.persist(firstEntity, *entities)
     }
 
+    /**
+     * Insert all given entities in bulk, through a [org.hibernate.StatelessSession] using JDBC
+     * batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted.
+     */
+    fun persistAll(entities: Iterable<Entity>): Long = INSTANCE.persistAll(entities)
+
+    /**
+     * Insert all given entities in bulk, through a [org.hibernate.StatelessSession] using JDBC
+     * batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted.
+     */
+    fun persistAll(entities: Stream<Entity>): Long = INSTANCE.persistAll(entities)
+
+    /**
+     * Insert all given entities in bulk, through a [org.hibernate.StatelessSession] using JDBC
+     * batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use
+     * @return the number of entities inserted.
+     */
+    fun persistAll(entities: Stream<Entity>, batchSize: Int): Long =
+        INSTANCE.persistAll(entities, batchSize)
+
+    /**
+     * Insert or update all given entities in bulk, through a [org.hibernate.StatelessSession] using
+     * JDBC batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted or updated.
+     */
+    fun upsertAll(entities: Iterable<Entity>): Long = INSTANCE.upsertAll(entities)
+
+    /**
+     * Insert or update all given entities in bulk, through a [org.hibernate.StatelessSession] using
+     * JDBC batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted or updated.
+     */
+    fun upsertAll(entities: Stream<Entity>): Long = INSTANCE.upsertAll(entities)
+
+    /**
+     * Insert or update all given entities in bulk, through a [org.hibernate.StatelessSession] using
+     * JDBC batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use
+     * @return the number of entities inserted or updated.
+     */
+    fun upsertAll(entities: Stream<Entity>, batchSize: Int): Long =
+        INSTANCE.upsertAll(entities, batchSize)
+
+    /**
+     * Update all given entities in bulk, through a [org.hibernate.StatelessSession] using JDBC
+     * batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @return the number of entities updated.
+     */
+    fun updateAll(entities: Iterable<Entity>): Long = INSTANCE.updateAll(entities)
+
+    /**
+     * Update all given entities in bulk, through a [org.hibernate.StatelessSession] using JDBC
+     * batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @return the number of entities updated.
+     */
+    fun updateAll(entities: Stream<Entity>): Long = INSTANCE.updateAll(entities)
+
+    /**
+     * Update all given entities in bulk, through a [org.hibernate.StatelessSession] using JDBC
+     * batching. The entities are not attached to the persistence context.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use
+     * @return the number of entities updated.
+     */
+    fun updateAll(entities: Stream<Entity>, batchSize: Int): Long =
+        INSTANCE.updateAll(entities, batchSize)
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
@@ -0,0 +1,69 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkOperationsTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class));
+
+    @AfterEach
+    void cleanup() {
+        QuarkusTransaction.requiringNew().run(MyEntity::deleteAll);
+    }
+
+    @Test
+    void persistAllThenUpdateAll() {
+        List<MyEntity> entities = IntStream.range(0, 100).mapToObj(i -> entity("entity" + i)).toList();
+
+        long inserted = QuarkusTransaction.requiringNew().call(() -> MyEntity.persistAll(entities.stream(), 20));
+        assertEquals(100L, inserted);
+        entities.forEach(entity -> assertNotNull(entity.id));
+        assertEquals(100L, QuarkusTransaction.requiringNew().call(() -> MyEntity.count()));
+
+        entities.forEach(entity -> entity.name = entity.name.toUpperCase());
+        long updated = QuarkusTransaction.requiringNew().call(() -> MyEntity.updateAll(entities));
+        assertEquals(100L, updated);
+        assertEquals(100L, QuarkusTransaction.requiringNew().call(() -> MyEntity.count("name like 'ENTITY%'")));
+    }
+
+    @Test
+    void upsertAll() {
+        MyEntity existing = entity("existing");
+        QuarkusTransaction.requiringNew().run(() -> MyEntity.persistAll(List.of(existing)));
+        existing.name = "changed";
+
+        long written = QuarkusTransaction.requiringNew().call(() -> MyEntity.upsertAll(List.of(existing)));
+        assertEquals(1L, written);
+        assertEquals("changed", QuarkusTransaction.requiringNew()
+                .call(() -> MyEntity.<MyEntity> findById(existing.id).name));
+    }
+
+    @Test
+    void negativeBatchSize() {
+        List<MyEntity> entities = List.of(entity("a"));
+        assertThrows(IllegalArgumentException.class,
+                () -> QuarkusTransaction.requiringNew().call(() -> MyEntity.persistAll(entities.stream(), -1)));
+    }
+
+    private static MyEntity entity(String name) {
+        MyEntity entity = new MyEntity();
+        entity.name = name;
+        return entity;
+    }
+}
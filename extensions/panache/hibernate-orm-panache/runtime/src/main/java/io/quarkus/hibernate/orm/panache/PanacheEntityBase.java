@@ -768,6 +768,151 @@ public static void persist(Object firstEntity, Object... entities) {
         JpaOperations.INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted.
+     * @see org.hibernate.StatelessSession#insert(Object)
+     * @see #persistAll(Stream)
+     * @see #persistAll(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static long persistAll(Iterable<?> entities) {
+        return JpaOperations.INSTANCE.persistAll(entities);
+    }
+
+    /**
+     * Insert all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted.
+     * @see org.hibernate.StatelessSession#insert(Object)
+     * @see #persistAll(Iterable)
+     * @see #persistAll(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static long persistAll(Stream<?> entities) {
+        return JpaOperations.INSTANCE.persistAll(entities);
+    }
+
+    /**
+     * Insert all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use, overriding {@code quarkus.hibernate-orm.jdbc.statement-batch-size}
+     * @return the number of entities inserted.
+     * @see org.hibernate.StatelessSession#insert(Object)
+     * @see #persistAll(Iterable)
+     * @see #persistAll(Stream)
+     */
+    // not bridged: the generated bridges only support reference parameters
+    public static long persistAll(Stream<?> entities, int batchSize) {
+        return JpaOperations.INSTANCE.persistAll(entities, batchSize);
+    }
+
+    /**
+     * Insert or update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted or updated.
+     * @see org.hibernate.StatelessSession#upsert(Object)
+     * @see #upsertAll(Stream)
+     * @see #upsertAll(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static long upsertAll(Iterable<?> entities) {
+        return JpaOperations.INSTANCE.upsertAll(entities);
+    }
+
+    /**
+     * Insert or update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted or updated.
+     * @see org.hibernate.StatelessSession#upsert(Object)
+     * @see #upsertAll(Iterable)
+     * @see #upsertAll(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static long upsertAll(Stream<?> entities) {
+        return JpaOperations.INSTANCE.upsertAll(entities);
+    }
+
+    /**
+     * Insert or update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use, overriding {@code quarkus.hibernate-orm.jdbc.statement-batch-size}
+     * @return the number of entities inserted or updated.
+     * @see org.hibernate.StatelessSession#upsert(Object)
+     * @see #upsertAll(Iterable)
+     * @see #upsertAll(Stream)
+     */
+    public static long upsertAll(Stream<?> entities, int batchSize) {
+        return JpaOperations.INSTANCE.upsertAll(entities, batchSize);
+    }
+
+    /**
+     * Update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities updated.
+     * @see org.hibernate.StatelessSession#update(Object)
+     * @see #updateAll(Stream)
+     * @see #updateAll(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static long updateAll(Iterable<?> entities) {
+        return JpaOperations.INSTANCE.updateAll(entities);
+    }
+
+    /**
+     * Update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities updated.
+     * @see org.hibernate.StatelessSession#update(Object)
+     * @see #updateAll(Iterable)
+     * @see #updateAll(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static long updateAll(Stream<?> entities) {
+        return JpaOperations.INSTANCE.updateAll(entities);
+    }
+
+    /**
+     * Update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use, overriding {@code quarkus.hibernate-orm.jdbc.statement-batch-size}
+     * @return the number of entities updated.
+     * @see org.hibernate.StatelessSession#update(Object)
+     * @see #updateAll(Iterable)
+     * @see #updateAll(Stream)
+     */
+    public static long updateAll(Stream<?> entities, int batchSize) {
+        return JpaOperations.INSTANCE.updateAll(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
@@ -763,6 +763,144 @@ default void persist(Entity firstEntity, @SuppressWarnings("unchecked") Entity..
         INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted.
+     * @see org.hibernate.StatelessSession#insert(Object)
+     * @see #persistAll(Stream)
+     * @see #persistAll(Stream, int)
+     */
+    default long persistAll(Iterable<Entity> entities) {
+        return INSTANCE.persistAll(entities);
+    }
+
+    /**
+     * Insert all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted.
+     * @see org.hibernate.StatelessSession#insert(Object)
+     * @see #persistAll(Iterable)
+     * @see #persistAll(Stream, int)
+     */
+    default long persistAll(Stream<Entity> entities) {
+        return INSTANCE.persistAll(entities);
+    }
+
+    /**
+     * Insert all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use, overriding {@code quarkus.hibernate-orm.jdbc.statement-batch-size}
+     * @return the number of entities inserted.
+     * @see org.hibernate.StatelessSession#insert(Object)
+     * @see #persistAll(Iterable)
+     * @see #persistAll(Stream)
+     */
+    default long persistAll(Stream<Entity> entities, int batchSize) {
+        return INSTANCE.persistAll(entities, batchSize);
+    }
+
+    /**
+     * Insert or update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted or updated.
+     * @see org.hibernate.StatelessSession#upsert(Object)
+     * @see #upsertAll(Stream)
+     * @see #upsertAll(Stream, int)
+     */
+    default long upsertAll(Iterable<Entity> entities) {
+        return INSTANCE.upsertAll(entities);
+    }
+
+    /**
+     * Insert or update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities inserted or updated.
+     * @see org.hibernate.StatelessSession#upsert(Object)
+     * @see #upsertAll(Iterable)
+     * @see #upsertAll(Stream, int)
+     */
+    default long upsertAll(Stream<Entity> entities) {
+        return INSTANCE.upsertAll(entities);
+    }
+
+    /**
+     * Insert or update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use, overriding {@code quarkus.hibernate-orm.jdbc.statement-batch-size}
+     * @return the number of entities inserted or updated.
+     * @see org.hibernate.StatelessSession#upsert(Object)
+     * @see #upsertAll(Iterable)
+     * @see #upsertAll(Stream)
+     */
+    default long upsertAll(Stream<Entity> entities, int batchSize) {
+        return INSTANCE.upsertAll(entities, batchSize);
+    }
+
+    /**
+     * Update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities updated.
+     * @see org.hibernate.StatelessSession#update(Object)
+     * @see #updateAll(Stream)
+     * @see #updateAll(Stream, int)
+     */
+    default long updateAll(Iterable<Entity> entities) {
+        return INSTANCE.updateAll(entities);
+    }
+
+    /**
+     * Update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @return the number of entities updated.
+     * @see org.hibernate.StatelessSession#update(Object)
+     * @see #updateAll(Iterable)
+     * @see #updateAll(Stream, int)
+     */
+    default long updateAll(Stream<Entity> entities) {
+        return INSTANCE.updateAll(entities);
+    }
+
+    /**
+     * Update all given entities in bulk, through a {@link org.hibernate.StatelessSession} using JDBC batching.
+     * Unlike {@code persist}, the entities are not attached to the persistence context, no cascading is applied,
+     * and there is no need to flush or clear the session while writing large amounts of entities.
+     *
+     * @param entities the entities to write
+     * @param batchSize the JDBC batch size to use, overriding {@code quarkus.hibernate-orm.jdbc.statement-batch-size}
+     * @return the number of entities updated.
+     * @see org.hibernate.StatelessSession#update(Object)
+     * @see #updateAll(Iterable)
+     * @see #updateAll(Stream)
+     */
+    default long updateAll(Stream<Entity> entities, int batchSize) {
+        return INSTANCE.updateAll(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
@@ -131,6 +131,25 @@ <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<Reactive
             BiFunction<I, ReactiveTransactionalRedisDataSource, Uni<Void>> tx,
             String... watchedKeys);
 
+    /**
+     * Retrieves a {@link RedisDataSource} enqueuing commands in a pipeline.
+     * The commands are only sent when the passed block emits the {@code null} item, all at once (in a single write),
+     * so that they only cost a single round trip to the Redis server.
+     * <p>
+     * Unlike {@link #withTransaction(Function)}, the commands are not executed atomically:
+     * commands sent concurrently by other clients may be executed between them.
+     * If any of the commands fails, the produced {@code Uni} fails.
+     * <p>
+     * The results of the commands are retrieved using the produced {@link TransactionResult}.
+     * <p>
+     * The user can discard the pipeline using the {@link ReactiveTransactionalRedisDataSource#discard()} method.
+     * In this case, no command is sent, and the produced {@link TransactionResult} will be empty.
+     *
+     * @param pipeline the function receiving the pipelined redis data source. The enqueued commands are only sent
+     *        at the end of the block.
+     */
+    Uni<TransactionResult> withPipeline(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> pipeline);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
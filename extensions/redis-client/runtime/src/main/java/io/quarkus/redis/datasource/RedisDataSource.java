@@ -127,6 +127,25 @@ <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisDataSour
             BiConsumer<I, TransactionalRedisDataSource> tx,
             String... watchedKeys);
 
+    /**
+     * Retrieves a {@link RedisDataSource} enqueuing commands in a pipeline.
+     * The commands are only sent when the passed block completes, all at once (in a single write),
+     * so that they only cost a single round trip to the Redis server.
+     * <p>
+     * Unlike {@link #withTransaction(Consumer)}, the commands are not executed atomically:
+     * commands sent concurrently by other clients may be executed between them.
+     * If any of the commands fails, this method throws an exception.
+     * <p>
+     * The results of the commands are retrieved using the returned {@link TransactionResult}.
+     * <p>
+     * The user can discard the pipeline using the {@link TransactionalRedisDataSource#discard()} method.
+     * In this case, no command is sent, and the produced {@link TransactionResult} will be empty.
+     *
+     * @param pipeline the consumer receiving the pipelined redis data source. The enqueued commands are only sent
+     *        at the end of the block.
+     */
+    TransactionResult withPipeline(Consumer<TransactionalRedisDataSource> pipeline);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
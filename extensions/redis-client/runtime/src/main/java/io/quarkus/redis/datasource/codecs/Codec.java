@@ -2,6 +2,8 @@
 
 import java.lang.reflect.Type;
 
+import io.vertx.core.buffer.Buffer;
+
 /**
  * Redis codec interface.
  * <p>
@@ -38,4 +40,19 @@ public interface Codec {
      */
     Object decode(byte[] item);
 
+    /**
+     * Decodes the given buffer to an object.
+     * The codec must return an instance of the type used to call the {@link #canHandle(Type)} method.
+     * <p>
+     * The buffer is the one received from Redis. Codecs can override this method to read it directly,
+     * instead of copying it into a byte array first, which matters for large values.
+     * The default implementation delegates to {@link #decode(byte[])}.
+     *
+     * @param item the buffer, must not be modified or retained after this method returns
+     * @return the object
+     */
+    default Object decode(Buffer item) {
+        return decode(item.getBytes());
+    }
+
 }
@@ -11,6 +11,7 @@
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.netty.buffer.ByteBufInputStream;
 import io.quarkus.vertx.runtime.jackson.QuarkusJacksonJsonCodec;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
@@ -86,6 +87,20 @@ public Object decode(byte[] payload) {
                 throw new RuntimeException(e);
             }
         }
+
+        @Override
+        public Object decode(Buffer payload) {
+            try {
+                if (clazz != null) {
+                    return Json.decodeValue(payload, clazz);
+                } else {
+                    // Stream the content of the buffer to Jackson, without copying it
+                    return mapper.readValue(new ByteBufInputStream(payload.getByteBuf()), type);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
     public static class StringCodec implements Codec {
@@ -110,6 +125,11 @@ public byte[] encode(Object item) {
         public String decode(byte[] item) {
             return new String(item, StandardCharsets.UTF_8);
         }
+
+        @Override
+        public String decode(Buffer item) {
+            return item.toString(StandardCharsets.UTF_8);
+        }
     }
 
     public static class DoubleCodec implements Codec {
@@ -0,0 +1,138 @@
+package io.quarkus.redis.runtime.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * An implementation of the {@link Redis} interface that coalesces read-only commands sent from the same event loop
+ * during the same event loop iteration into a single batch, i.e. a single write and a single connection acquisition.
+ * <p>
+ * Only read-only commands are batched: a batch fails as a whole if any of its commands fails,
+ * in which case the commands are sent again individually so that each of them gets its own result.
+ * Commands sent outside an event loop thread, and all other commands, are sent immediately.
+ */
+public class AutoBatchingRedis implements Redis {
+
+    private static final Set<Command> BATCHABLE_COMMANDS = Set.of(
+            Command.GET, Command.MGET, Command.STRLEN, Command.GETRANGE,
+            Command.EXISTS, Command.TTL, Command.PTTL, Command.TYPE,
+            Command.HGET, Command.HMGET, Command.HGETALL, Command.HEXISTS, Command.HLEN, Command.HKEYS, Command.HVALS,
+            Command.SMEMBERS, Command.SISMEMBER, Command.SCARD,
+            Command.ZSCORE, Command.ZRANK, Command.ZCARD, Command.ZRANGE,
+            Command.LRANGE, Command.LLEN, Command.LINDEX);
+
+    private final Redis redis;
+    private final int maxBatchSize;
+    // Batches are only created on event loop threads, which run both the commands and the flush of their batch:
+    // the pending batch of an event loop is only ever accessed by its thread
+    private final ThreadLocal<Batch> pending = new ThreadLocal<>();
+
+    public AutoBatchingRedis(Redis redis, int maxBatchSize) {
+        this.redis = redis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Future<Response> send(Request command) {
+        Context context = Vertx.currentContext();
+        // Worker and virtual threads may also run on an event loop context, but the flush would run on another thread
+        if (context == null || !context.isEventLoopContext() || !Context.isOnEventLoopThread()
+                || !BATCHABLE_COMMANDS.contains(command.command())) {
+            return redis.send(command);
+        }
+        Batch batch = pending.get();
+        if (batch == null) {
+            batch = new Batch();
+            pending.set(batch);
+            Batch scheduled = batch;
+            context.runOnContext(ignored -> flush(scheduled));
+        }
+        Promise<Response> promise = Promise.promise();
+        batch.requests.add(command);
+        batch.promises.add(promise);
+        if (batch.requests.size() >= maxBatchSize) {
+            flush(batch);
+        }
+        return promise.future();
+    }
+
+    private void flush(Batch batch) {
+        if (pending.get() == batch) {
+            pending.remove();
+        }
+        if (batch.flushed) {
+            return;
+        }
+        batch.flushed = true;
+        if (batch.requests.size() == 1) {
+            redis.send(batch.requests.get(0)).onComplete(batch.promises.get(0));
+            return;
+        }
+        redis.batch(batch.requests).onComplete(ar -> {
+            if (ar.succeeded()) {
+                List<Response> responses = ar.result();
+                for (int i = 0; i < batch.promises.size(); i++) {
+                    batch.promises.get(i).complete(responses.get(i));
+                }
+            } else {
+                // Read-only commands can safely be sent again, to report the failure on the offending commands only
+                for (int i = 0; i < batch.requests.size(); i++) {
+                    redis.send(batch.requests.get(i)).onComplete(batch.promises.get(i));
+                }
+            }
+        });
+    }
+
+    @Override
+    public Redis send(Request command, Handler<AsyncResult<@Nullable Response>> onSend) {
+        send(command).onComplete(onSend);
+        return this;
+    }
+
+    @Override
+    public Redis batch(List<Request> commands, Handler<AsyncResult<List<@Nullable Response>>> onSend) {
+        redis.batch(commands, onSend);
+        return this;
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> commands) {
+        return redis.batch(commands);
+    }
+
+    @Override
+    public Redis connect(Handler<AsyncResult<RedisConnection>> handler) {
+        redis.connect(handler);
+        return this;
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return redis.connect();
+    }
+
+    @Override
+    public void close() {
+        redis.close();
+    }
+
+    private static final class Batch {
+        private final List<Request> requests = new ArrayList<>();
+        private final List<Promise<Response>> promises = new ArrayList<>();
+        private boolean flushed;
+    }
+}
@@ -120,7 +120,11 @@ public void accept(Set<URI> uris) {
 
         customize(name, options);
 
-        return Redis.createClient(vertx, options);
+        Redis redis = Redis.createClient(vertx, options);
+        if (config.autoBatching() && config.clientType() == RedisClientType.STANDALONE) {
+            return new AutoBatchingRedis(redis, config.autoBatchingMaxSize());
+        }
+        return redis;
     }
 
     public static String applyClientQueryParam(String client, URI uri) {
@@ -175,6 +175,25 @@ public interface RedisClientConfig {
     @WithDefault("false")
     boolean autoFailover();
 
+    /**
+     * Whether read-only commands (such as {@code GET}, {@code HGET} or {@code ZRANGE}) sent from the same event loop
+     * during the same event loop iteration should be coalesced into a single batch.
+     * <p>
+     * This reduces the number of writes and connection acquisitions when many keys are read concurrently,
+     * for example when fanning out reads to many keys while handling a request.
+     * Commands sent from worker threads are not batched.
+     * This only applies to the standalone client.
+     */
+    @WithDefault("false")
+    boolean autoBatching();
+
+    /**
+     * The maximum number of commands in an automatic batch.
+     * When reached, the batch is sent immediately, and subsequent commands start a new batch.
+     */
+    @WithDefault("100")
+    int autoBatchingMaxSize();
+
     /**
      * How the Redis topology is obtained. By default, the topology is discovered automatically.
      * This is the only mode for the clustered and sentinel client. For replication client,
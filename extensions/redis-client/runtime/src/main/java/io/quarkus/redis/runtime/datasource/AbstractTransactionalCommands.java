@@ -3,6 +3,7 @@
 import io.quarkus.redis.datasource.ReactiveTransactionalRedisCommands;
 import io.quarkus.redis.datasource.transactions.ReactiveTransactionalRedisDataSource;
 import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
 
 public class AbstractTransactionalCommands implements ReactiveTransactionalRedisCommands {
 
@@ -15,7 +16,7 @@ public AbstractTransactionalCommands(ReactiveTransactionalRedisDataSource ds, Tr
     }
 
     protected void queuedOrDiscard(Response response) {
-        if (!"QUEUED".equals(response.toString())) {
+        if (response.type() != ResponseType.SIMPLE || !"QUEUED".equals(response.toString())) {
             this.tx.discard();
             throw new IllegalStateException("Unable to add command to the current transaction");
         }
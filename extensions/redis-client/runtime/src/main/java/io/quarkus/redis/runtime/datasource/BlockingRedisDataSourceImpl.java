@@ -3,6 +3,8 @@
 import static io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl.toTransactionResult;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -85,6 +87,26 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
         }
     }
 
+    @Override
+    public TransactionResult withPipeline(Consumer<TransactionalRedisDataSource> ds) {
+        List<Request> requests = new ArrayList<>();
+        ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
+                requests);
+        TransactionHolder th = new TransactionHolder();
+        BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
+                new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
+
+        ds.accept(source);
+        if (source.discarded()) {
+            return TransactionResultImpl.DISCARDED;
+        }
+        if (requests.isEmpty()) {
+            return new TransactionResultImpl(false, List.of());
+        }
+        List<Response> responses = reactive.redis.batch(requests).await().atMost(timeout);
+        return new TransactionResultImpl(false, th.map(responses));
+    }
+
     @Override
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
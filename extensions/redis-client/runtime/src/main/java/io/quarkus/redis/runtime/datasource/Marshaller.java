@@ -20,6 +20,7 @@
 
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.mutiny.redis.client.Response;
 import io.vertx.redis.client.ResponseType;
 
@@ -85,9 +86,22 @@ public final <T> T decode(Type clazz, Response r) {
         if (r.type() == ResponseType.SIMPLE) {
             return decode(clazz, r.toString().getBytes());
         }
+        if (r.type() == ResponseType.BULK) {
+            // Let the codec read the received buffer, large values are not copied into a byte array
+            return decode(clazz, r.toBuffer().getDelegate());
+        }
         return decode(clazz, r.toBytes());
     }
 
+    @SuppressWarnings("unchecked")
+    public final <T> T decode(Type clazz, Buffer r) {
+        if (r == null) {
+            return null;
+        }
+        Codec codec = codec(clazz);
+        return (T) codec.decode(r);
+    }
+
     @SuppressWarnings("unchecked")
     public final <T> T decode(Type clazz, byte[] r) {
         if (r == null) {
@@ -5,6 +5,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -44,11 +45,27 @@
 import io.vertx.mutiny.redis.client.RedisConnection;
 import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
 
 public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, RedisCommandExecutor {
 
+    // The reply to commands enqueued in a pipeline, the same simple string as for commands enqueued in a transaction
+    private static final Response QUEUED = Response.newInstance(new io.vertx.redis.client.Response() {
+        @Override
+        public ResponseType type() {
+            return ResponseType.SIMPLE;
+        }
+
+        @Override
+        public String toString() {
+            return "QUEUED";
+        }
+    });
+
     final Redis redis;
     final RedisConnection connection;
+    // Not null when the commands are enqueued in a pipeline instead of being sent
+    private final List<Request> pipeline;
     private final Vertx vertx;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
@@ -58,6 +75,7 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.pipeline = null;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -67,10 +85,27 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeline = null;
+    }
+
+    ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, List<Request> pipeline) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.connection = null;
+        this.pipeline = pipeline;
     }
 
     @Override
     public Uni<Response> execute(Request request) {
+        if (pipeline != null) {
+            if (io.vertx.redis.client.Command.DISCARD.equals(request.getDelegate().command())) {
+                // Nothing has been sent yet, so there is nothing to discard on the server side
+                pipeline.clear();
+            } else {
+                pipeline.add(request);
+            }
+            return Uni.createFrom().item(QUEUED);
+        }
         if (connection != null) {
             return connection.send(request);
         }
@@ -127,6 +162,26 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
                 });
     }
 
+    @Override
+    public Uni<TransactionResult> withPipeline(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
+        nonNull(function, "function");
+        List<Request> requests = new ArrayList<>();
+        ReactiveRedisDataSourceImpl pipelinedDS = new ReactiveRedisDataSourceImpl(vertx, redis, requests);
+        TransactionHolder th = new TransactionHolder();
+        return Uni.createFrom().deferred(() -> function.apply(new ReactiveTransactionalRedisDataSourceImpl(pipelinedDS, th)))
+                .chain(ignored -> {
+                    if (th.discarded()) {
+                        return Uni.createFrom().item(TransactionResultImpl.DISCARDED);
+                    }
+                    if (requests.isEmpty()) {
+                        return Uni.createFrom().<TransactionResult> item(new TransactionResultImpl(false, List.of()));
+                    }
+                    // All the requests are written at once, and the responses are read in order
+                    return redis.batch(requests)
+                            .map(responses -> (TransactionResult) new TransactionResultImpl(false, th.map(responses)));
+                });
+    }
+
     private Uni<Void> watch(RedisConnection connection, String... keys) {
         List<String> watched = List.of(keys);
         Request request = Request.cmd(Command.WATCH);
@@ -28,6 +28,7 @@
 import io.quarkus.redis.datasource.value.ReactiveTransactionalValueCommands;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Command;
+import io.vertx.redis.client.ResponseType;
 
 public class ReactiveTransactionalRedisDataSourceImpl implements ReactiveTransactionalRedisDataSource {
 
@@ -190,7 +191,7 @@ public Uni<Void> execute(Command command, String... args) {
 
         return reactive.execute(c.toRequest())
                 .map(r -> {
-                    if (r == null || !r.toString().equals("QUEUED")) {
+                    if (r == null || r.type() != ResponseType.SIMPLE || !r.toString().equals("QUEUED")) {
                         this.tx.discard();
                         return Uni.createFrom()
                                 .failure(new IllegalStateException("Unable to enqueue command into the current transaction"));
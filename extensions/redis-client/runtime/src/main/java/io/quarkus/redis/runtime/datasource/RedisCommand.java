@@ -4,7 +4,6 @@
 
 import io.quarkus.redis.datasource.RedisCommandExtraArguments;
 import io.quarkus.redis.datasource.codecs.Codec;
-import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Request;
 
@@ -36,7 +35,8 @@ public RedisCommand put(Object x) {
         } else if (x instanceof Boolean) {
             this.request.arg((boolean) x);
         } else if (x instanceof byte[]) {
-            this.request.arg(Buffer.buffer((byte[]) x));
+            // Passed as is, wrapping the array into a buffer would copy it
+            this.request.arg((byte[]) x);
         } else if (x instanceof RedisCommandExtraArguments) {
             putArgs((RedisCommandExtraArguments) x);
         } else if (x instanceof List) {
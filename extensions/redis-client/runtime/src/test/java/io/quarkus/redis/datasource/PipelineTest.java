@@ -0,0 +1,122 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.string.ReactiveTransactionalStringCommands;
+import io.quarkus.redis.datasource.string.TransactionalStringCommands;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.runtime.client.AutoBatchingRedis;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+public class PipelineTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(60));
+        reactive = new ReactiveRedisDataSourceImpl(vertx, redis, api);
+    }
+
+    @AfterEach
+    public void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    public void pipelineBlocking() {
+        TransactionResult result = blocking.withPipeline(pipeline -> {
+            TransactionalStringCommands<String, String> string = pipeline.string(String.class);
+            string.set(key, "hello");
+            string.setnx("k2", "bonjour");
+            string.append(key, "-1");
+            string.get(key);
+            string.strlen("k2");
+        });
+        assertThat(result.size()).isEqualTo(5);
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat((boolean) result.get(1)).isTrue();
+        assertThat((long) result.get(2)).isEqualTo(7L);
+        assertThat((String) result.get(3)).isEqualTo("hello-1");
+        assertThat((long) result.get(4)).isEqualTo(7L);
+    }
+
+    @Test
+    public void pipelineReactive() {
+        TransactionResult result = reactive.withPipeline(pipeline -> {
+            ReactiveTransactionalStringCommands<String, String> string = pipeline.string(String.class);
+            return string.set(key, "hello")
+                    .chain(() -> string.setnx("k2", "bonjour"))
+                    .chain(() -> string.append(key, "-1"))
+                    .chain(() -> string.get(key))
+                    .chain(() -> string.strlen("k2"));
+        }).await().atMost(Duration.ofSeconds(5));
+        assertThat(result.size()).isEqualTo(5);
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat((boolean) result.get(1)).isTrue();
+        assertThat((long) result.get(2)).isEqualTo(7L);
+        assertThat((String) result.get(3)).isEqualTo("hello-1");
+        assertThat((long) result.get(4)).isEqualTo(7L);
+    }
+
+    @Test
+    public void pipelineDiscarded() {
+        TransactionResult result = blocking.withPipeline(pipeline -> {
+            pipeline.string(String.class).set(key, "hello");
+            pipeline.discard();
+        });
+        assertThat(result.discarded()).isTrue();
+        assertThat(result.size()).isZero();
+        assertThat(blocking.value(String.class).get(key)).isNull();
+    }
+
+    @Test
+    public void autoBatching() {
+        blocking.value(String.class).set(key, "hello");
+        AutoBatchingRedis batching = new AutoBatchingRedis(redis.getDelegate(), 2);
+        List<Response> responses = Uni.createFrom().<List<Response>> emitter(emitter -> vertx.getDelegate()
+                .runOnContext(ignored -> io.vertx.core.Future.all(
+                        batching.send(Request.cmd(Command.GET).arg(key)),
+                        batching.send(Request.cmd(Command.STRLEN).arg(key)),
+                        batching.send(Request.cmd(Command.EXISTS).arg(key)))
+                        .onSuccess(cf -> emitter.complete(cf.list()))
+                        .onFailure(emitter::fail)))
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(responses.get(0).toString()).isEqualTo("hello");
+        assertThat(responses.get(1).toInteger()).isEqualTo(5);
+        assertThat(responses.get(2).toInteger()).isEqualTo(1);
+    }
+
+    @Test
+    public void autoBatchingFromWorkerThread() {
+        blocking.value(String.class).set(key, "hello");
+        AutoBatchingRedis batching = new AutoBatchingRedis(redis.getDelegate(), 10);
+        // The worker thread runs on an event loop context, but its commands must not wait for the event loop
+        List<String> values = vertx.getDelegate().<List<String>> executeBlocking(() -> {
+            List<String> result = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                result.add(batching.send(Request.cmd(Command.GET).arg(key)).toCompletionStage().toCompletableFuture()
+                        .get(5, TimeUnit.SECONDS).toString());
+            }
+            return result;
+        }).toCompletionStage().toCompletableFuture().join();
+        assertThat(values).containsExactly("hello", "hello", "hello");
+    }
+}
@@ -6,6 +6,7 @@
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -301,6 +302,23 @@ void binary() {
         assertThatThrownBy(() -> Json.decodeValue(str, byte[].class)).isInstanceOf(DecodeException.class);
     }
 
+    @Test
+    void largeValues() {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            people.add(new Person("firstname-" + i, "lastname-" + i));
+        }
+        var json = ds.value(new TypeReference<List<Person>>() {
+            // Empty on purpose
+        });
+        json.set(key, people);
+        assertThat(json.get(key)).isEqualTo(people);
+
+        String large = "x".repeat(500_000) + "é";
+        values.set(key, large);
+        assertThat(values.get(key)).isEqualTo(large);
+    }
+
     @Test
     void setWithTypeReference() {
         KeyCommands<String> keys = ds.key(String.class);
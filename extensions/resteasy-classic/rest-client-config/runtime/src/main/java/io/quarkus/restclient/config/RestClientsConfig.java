@@ -273,6 +273,47 @@ public interface RestClientsConfig {
     @WithDefault("false")
     boolean http2();
 
+    /**
+     * The maximum number of HTTP/2 connections per host. As requests are multiplexed, it is usually much smaller than
+     * the connection pool size, which is used by default.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Integer> http2MaxPoolSize();
+
+    /**
+     * The maximum number of concurrent requests on an HTTP/2 connection, before another connection is opened.
+     * By default, the maximum number of concurrent streams advertised by the server is used.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Integer> http2MultiplexingLimit();
+
+    /**
+     * The maximum number of requests waiting for a connection to a host. Requests beyond the limit fail immediately
+     * instead of piling up. No limit by default.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Integer> maxWaitQueueSize();
+
+    /**
+     * The number of connections to open to the base URL when the application starts, so that the connection and TLS
+     * handshake are not on the path of the first requests. The connections are opened by sending {@code OPTIONS}
+     * requests to the base URL.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Integer> prewarmConnections();
+
     /**
      * The max HTTP chunk size (8096 bytes by default).
      * <p>
@@ -296,6 +337,18 @@ public interface RestClientsConfig {
     @WithDefault("false")
     boolean captureStacktrace();
 
+    /**
+     * If {@code true}, request entities are serialized straight to the connection, on a worker thread, instead of being
+     * buffered entirely in memory first. Bodies larger than the max chunk size are sent with chunked transfer encoding.
+     * Entities are still buffered when writer interceptors are registered.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @WithDefault("false")
+    boolean streamingRequestBody();
+
     /**
      * Logging configuration.
      */
@@ -306,6 +359,13 @@ public interface RestClientsConfig {
      */
     RestClientMultipartConfig multipart();
 
+    /**
+     * Response cache configuration.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    RestClientResponseCacheConfig responseCache();
+
     default RestClientConfig getClient(final Class<?> restClientInterface) {
         if (RestClientKeysProvider.KEYS.contains(restClientInterface.getName())) {
             return clients().get(restClientInterface.getName());
@@ -342,6 +402,36 @@ interface RestClientLoggingConfig {
         Integer bodyLimit();
     }
 
+    interface RestClientResponseCacheConfig {
+        /**
+         * If {@code true}, the responses of the client are cached in memory, following the {@code Cache-Control},
+         * {@code Expires}, {@code ETag} and {@code Last-Modified} headers. Fresh responses are returned without
+         * contacting the server and stale responses are revalidated with conditional requests.
+         * <p>
+         * Each client has its own cache.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum total size of the cached response bodies. The least recently used responses are evicted first.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("10M")
+        MemorySize maxSize();
+
+        /**
+         * The maximum size of a cached response body. Larger responses are not cached.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("1M")
+        MemorySize maxEntrySize();
+    }
+
     interface RestClientMultipartConfig {
         /**
          * The max HTTP chunk size (8096 bytes by default).
@@ -592,6 +682,34 @@ default Optional<String> uriReload() {
          */
         Optional<Boolean> http2();
 
+        /**
+         * The maximum number of HTTP/2 connections per host.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Integer> http2MaxPoolSize();
+
+        /**
+         * The maximum number of concurrent requests on an HTTP/2 connection, before another connection is opened.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Integer> http2MultiplexingLimit();
+
+        /**
+         * The maximum number of requests waiting for a connection to a host.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Integer> maxWaitQueueSize();
+
+        /**
+         * The number of connections to open to the base URL when the application starts.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Integer> prewarmConnections();
+
         /**
          * The max HTTP chunk size (8096 bytes by default).
          * <p>
@@ -614,6 +732,14 @@ default Optional<String> uriReload() {
          */
         Optional<Boolean> captureStacktrace();
 
+        /**
+         * If {@code true}, request entities are serialized straight to the connection instead of being buffered entirely
+         * in memory first.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Boolean> streamingRequestBody();
+
         /**
          * If set to {@code true}, then this REST Client will not the default exception mapper which
          * always throws an exception if HTTP response code >= 400.
@@ -626,6 +752,11 @@ default Optional<String> uriReload() {
          * Logging configuration.
          */
         Optional<RestClientLoggingConfig> logging();
+
+        /**
+         * Response cache configuration.
+         */
+        Optional<RestClientResponseCacheConfig> responseCache();
     }
 
     class RestClientKeysProvider implements Supplier<Iterable<String>> {
@@ -873,6 +873,11 @@ A more full example of generated client (with sub-resource) can is at the bottom
             classContext.constructor.writeInstanceField(inputTargetField, classContext.constructor.getThis(),
                     effectiveInputTarget);
 
+            // create `WebTargetImpl getInputTarget()` method:
+            MethodCreator inputTargetGetter = classContext.classCreator
+                    .getMethodCreator(MethodDescriptor.ofMethod(RestClientBase.class, "getInputTarget", WebTargetImpl.class));
+            inputTargetGetter.returnValue(inputTargetGetter.readInstanceField(inputTargetField, inputTargetGetter.getThis()));
+
             AssignableResultHandle baseTarget = classContext.constructor.createVariable(WebTargetImpl.class);
             classContext.constructor.assign(baseTarget, effectiveInputTarget);
 
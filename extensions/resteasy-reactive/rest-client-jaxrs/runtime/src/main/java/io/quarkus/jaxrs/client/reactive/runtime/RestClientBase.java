@@ -11,6 +11,8 @@
 import jakarta.ws.rs.ext.ParamConverter;
 import jakarta.ws.rs.ext.ParamConverterProvider;
 
+import org.jboss.resteasy.reactive.client.impl.WebTargetImpl;
+
 public abstract class RestClientBase implements Closeable {
     private static final ParamConverter<Byte> BYTE_CONVERTER = new ParamConverter<Byte>() {
         @Override
@@ -120,6 +122,13 @@ public RestClientBase(List<ParamConverterProvider> providers) {
         this.paramConverterProviders = providers;
     }
 
+    /**
+     * @return the target the client was created with, for the base URI of the client, overridden by generated code
+     */
+    public WebTargetImpl getInputTarget() {
+        return null;
+    }
+
     @SuppressWarnings("unused") // used by generated code
     public <T> Object[] convertParamArray(T[] value, Class<T> type, Type genericType, Annotation[] annotations) {
         ParamConverter<T> converter = getConverter(type, genericType, annotations);
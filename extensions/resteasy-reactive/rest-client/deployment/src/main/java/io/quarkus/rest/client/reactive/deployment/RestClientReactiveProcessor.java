@@ -108,6 +108,7 @@
 import io.quarkus.rest.client.reactive.runtime.RestClientReactiveCDIWrapperBase;
 import io.quarkus.rest.client.reactive.runtime.RestClientReactiveConfig;
 import io.quarkus.rest.client.reactive.runtime.RestClientRecorder;
+import io.quarkus.rest.client.reactive.runtime.RestClientsPrewarmer;
 import io.quarkus.rest.client.reactive.spi.RestClientAnnotationsTransformerBuildItem;
 import io.quarkus.restclient.config.RegisteredRestClient;
 import io.quarkus.restclient.config.RestClientsBuildTimeConfig;
@@ -196,6 +197,7 @@ void setupAdditionalBeans(BuildProducer<AdditionalBeanBuildItem> additionalBeans
         restClientRecorder.setRestClientBuilderResolver();
         additionalBeans.produce(new AdditionalBeanBuildItem(RestClient.class));
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(HeaderContainer.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RestClientsPrewarmer.class));
     }
 
     @BuildStep
@@ -496,6 +498,7 @@ void addRestClientBeans(Capabilities capabilities,
         CompositeIndex index = CompositeIndex.create(combinedIndexBuildItem.getIndex());
 
         Map<String, String> configKeys = new HashMap<>();
+        Set<String> cdiClientInterfaces = new HashSet<>();
         var annotationsStore = new AnnotationStore(index, restClientAnnotationsTransformerBuildItem.stream()
                 .map(RestClientAnnotationsTransformerBuildItem::getAnnotationTransformation).toList());
         for (RegisteredRestClientBuildItem registerRestClient : registeredRestClients) {
@@ -521,6 +524,7 @@ void addRestClientBeans(Capabilities capabilities,
                 continue;
             }
 
+            cdiClientInterfaces.add(jaxrsInterface.name().toString());
             String wrapperClassName = jaxrsInterface.name().toString() + CDI_WRAPPER_SUFFIX;
             try (ClassCreator classCreator = ClassCreator.builder()
                     .className(wrapperClassName)
@@ -647,6 +651,7 @@ && isImplementorOf(index, target.asClass(), RESPONSE_EXCEPTION_MAPPER, Set.of(AP
         }
 
         recorder.setBlockingClassNames(blockingClassNames);
+        recorder.setCdiClientInterfaces(cdiClientInterfaces);
 
         if (LaunchMode.current() == LaunchMode.DEVELOPMENT) {
             recorder.setConfigKeys(configKeys);
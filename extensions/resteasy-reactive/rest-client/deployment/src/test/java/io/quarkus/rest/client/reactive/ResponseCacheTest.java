@@ -0,0 +1,181 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ResponseCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(Client.class, Resource.class))
+            .overrideConfigKey("quarkus.rest-client.cached.url", "${test.url}")
+            .overrideConfigKey("quarkus.rest-client.cached.response-cache.enabled", "true");
+
+    @RestClient
+    Client client;
+
+    @Test
+    public void testFreshResponseIsCached() {
+        assertEquals("fresh-1", client.fresh());
+        assertEquals("fresh-1", client.fresh());
+        assertEquals(1, Resource.FRESH.get());
+
+        // unsafe requests invalidate the cached responses
+        client.deleteFresh();
+        assertEquals("fresh-2", client.fresh());
+        assertEquals(2, Resource.FRESH.get());
+    }
+
+    @Test
+    public void testStaleResponseIsRevalidated() {
+        assertEquals("validated", client.validated());
+        assertEquals("validated", client.validated());
+        assertEquals(2, Resource.VALIDATED.get());
+        assertEquals(1, Resource.NOT_MODIFIED.get());
+    }
+
+    @Test
+    public void testExpiredResponseWithoutValidatorIsFetchedAgain() throws InterruptedException {
+        assertEquals("expiring-1", client.expiring());
+        assertEquals("expiring-1", client.expiring());
+        Thread.sleep(1500);
+        assertEquals("expiring-2", client.expiring());
+        assertEquals("expiring-2", client.expiring());
+        assertEquals(2, Resource.EXPIRING.get());
+        assertNull(Resource.expiringIfModifiedSince);
+    }
+
+    @Test
+    public void testRequestDirectives() throws InterruptedException {
+        assertEquals("directives-1", client.directives());
+        Thread.sleep(1100);
+        // the stored response is younger than the max-age of the request
+        assertEquals("directives-1", client.directives("max-age=60"));
+        // the stored response is older than the max-age of the request
+        assertEquals("directives-2", client.directives("max-age=1"));
+        assertEquals("directives-2", client.directives());
+        assertEquals("directives-3", client.directives("no-cache"));
+        assertEquals(3, Resource.DIRECTIVES.get());
+    }
+
+    @Test
+    public void testNoStoreResponseIsNotCached() {
+        assertEquals("uncached-1", client.uncached());
+        assertEquals("uncached-2", client.uncached());
+    }
+
+    @Path("/cache")
+    @RegisterRestClient(configKey = "cached")
+    public interface Client {
+
+        @GET
+        @Path("/fresh")
+        String fresh();
+
+        @DELETE
+        @Path("/fresh")
+        void deleteFresh();
+
+        @GET
+        @Path("/validated")
+        String validated();
+
+        @GET
+        @Path("/expiring")
+        String expiring();
+
+        @GET
+        @Path("/directives")
+        String directives();
+
+        @GET
+        @Path("/directives")
+        String directives(@HeaderParam(HttpHeaders.CACHE_CONTROL) String cacheControl);
+
+        @GET
+        @Path("/uncached")
+        String uncached();
+    }
+
+    @Path("/cache")
+    public static class Resource {
+
+        static final AtomicInteger FRESH = new AtomicInteger();
+        static final AtomicInteger VALIDATED = new AtomicInteger();
+        static final AtomicInteger NOT_MODIFIED = new AtomicInteger();
+        static final AtomicInteger EXPIRING = new AtomicInteger();
+        static final AtomicInteger DIRECTIVES = new AtomicInteger();
+        static final AtomicInteger UNCACHED = new AtomicInteger();
+        static volatile String expiringIfModifiedSince;
+
+        @GET
+        @Path("/fresh")
+        public Response fresh() {
+            return Response.ok("fresh-" + FRESH.incrementAndGet())
+                    .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                    .build();
+        }
+
+        @DELETE
+        @Path("/fresh")
+        public void deleteFresh() {
+        }
+
+        @GET
+        @Path("/validated")
+        public Response validated(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+            VALIDATED.incrementAndGet();
+            if ("\"v1\"".equals(ifNoneMatch)) {
+                NOT_MODIFIED.incrementAndGet();
+                return Response.notModified().header(HttpHeaders.ETAG, "\"v1\"").build();
+            }
+            return Response.ok("validated")
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .header(HttpHeaders.ETAG, "\"v1\"")
+                    .build();
+        }
+
+        @GET
+        @Path("/expiring")
+        public Response expiring(@HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince) {
+            if (ifModifiedSince != null) {
+                expiringIfModifiedSince = ifModifiedSince;
+            }
+            return Response.ok("expiring-" + EXPIRING.incrementAndGet())
+                    .header(HttpHeaders.CACHE_CONTROL, "max-age=1")
+                    .build();
+        }
+
+        @GET
+        @Path("/directives")
+        public Response directives() {
+            return Response.ok("directives-" + DIRECTIVES.incrementAndGet())
+                    .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                    .build();
+        }
+
+        @GET
+        @Path("/uncached")
+        public Response uncached() {
+            return Response.ok("uncached-" + UNCACHED.incrementAndGet())
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class SendLargeBodyStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.rest-client.streaming-request-body", "true");
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    public void testLargeBody() {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).build(Client.class);
+
+        String body = "0123456789".repeat(1_000_000);
+        assertEquals(body.length(), client.count(body));
+    }
+
+    @Test
+    public void testSmallBody() {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).build(Client.class);
+
+        assertEquals(5, client.count("hello"));
+    }
+
+    @Path("test")
+    public interface Client {
+
+        @POST
+        @Path("count")
+        long count(String body);
+    }
+
+    @Path("test")
+    public static class Resource {
+
+        @POST
+        @Path("count")
+        public long count(String input) {
+            return input.length();
+        }
+    }
+}
@@ -561,6 +561,11 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
             }
         }
 
+        if (!clientBuilder.getConfiguration().hasProperty(QuarkusRestClientProperties.STREAMING_REQUEST_BODY)
+                && restClients.streamingRequestBody()) {
+            clientBuilder.property(QuarkusRestClientProperties.STREAMING_REQUEST_BODY, true);
+        }
+
         ClientImpl client = clientBuilder.build();
         WebTargetImpl target = (WebTargetImpl) client.target(uri);
         target.setParamConverterProviders(paramConverterProviders);
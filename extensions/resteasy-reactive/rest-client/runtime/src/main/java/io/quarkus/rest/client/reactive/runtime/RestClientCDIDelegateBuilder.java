@@ -26,6 +26,7 @@
 import org.eclipse.microprofile.rest.client.ext.QueryParamStyle;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.client.impl.ClientResponseCacheFilter;
 import org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder;
 
 import io.quarkus.arc.Arc;
@@ -83,6 +84,7 @@ void configureBuilder(QuarkusRestClientBuilder builder) {
         configureProxy(builder);
         configureShared(builder);
         configureLogging(builder);
+        configureResponseCache(builder);
         configureCustomProperties(builder);
     }
 
@@ -95,6 +97,15 @@ private void configureLogging(QuarkusRestClientBuilder builder) {
         }
     }
 
+    private void configureResponseCache(QuarkusRestClientBuilder builder) {
+        RestClientsConfig.RestClientResponseCacheConfig cacheConfig = restClientConfig.responseCache()
+                .orElse(configRoot.responseCache());
+        if (cacheConfig.enabled()) {
+            builder.register(new ClientResponseCacheFilter(cacheConfig.maxSize().asLongValue(),
+                    cacheConfig.maxEntrySize().asLongValue()));
+        }
+    }
+
     private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         Optional<String> encoder = oneOf(restClientConfig.multipartPostEncoderMode(), configRoot.multipartPostEncoderMode());
         if (encoder != null && encoder.isPresent()) {
@@ -146,6 +157,24 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         Boolean http2 = oneOf(restClientConfig.http2()).orElse(configRoot.http2());
         builder.property(QuarkusRestClientProperties.HTTP2, http2);
 
+        Optional<Integer> http2MaxPoolSize = oneOf(restClientConfig.http2MaxPoolSize(), configRoot.http2MaxPoolSize());
+        if (http2MaxPoolSize.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MAX_POOL_SIZE, http2MaxPoolSize.get());
+        }
+
+        Optional<Integer> http2MultiplexingLimit = oneOf(restClientConfig.http2MultiplexingLimit(),
+                configRoot.http2MultiplexingLimit());
+        if (http2MultiplexingLimit.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, http2MultiplexingLimit.get());
+        }
+
+        Optional<Integer> maxWaitQueueSize = oneOf(restClientConfig.maxWaitQueueSize(), configRoot.maxWaitQueueSize());
+        if (maxWaitQueueSize.isPresent()) {
+            builder.property(QuarkusRestClientProperties.MAX_WAIT_QUEUE_SIZE, maxWaitQueueSize.get());
+        }
+
+        builder.property(QuarkusRestClientProperties.METRICS_NAME, configKey != null ? configKey : jaxrsInterface.getName());
+
         Optional<Boolean> alpn = oneOf(restClientConfig.alpn(), configRoot.alpn());
         if (alpn.isPresent()) {
             builder.property(QuarkusRestClientProperties.ALPN, alpn.get());
@@ -154,6 +183,10 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         Boolean captureStacktrace = oneOf(restClientConfig.captureStacktrace()).orElse(configRoot.captureStacktrace());
         builder.property(QuarkusRestClientProperties.CAPTURE_STACKTRACE, captureStacktrace);
 
+        Boolean streamingRequestBody = oneOf(restClientConfig.streamingRequestBody())
+                .orElse(configRoot.streamingRequestBody());
+        builder.property(QuarkusRestClientProperties.STREAMING_REQUEST_BODY, streamingRequestBody);
+
         builder.disableDefaultMapper(restClientConfig.disableDefaultMapper());
     }
 
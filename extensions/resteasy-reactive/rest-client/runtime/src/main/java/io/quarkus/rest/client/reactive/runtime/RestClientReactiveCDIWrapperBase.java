@@ -6,8 +6,10 @@
 import jakarta.annotation.PreDestroy;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.client.impl.WebTargetImpl;
 
 import io.quarkus.arc.NoClassInterceptors;
+import io.quarkus.jaxrs.client.reactive.runtime.RestClientBase;
 import io.quarkus.runtime.MockedThroughWrapper;
 
 public abstract class RestClientReactiveCDIWrapperBase<T extends Closeable> implements Closeable, MockedThroughWrapper {
@@ -70,6 +72,17 @@ public void clearMock() {
         this.mock = null;
     }
 
+    // used by RestClientsPrewarmer
+    @NoClassInterceptors
+    void prewarm(int connections) {
+        if (mock == null && delegate() instanceof RestClientBase client) {
+            WebTargetImpl target = client.getInputTarget();
+            if (target != null) {
+                target.getRestClient().prewarm(target.getUri(), connections);
+            }
+        }
+    }
+
     @NoClassInterceptors
     private T delegate() {
         if (delegate == null) {
@@ -1,5 +1,6 @@
 package io.quarkus.rest.client.reactive.runtime;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -11,6 +12,7 @@
 public class RestClientRecorder {
     private static volatile Map<String, String> configKeys;
     private static volatile Set<String> blockingClassNames;
+    private static volatile Set<String> cdiClientInterfaces = Collections.emptySet();
 
     public void setConfigKeys(Map<String, String> configKeys) {
         RestClientRecorder.configKeys = configKeys;
@@ -20,10 +22,18 @@ public void setBlockingClassNames(Set<String> blockingClassNames) {
         RestClientRecorder.blockingClassNames = blockingClassNames;
     }
 
+    public void setCdiClientInterfaces(Set<String> cdiClientInterfaces) {
+        RestClientRecorder.cdiClientInterfaces = cdiClientInterfaces;
+    }
+
     public static Map<String, String> getConfigKeys() {
         return configKeys;
     }
 
+    public static Set<String> getCdiClientInterfaces() {
+        return cdiClientInterfaces;
+    }
+
     public static boolean isClassBlocking(Class<?> exceptionMapperClass) {
         return blockingClassNames.contains(exceptionMapperClass.getName());
     }
@@ -0,0 +1,67 @@
+package io.quarkus.rest.client.reactive.runtime;
+
+import java.util.Optional;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.restclient.config.RestClientsConfig;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Opens the connections of the CDI REST clients with {@code prewarm-connections} configured when the application starts,
+ * so that they are opened before the first requests.
+ * <p>
+ * Only the clients shared by the whole application are prewarmed, once: the {@code @RequestScoped} and
+ * {@code @Dependent} clients are created for each injection, on the path of the requests.
+ */
+@Singleton
+public class RestClientsPrewarmer {
+
+    private static final Logger log = Logger.getLogger(RestClientsPrewarmer.class);
+
+    void prewarm(@Observes StartupEvent event, RestClientsConfig configRoot) {
+        for (String clientInterface : RestClientRecorder.getCdiClientInterfaces()) {
+            Class<?> jaxrsInterface;
+            try {
+                jaxrsInterface = Class.forName(clientInterface, false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                log.debugf(e, "Unable to load REST client interface %s", clientInterface);
+                continue;
+            }
+            Optional<Integer> prewarmConnections = configRoot.getClient(jaxrsInterface).prewarmConnections();
+            if (prewarmConnections.isEmpty()) {
+                prewarmConnections = configRoot.prewarmConnections();
+            }
+            if (prewarmConnections.isEmpty() || prewarmConnections.get() <= 0) {
+                continue;
+            }
+            InstanceHandle<?> handle = Arc.container().instance(jaxrsInterface, RestClient.LITERAL);
+            if (!handle.isAvailable()) {
+                continue;
+            }
+            Class<?> scope = handle.getBean().getScope();
+            if (scope == Dependent.class || scope == RequestScoped.class) {
+                // there is no client instance to share the connections with
+                log.debugf("Connections of the @%s REST client %s are not opened at startup", scope.getSimpleName(),
+                        clientInterface);
+                continue;
+            }
+            try {
+                if (ClientProxy.unwrap(handle.get()) instanceof RestClientReactiveCDIWrapperBase<?> client) {
+                    client.prewarm(prewarmConnections.get());
+                }
+            } catch (RuntimeException e) {
+                log.warnf(e, "Unable to open the connections of the REST client %s at startup", clientInterface);
+            }
+        }
+    }
+}
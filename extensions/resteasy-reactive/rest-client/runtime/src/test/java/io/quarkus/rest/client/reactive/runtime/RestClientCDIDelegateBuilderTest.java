@@ -6,9 +6,13 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.DISABLE_CONTEXTUAL_ERROR_MESSAGES;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MAX_POOL_SIZE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_CHUNK_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_WAIT_QUEUE_SIZE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.METRICS_NAME;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MULTIPART_ENCODER_MODE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.STATIC_HEADERS;
 import static org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder.EncoderMode.HTML5;
@@ -143,6 +147,10 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, false);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 104);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
+        verify(restClientBuilderMock).property(HTTP2_MAX_POOL_SIZE, 105);
+        verify(restClientBuilderMock).property(HTTP2_MULTIPLEXING_LIMIT, 106);
+        verify(restClientBuilderMock).property(MAX_WAIT_QUEUE_SIZE, 107);
+        verify(restClientBuilderMock).property(METRICS_NAME, "test-client");
         verify(restClientBuilderMock).followRedirects(true);
         verify(restClientBuilderMock).register(MyResponseFilter1.class);
         verify(restClientBuilderMock).queryParamStyle(COMMA_SEPARATED);
@@ -197,6 +205,9 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, true);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 204);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
+        verify(restClientBuilderMock).property(HTTP2_MAX_POOL_SIZE, 205);
+        verify(restClientBuilderMock).property(HTTP2_MULTIPLEXING_LIMIT, 206);
+        verify(restClientBuilderMock).property(MAX_WAIT_QUEUE_SIZE, 207);
         verify(restClientBuilderMock).followRedirects(true);
         verify(restClientBuilderMock).register(MyResponseFilter2.class);
         verify(restClientBuilderMock).queryParamStyle(MULTI_PAIRS);
@@ -226,6 +237,9 @@ private static Map<String, String> createSampleConfigRoot() {
         rootConfig.put("quarkus.rest-client.multipart-max-chunk-size", "1024");
         rootConfig.put("quarkus.rest-client.follow-redirects", "true");
         rootConfig.put("quarkus.rest-client.max-chunk-size", "1024");
+        rootConfig.put("quarkus.rest-client.http2-max-pool-size", "205");
+        rootConfig.put("quarkus.rest-client.http2-multiplexing-limit", "206");
+        rootConfig.put("quarkus.rest-client.max-wait-queue-size", "207");
         rootConfig.put("quarkus.rest-client.providers",
                 "io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyResponseFilter2");
         rootConfig.put("quarkus.rest-client.query-param-style", "multi-pairs");
@@ -260,6 +274,9 @@ private static Map<String, String> createSampleClientConfig(final String restCli
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-redirects", "104");
         clientConfig.put("quarkus.rest-client." + restClientName + ".follow-redirects", "true");
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-chunk-size", "1024");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".http2-max-pool-size", "105");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".http2-multiplexing-limit", "106");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".max-wait-queue-size", "107");
         clientConfig.put("quarkus.rest-client." + restClientName + ".providers",
                 "io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyResponseFilter1");
         clientConfig.put("quarkus.rest-client." + restClientName + ".query-param-style", "comma-separated");
@@ -0,0 +1,86 @@
+package io.quarkus.resteasy.reactive.server.test.multipart;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.RestForm;
+import org.jboss.resteasy.reactive.multipart.FileUpload;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MultipartChunkedInputTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(Resource.class)
+                    .addAsResource(new StringAsset("quarkus.http.limits.max-form-attribute-size=1K"),
+                            "application.properties"));
+
+    @Test
+    public void testFileReceivedInManyChunks() {
+        // far larger than the chunks of the request, and not repetitive, so that misplaced chunks are detected
+        byte[] content = new byte[5 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(content);
+        byte[] received = given()
+                .multiPart("file", "data.bin", content, MediaType.APPLICATION_OCTET_STREAM)
+                .post("/multipart/file")
+                .then()
+                .statusCode(200)
+                .extract().asByteArray();
+        assertArrayEquals(content, received);
+    }
+
+    @Test
+    public void testAttributeWithinLimit() {
+        given()
+                .multiPart("attribute", "a".repeat(1000))
+                .post("/multipart/attribute")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("1000"));
+    }
+
+    @Test
+    public void testAttributeOverLimit() {
+        given()
+                .multiPart("attribute", "a".repeat(2048))
+                .post("/multipart/attribute")
+                .then()
+                .statusCode(413);
+    }
+
+    @Path("/multipart")
+    public static class Resource {
+
+        @POST
+        @Path("/file")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public byte[] file(@RestForm("file") FileUpload file) throws IOException {
+            return Files.readAllBytes(file.uploadedFile());
+        }
+
+        @POST
+        @Path("/attribute")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String attribute(@RestForm("attribute") String attribute) {
+            return String.valueOf(attribute.length());
+        }
+    }
+}
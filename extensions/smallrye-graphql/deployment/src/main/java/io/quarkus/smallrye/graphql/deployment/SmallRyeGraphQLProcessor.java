@@ -58,6 +58,7 @@
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.devui.spi.buildtime.FooterLogBuildItem;
 import io.quarkus.maven.dependency.GACT;
 import io.quarkus.runtime.LaunchMode;
@@ -426,7 +427,8 @@ void buildExecutionEndpoint(
             SmallRyeGraphQLConfig graphQLConfig,
             BeanContainerBuildItem beanContainer,
             BuildProducer<WebsocketSubProtocolsBuildItem> webSocketSubProtocols,
-            VertxHttpBuildTimeConfig httpBuildTimeConfig) {
+            VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            SmallRyeGraphQLRuntimeConfig runtimeConfig) {
 
         /*
          * <em>Ugly Hack</em>
@@ -476,7 +478,7 @@ void buildExecutionEndpoint(
                 .map(mediaTypes -> mediaTypes.contains(GRAPHQL_MEDIA_TYPE))
                 .orElse(false);
         Handler<RoutingContext> executionHandler = recorder.executionHandler(graphQLInitializedBuildItem.getInitialized(),
-                allowGet, allowQueryParametersOnPost, runBlocking, allowCompression);
+                allowGet, allowQueryParametersOnPost, runBlocking, allowCompression, runtimeConfig);
 
         HttpRootPathBuildItem.Builder requestBuilder = httpRootPathBuildItem.routeBuilder()
                 .routeFunction(graphQLConfig.rootPath(), recorder.routeFunction(bodyHandlerBuildItem.getHandler()))
@@ -683,6 +685,18 @@ void activateMetrics(Capabilities capabilities,
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(SmallRyeGraphQLRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            SmallRyeGraphQLConfig graphQLConfig,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent() && graphQLConfig.metricsEnabled().orElse(false)) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerSourceBatchingMetrics()));
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerPersistedQueryMetrics()));
+        }
+    }
+
     @BuildStep
     void activateTracing(Capabilities capabilities,
             SmallRyeGraphQLConfig graphQLConfig,
@@ -0,0 +1,126 @@
+package io.quarkus.smallrye.graphql.deployment;
+
+import static io.quarkus.jsonp.JsonProviderHolder.jsonProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import jakarta.json.JsonObject;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Testing the Automatic Persisted Queries support.
+ */
+public class GraphQLPersistedQueriesTest extends AbstractGraphQLTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, TestPojo.class, TestRandom.class, TestGenericsPojo.class,
+                            BusinessException.class, TestUnion.class, TestUnionMember.class, CustomDirective.class)
+                    .addAsResource(new StringAsset(getPropertyAsString()), "application.properties")
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.smallrye-graphql.persisted-queries.enabled", "true");
+
+    @Test
+    public void testRegisteredQueryIsExecutedByHash() {
+        String query = "{ ping { message } }";
+        String hash = sha256(query);
+
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .contentType(MEDIATYPE_JSON)
+                .body(request(query, hash).toString())
+                .post("/graphql")
+                .then()
+                .assertThat()
+                .statusCode(200)
+                .and()
+                .body("data.ping.message", Matchers.equalTo("pong"));
+
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .contentType(MEDIATYPE_JSON)
+                .body(request(null, hash).toString())
+                .post("/graphql")
+                .then()
+                .assertThat()
+                .statusCode(200)
+                .and()
+                .body("data.ping.message", Matchers.equalTo("pong"));
+
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .queryParam("extensions", extensions(hash).toString())
+                .get("/graphql")
+                .then()
+                .assertThat()
+                .statusCode(200)
+                .and()
+                .body("data.ping.message", Matchers.equalTo("pong"));
+    }
+
+    @Test
+    public void testUnknownHash() {
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .queryParam("extensions", extensions(sha256("{ unknown }")).toString())
+                .get("/graphql")
+                .then()
+                .assertThat()
+                .statusCode(200)
+                .and()
+                .body("errors[0].message", Matchers.equalTo("PersistedQueryNotFound"))
+                .body("errors[0].extensions.code", Matchers.equalTo("PERSISTED_QUERY_NOT_FOUND"));
+    }
+
+    @Test
+    public void testHashMismatch() {
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .contentType(MEDIATYPE_JSON)
+                .body(request("{ ping { message } }", sha256("{ foo { message } }")).toString())
+                .post("/graphql")
+                .then()
+                .assertThat()
+                .statusCode(200)
+                .and()
+                .body("data", Matchers.nullValue())
+                .body("errors[0].message", Matchers.equalTo("provided sha does not match query"));
+    }
+
+    private static JsonObject request(String query, String hash) {
+        var builder = jsonProvider().createObjectBuilder();
+        if (query != null) {
+            builder.add(QUERY, query);
+        }
+        return builder.add("extensions", extensions(hash)).build();
+    }
+
+    private static JsonObject extensions(String hash) {
+        return jsonProvider().createObjectBuilder()
+                .add("persistedQuery", jsonProvider().createObjectBuilder()
+                        .add("version", 1)
+                        .add("sha256Hash", hash))
+                .build();
+    }
+
+    private static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
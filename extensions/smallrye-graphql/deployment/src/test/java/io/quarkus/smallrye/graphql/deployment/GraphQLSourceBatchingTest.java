@@ -0,0 +1,147 @@
+package io.quarkus.smallrye.graphql.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.smallrye.graphql.runtime.spi.datafetcher.SourceFieldBatcher;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Testing the batching and caching of the blocking invocations of source fields.
+ */
+public class GraphQLSourceBatchingTest extends AbstractGraphQLTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((JavaArchive jar) -> jar
+                    .addClasses(OrderResource.class, Order.class, Customer.class)
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.smallrye-graphql.source-batching.max-size", "10")
+            .overrideConfigKey("quarkus.smallrye-graphql.source-batching.cache", "true");
+
+    @BeforeEach
+    public void reset() {
+        OrderResource.INVOCATIONS.set(0);
+    }
+
+    @Test
+    public void testSourceFieldsOfList() {
+        long batches = SourceFieldBatcher.batches();
+        long batchedInvocations = SourceFieldBatcher.batchedInvocations();
+        String request = getPayload("{\n" +
+                "  orders {\n" +
+                "    id\n" +
+                "    customer {\n" +
+                "      name\n" +
+                "    }\n" +
+                "  }\n" +
+                "}");
+
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .contentType(MEDIATYPE_JSON)
+                .body(request)
+                .post("/graphql")
+                .then()
+                .assertThat()
+                .statusCode(200)
+                .and()
+                .body("errors", Matchers.nullValue())
+                .body("data.orders", Matchers.hasSize(25))
+                .body("data.orders[0].customer.name", Matchers.equalTo("customer-0"))
+                .body("data.orders[24].customer.name", Matchers.equalTo("customer-24"));
+        assertEquals(25, OrderResource.INVOCATIONS.get());
+        // 25 invocations in batches of at most 10
+        assertEquals(3, SourceFieldBatcher.batches() - batches);
+        assertEquals(25, SourceFieldBatcher.batchedInvocations() - batchedInvocations);
+    }
+
+    @Test
+    public void testInvocationsWithEqualArgumentsAreCached() {
+        long batches = SourceFieldBatcher.batches();
+        long cacheHits = SourceFieldBatcher.cacheHits();
+        String request = getPayload("{\n" +
+                "  orders {\n" +
+                "    first: customer {\n" +
+                "      name\n" +
+                "    }\n" +
+                "    second: customer {\n" +
+                "      name\n" +
+                "    }\n" +
+                "  }\n" +
+                "}");
+
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .contentType(MEDIATYPE_JSON)
+                .body(request)
+                .post("/graphql")
+                .then()
+                .assertThat()
+                .statusCode(200)
+                .and()
+                .body("errors", Matchers.nullValue())
+                .body("data.orders[3].first.name", Matchers.equalTo("customer-3"))
+                .body("data.orders[3].second.name", Matchers.equalTo("customer-3"));
+        assertEquals(25, OrderResource.INVOCATIONS.get());
+        // The second alias of each order reuses the result of the first one
+        assertEquals(25, SourceFieldBatcher.cacheHits() - cacheHits);
+        assertEquals(3, SourceFieldBatcher.batches() - batches);
+    }
+
+    @GraphQLApi
+    public static class OrderResource {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @Query
+        public List<Order> orders() {
+            List<Order> orders = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                orders.add(new Order(i));
+            }
+            return orders;
+        }
+
+        public Customer customer(@Source Order order) {
+            INVOCATIONS.incrementAndGet();
+            return new Customer("customer-" + order.id);
+        }
+    }
+
+    public static class Order {
+        public int id;
+
+        public Order() {
+        }
+
+        public Order(int id) {
+            this.id = id;
+        }
+    }
+
+    public static class Customer {
+        public String name;
+
+        public Customer() {
+        }
+
+        public Customer(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.smallrye.graphql.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the queries registered through Automatic Persisted Queries, keyed by their SHA-256 hash.
+ * <p>
+ * Once a query is registered, clients only send its hash, which keeps requests small and GET URLs stable enough to be
+ * cached by a CDN. The least recently used queries are evicted when the maximum size is reached, in which case clients
+ * register them again.
+ */
+public final class PersistedQueryCache {
+
+    static final LongAdder HITS = new LongAdder();
+    static final LongAdder MISSES = new LongAdder();
+    static final LongAdder REGISTRATIONS = new LongAdder();
+
+    private final Map<String, String> queries;
+
+    public PersistedQueryCache(int maxSize) {
+        this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    public static long registrations() {
+        return REGISTRATIONS.sum();
+    }
+
+    /**
+     * @return the query registered with the given hash, or {@code null} if it is unknown or was evicted
+     */
+    public String get(String hash) {
+        String query;
+        synchronized (queries) {
+            query = queries.get(hash.toLowerCase(Locale.ROOT));
+        }
+        if (query == null) {
+            MISSES.increment();
+        } else {
+            HITS.increment();
+        }
+        return query;
+    }
+
+    /**
+     * Registers the given query if its hash matches.
+     *
+     * @return {@code false} if the given hash is not the hash of the query
+     */
+    public boolean register(String hash, String query) {
+        if (!hash.equalsIgnoreCase(sha256(query))) {
+            return false;
+        }
+        String previous;
+        synchronized (queries) {
+            previous = queries.put(hash.toLowerCase(Locale.ROOT), query);
+        }
+        if (previous == null) {
+            REGISTRATIONS.increment();
+        }
+        return true;
+    }
+
+    public int size() {
+        synchronized (queries) {
+            return queries.size();
+        }
+    }
+
+    static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
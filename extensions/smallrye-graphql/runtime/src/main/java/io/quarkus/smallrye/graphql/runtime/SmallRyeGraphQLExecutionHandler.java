@@ -8,11 +8,14 @@
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParsingException;
 
 import org.jboss.logging.Logger;
@@ -41,10 +44,13 @@
 public class SmallRyeGraphQLExecutionHandler extends SmallRyeGraphQLAbstractHandler {
     private final boolean allowGet;
     private final boolean allowPostWithQueryParameters;
+    private final PersistedQueryCache persistedQueries;
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
     private static final String VARIABLES = "variables";
     private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
     private static final String APPLICATION_GRAPHQL = "application/graphql";
     private static final String OK = "OK";
     private static final String DEFAULT_RESPONSE_CONTENT_TYPE = "application/graphql-response+json; charset="
@@ -52,15 +58,25 @@ public class SmallRyeGraphQLExecutionHandler extends SmallRyeGraphQLAbstractHand
     private static final String DEFAULT_REQUEST_CONTENT_TYPE = "application/json; charset="
             + StandardCharsets.UTF_8.name();
     private static final String MISSING_OPERATION = "Missing operation body";
+    private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    private static final String PERSISTED_QUERY_HASH_MISMATCH = "provided sha does not match query";
 
     private static final Logger log = Logger.getLogger(SmallRyeGraphQLExecutionHandler.class);
 
     public SmallRyeGraphQLExecutionHandler(boolean allowGet, boolean allowPostWithQueryParameters, boolean runBlocking,
             CurrentIdentityAssociation currentIdentityAssociation,
             CurrentVertxRequest currentVertxRequest) {
+        this(allowGet, allowPostWithQueryParameters, runBlocking, currentIdentityAssociation, currentVertxRequest, null);
+    }
+
+    public SmallRyeGraphQLExecutionHandler(boolean allowGet, boolean allowPostWithQueryParameters, boolean runBlocking,
+            CurrentIdentityAssociation currentIdentityAssociation,
+            CurrentVertxRequest currentVertxRequest,
+            PersistedQueryCache persistedQueries) {
         super(currentIdentityAssociation, currentVertxRequest, runBlocking);
         this.allowGet = allowGet;
         this.allowPostWithQueryParameters = allowPostWithQueryParameters;
+        this.persistedQueries = persistedQueries;
     }
 
     @Override
@@ -112,6 +128,10 @@ private void handlePost(HttpServerResponse response, RoutingContext ctx, String
                 } else {
                     mergedJsonObject = jsonObjectFromQueryParameters;
                 }
+                mergedJsonObject = resolvePersistedQuery(mergedJsonObject, response, ctx, requestedCharset);
+                if (mergedJsonObject == null) {
+                    return;
+                }
                 if (!mergedJsonObject.containsKey(QUERY)) {
                     response.setStatusCode(400).end(MISSING_OPERATION);
                     return;
@@ -122,6 +142,10 @@ private void handlePost(HttpServerResponse response, RoutingContext ctx, String
                     response.setStatusCode(400).end(MISSING_OPERATION);
                     return;
                 }
+                jsonObjectFromBody = resolvePersistedQuery(jsonObjectFromBody, response, ctx, requestedCharset);
+                if (jsonObjectFromBody == null) {
+                    return;
+                }
                 doRequest(jsonObjectFromBody, response, ctx, requestedCharset);
             }
         } catch (IOException ex) {
@@ -134,7 +158,11 @@ private void handlePost(HttpServerResponse response, RoutingContext ctx, String
     private void handleGet(HttpServerResponse response, RoutingContext ctx, String requestedCharset) {
         if (allowGet) {
             try {
-                JsonObject input = getJsonObjectFromQueryParameters(ctx);
+                JsonObject input = resolvePersistedQuery(getJsonObjectFromQueryParameters(ctx), response, ctx,
+                        requestedCharset);
+                if (input == null) {
+                    return;
+                }
 
                 if (input.containsKey(QUERY)) {
                     doRequest(input, response, ctx, requestedCharset);
@@ -149,6 +177,53 @@ private void handleGet(HttpServerResponse response, RoutingContext ctx, String r
         }
     }
 
+    /**
+     * Applies the Automatic Persisted Queries protocol: a request containing both the query and its hash registers the
+     * query, a request containing only the hash is completed with the registered query.
+     *
+     * @return the input to execute, or {@code null} if an error was sent
+     */
+    private JsonObject resolvePersistedQuery(JsonObject input, HttpServerResponse response, RoutingContext ctx,
+            String requestedCharset) {
+        if (persistedQueries == null) {
+            return input;
+        }
+        String hash = getPersistedQueryHash(input);
+        if (hash == null) {
+            return input;
+        }
+        if (input.containsKey(QUERY)) {
+            if (!persistedQueries.register(hash, input.getString(QUERY))) {
+                sendError(PERSISTED_QUERY_HASH_MISMATCH, response, ctx, requestedCharset);
+                return null;
+            }
+            return input;
+        }
+        String query = persistedQueries.get(hash);
+        if (query == null) {
+            sendError(PERSISTED_QUERY_NOT_FOUND, Map.of("code", "PERSISTED_QUERY_NOT_FOUND"), response, ctx,
+                    requestedCharset);
+            return null;
+        }
+        return jsonProvider().createObjectBuilder(input).add(QUERY, query).build();
+    }
+
+    private static String getPersistedQueryHash(JsonObject input) {
+        JsonValue extensions = input.get(EXTENSIONS);
+        if (extensions == null || extensions.getValueType() != JsonValue.ValueType.OBJECT) {
+            return null;
+        }
+        JsonValue persistedQuery = extensions.asJsonObject().get(PERSISTED_QUERY);
+        if (persistedQuery == null || persistedQuery.getValueType() != JsonValue.ValueType.OBJECT) {
+            return null;
+        }
+        JsonValue hash = persistedQuery.asJsonObject().get(SHA256_HASH);
+        if (hash == null || hash.getValueType() != JsonValue.ValueType.STRING) {
+            return null;
+        }
+        return ((JsonString) hash).getString();
+    }
+
     private void handleInvalidAcceptRequest(HttpServerResponse response) {
         response.setStatusCode(406).end();
     }
@@ -348,10 +423,16 @@ private String getAllowedMethods() {
 
     private void sendError(String errorMessage, HttpServerResponse response,
             RoutingContext ctx, String requestedCharset) {
+        sendError(errorMessage, null, response, ctx, requestedCharset);
+    }
+
+    private void sendError(String errorMessage, Map<String, Object> extensions, HttpServerResponse response,
+            RoutingContext ctx, String requestedCharset) {
         VertxExecutionResponseWriter writer = new VertxExecutionResponseWriter(response, ctx, requestedCharset);
         GraphQLError error = GraphqlErrorBuilder
                 .newError()
                 .message(errorMessage)
+                .extensions(extensions)
                 .build();
         ExecutionResult executionResult = ExecutionResultImpl
                 .newExecutionResult()
@@ -12,8 +12,10 @@
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.smallrye.graphql.runtime.spi.QuarkusClassloadingService;
+import io.quarkus.smallrye.graphql.runtime.spi.datafetcher.SourceFieldBatcher;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.devmode.FileSystemStaticHandler;
 import io.quarkus.vertx.http.runtime.webjar.WebJarNotFoundHandler;
@@ -57,13 +59,52 @@ private void registerExtraScalars(List<ExtraScalar> extraScalars) {
         }
     }
 
+    public Consumer<MetricsFactory> registerSourceBatchingMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("graphql.source.batches")
+                        .description("Number of batches of @Source field resolver invocations dispatched to a worker thread")
+                        .buildCounter(SourceFieldBatcher::batches);
+                metricsFactory.builder("graphql.source.batched.invocations")
+                        .description("Number of @Source field resolver invocations executed in batches")
+                        .buildCounter(SourceFieldBatcher::batchedInvocations);
+                metricsFactory.builder("graphql.source.cache.hits")
+                        .description("Number of @Source field resolver invocations served from the request cache")
+                        .buildCounter(SourceFieldBatcher::cacheHits);
+            }
+        };
+    }
+
+    public Consumer<MetricsFactory> registerPersistedQueryMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("graphql.persisted.queries.hits")
+                        .description("Number of requests whose persisted query was found by its hash")
+                        .buildCounter(PersistedQueryCache::hits);
+                metricsFactory.builder("graphql.persisted.queries.misses")
+                        .description("Number of requests whose persisted query was not found by its hash")
+                        .buildCounter(PersistedQueryCache::misses);
+                metricsFactory.builder("graphql.persisted.queries.registrations")
+                        .description("Number of queries registered as persisted queries")
+                        .buildCounter(PersistedQueryCache::registrations);
+            }
+        };
+    }
+
     public Handler<RoutingContext> executionHandler(RuntimeValue<Boolean> initialized, boolean allowGet,
-            boolean allowPostWithQueryParameters, boolean runBlocking, boolean allowCompression) {
+            boolean allowPostWithQueryParameters, boolean runBlocking, boolean allowCompression,
+            SmallRyeGraphQLRuntimeConfig runtimeConfig) {
         if (initialized.getValue()) {
+            PersistedQueryCache persistedQueries = runtimeConfig.persistedQueries().enabled()
+                    ? new PersistedQueryCache(runtimeConfig.persistedQueries().maxSize())
+                    : null;
             Handler<RoutingContext> handler = new SmallRyeGraphQLExecutionHandler(allowGet,
                     allowPostWithQueryParameters, runBlocking,
                     getCurrentIdentityAssociation(),
-                    Arc.container().instance(CurrentVertxRequest.class).get());
+                    Arc.container().instance(CurrentVertxRequest.class).get(),
+                    persistedQueries);
             if (allowCompression) {
                 return new SmallRyeGraphQLCompressionHandler(handler);
             }
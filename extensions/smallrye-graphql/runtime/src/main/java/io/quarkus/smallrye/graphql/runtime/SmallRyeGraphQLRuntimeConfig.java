@@ -3,6 +3,7 @@
 import java.util.List;
 import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -49,4 +50,59 @@ public interface SmallRyeGraphQLRuntimeConfig {
      * By default, Checked Exception messages will show the exception message.
      */
     Optional<List<String>> hideCheckedExceptionMessage();
+
+    /**
+     * Batching of the blocking invocations of {@code @Source} field resolvers.
+     */
+    SourceBatching sourceBatching();
+
+    @ConfigGroup
+    interface SourceBatching {
+
+        /**
+         * Whether the blocking invocations of {@code @Source} field resolvers made for the same request, during the same
+         * event loop iteration, are executed in a single dispatch to a worker thread.
+         * This is typically the case when the field is resolved for each element of a list.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * The maximum number of invocations executed in a single dispatch to a worker thread.
+         */
+        @WithDefault("100")
+        int maxSize();
+
+        /**
+         * Whether the results of {@code @Source} field resolvers are cached for the duration of a query,
+         * and reused for invocations with equal arguments, including the source object.
+         * Only enable it if the resolvers have no side effects.
+         */
+        @WithDefault("false")
+        boolean cache();
+    }
+
+    /**
+     * Automatic Persisted Queries.
+     */
+    PersistedQueries persistedQueries();
+
+    @ConfigGroup
+    interface PersistedQueries {
+
+        /**
+         * Whether clients can register queries and then send only their SHA-256 hash in the
+         * {@code extensions.persistedQuery.sha256Hash} field of subsequent requests,
+         * following the Automatic Persisted Queries protocol.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of persisted queries kept in memory. The least recently used queries are evicted first,
+         * and registered again by the clients.
+         */
+        @WithDefault("1000")
+        int maxSize();
+    }
 }
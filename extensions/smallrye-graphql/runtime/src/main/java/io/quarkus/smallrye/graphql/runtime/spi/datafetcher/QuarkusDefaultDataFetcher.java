@@ -7,6 +7,7 @@
 
 import jakarta.validation.ConstraintViolationException;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.graphql.GraphQLException;
 
 import graphql.execution.AbortExecutionException;
@@ -14,6 +15,8 @@
 import graphql.schema.DataFetchingEnvironment;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.smallrye.graphql.runtime.SmallRyeGraphQLRuntimeConfig;
+import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.context.SmallRyeThreadContext;
 import io.smallrye.graphql.execution.context.SmallRyeContextManager;
 import io.smallrye.graphql.execution.datafetcher.DefaultDataFetcher;
@@ -28,6 +31,8 @@
 
 public class QuarkusDefaultDataFetcher<K, T> extends DefaultDataFetcher<K, T> {
 
+    private volatile SmallRyeGraphQLRuntimeConfig.SourceBatching sourceBatching;
+
     public QuarkusDefaultDataFetcher(Operation operation, Type type) {
         super(operation, type);
     }
@@ -103,7 +108,13 @@ private <T> T invokeAndTransformBlocking(final io.smallrye.graphql.api.Context c
             }
         });
         // Here call blocking with context
-        BlockingHelper.runBlocking(vc, contextualCallable, result);
+        SmallRyeGraphQLRuntimeConfig.SourceBatching batching = sourceBatching();
+        if (operation.isSourceField() && batching.enabled()) {
+            SourceFieldBatcher.submit(vc, dfe, operation, transformedArguments, contextualCallable,
+                    (Promise<Object>) result, batching.maxSize(), batching.cache());
+        } else {
+            BlockingHelper.runBlocking(vc, contextualCallable, result);
+        }
 
         return (T) Uni.createFrom().completionStage(result.future().toCompletionStage()).onItemOrFailure()
                 .invoke((item, error) -> {
@@ -143,6 +154,16 @@ private CompletionStage<List<T>> invokeBatchBlocking(DataFetchingEnvironment dfe
                 });
     }
 
+    private SmallRyeGraphQLRuntimeConfig.SourceBatching sourceBatching() {
+        SmallRyeGraphQLRuntimeConfig.SourceBatching batching = sourceBatching;
+        if (batching == null) {
+            batching = ConfigProvider.getConfig().unwrap(SmallRyeConfig.class)
+                    .getConfigMapping(SmallRyeGraphQLRuntimeConfig.class).sourceBatching();
+            sourceBatching = batching;
+        }
+        return batching;
+    }
+
     private boolean runBlocking(DataFetchingEnvironment dfe) {
         return dfe.getGraphQlContext().get("runBlocking");
     }
@@ -0,0 +1,176 @@
+package io.quarkus.smallrye.graphql.runtime.spi.datafetcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import graphql.GraphQLContext;
+import graphql.execution.DataFetcherResult;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetchingEnvironment;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+/**
+ * Batches the blocking invocations of {@code @Source} field resolvers.
+ * <p>
+ * When a list of objects is returned, the resolver of a source field is invoked once per object, during the same
+ * event loop iteration. Instead of dispatching each invocation to a worker thread and then back to the event loop,
+ * the invocations of the same request are collected and executed in a single dispatch on the next iteration,
+ * or as soon as the maximum batch size is reached.
+ * <p>
+ * Optionally, the results of query invocations with equal arguments are cached for the duration of the request.
+ */
+public final class SourceFieldBatcher {
+
+    private static final String PENDING_KEY = SourceFieldBatcher.class.getName() + ".pending";
+    private static final String CACHE_KEY = SourceFieldBatcher.class.getName() + ".cache";
+
+    static final LongAdder BATCHES = new LongAdder();
+    static final LongAdder BATCHED_INVOCATIONS = new LongAdder();
+    static final LongAdder CACHE_HITS = new LongAdder();
+
+    private SourceFieldBatcher() {
+    }
+
+    public static long batches() {
+        return BATCHES.sum();
+    }
+
+    public static long batchedInvocations() {
+        return BATCHED_INVOCATIONS.sum();
+    }
+
+    public static long cacheHits() {
+        return CACHE_HITS.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    static void submit(Context vc, DataFetchingEnvironment dfe, Object operation, Object[] arguments,
+            Callable<Object> contextualCallable, Promise<Object> result, int maxBatchSize, boolean cache) {
+        GraphQLContext graphQLContext = dfe.getGraphQlContext();
+        if (cache && dfe.getOperationDefinition() != null
+                && dfe.getOperationDefinition().getOperation() == OperationDefinition.Operation.QUERY) {
+            Map<InvocationKey, Future<Object>> invocations = graphQLContext.computeIfAbsent(CACHE_KEY,
+                    k -> new ConcurrentHashMap<>());
+            InvocationKey key = new InvocationKey(operation, arguments);
+            Future<Object> previous = invocations.putIfAbsent(key, result.future());
+            if (previous != null) {
+                CACHE_HITS.increment();
+                previous.onComplete(ar -> {
+                    if (ar.succeeded() && isReusable(ar.result())) {
+                        result.complete(ar.result());
+                    } else {
+                        // Errors are bound to the path of the field that produced them, invoke again for this one
+                        enqueue(vc, graphQLContext, contextualCallable, result, maxBatchSize);
+                    }
+                });
+                return;
+            }
+        }
+        enqueue(vc, graphQLContext, contextualCallable, result, maxBatchSize);
+    }
+
+    private static boolean isReusable(Object result) {
+        return !(result instanceof DataFetcherResult) || !((DataFetcherResult<?>) result).hasErrors();
+    }
+
+    private static void enqueue(Context vc, GraphQLContext graphQLContext, Callable<Object> contextualCallable,
+            Promise<Object> result, int maxBatchSize) {
+        Batch batch;
+        boolean schedule = false;
+        synchronized (graphQLContext) {
+            batch = graphQLContext.get(PENDING_KEY);
+            if (batch == null) {
+                batch = new Batch();
+                graphQLContext.put(PENDING_KEY, batch);
+                schedule = true;
+            }
+            batch.tasks.add(contextualCallable);
+            batch.promises.add(result);
+            if (batch.tasks.size() >= maxBatchSize) {
+                graphQLContext.delete(PENDING_KEY);
+                schedule = false;
+                dispatch(vc, batch);
+            }
+        }
+        if (schedule) {
+            Batch scheduled = batch;
+            vc.runOnContext(ignored -> {
+                synchronized (graphQLContext) {
+                    if (graphQLContext.get(PENDING_KEY) != scheduled) {
+                        // Already dispatched because it was full
+                        return;
+                    }
+                    graphQLContext.delete(PENDING_KEY);
+                }
+                dispatch(vc, scheduled);
+            });
+        }
+    }
+
+    private static void dispatch(Context vc, Batch batch) {
+        BATCHES.increment();
+        BATCHED_INVOCATIONS.add(batch.tasks.size());
+        int size = batch.tasks.size();
+        Object[] results = new Object[size];
+        Throwable[] failures = new Throwable[size];
+        vc.executeBlocking(() -> {
+            for (int i = 0; i < size; i++) {
+                try {
+                    results[i] = batch.tasks.get(i).call();
+                } catch (Throwable t) {
+                    failures[i] = t;
+                }
+            }
+            return null;
+        }).onComplete(ar -> {
+            for (int i = 0; i < size; i++) {
+                if (ar.failed()) {
+                    batch.promises.get(i).fail(ar.cause());
+                } else if (failures[i] != null) {
+                    batch.promises.get(i).fail(failures[i]);
+                } else {
+                    batch.promises.get(i).complete(results[i]);
+                }
+            }
+        });
+    }
+
+    private static final class Batch {
+        private final List<Callable<Object>> tasks = new ArrayList<>();
+        private final List<Promise<Object>> promises = new ArrayList<>();
+    }
+
+    private static final class InvocationKey {
+        private final Object operation;
+        private final Object[] arguments;
+
+        InvocationKey(Object operation, Object[] arguments) {
+            this.operation = operation;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InvocationKey)) {
+                return false;
+            }
+            InvocationKey that = (InvocationKey) o;
+            return operation == that.operation && Arrays.equals(arguments, that.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(operation) + Arrays.hashCode(arguments);
+        }
+    }
+}
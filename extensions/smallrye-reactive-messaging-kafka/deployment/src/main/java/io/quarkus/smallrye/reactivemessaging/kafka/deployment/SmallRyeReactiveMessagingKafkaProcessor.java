@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
 
+import static io.quarkus.smallrye.reactivemessaging.kafka.FileStateStore.FILE_STATE_STORE;
 import static io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore.HIBERNATE_ORM_STATE_STORE;
 import static io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore.HIBERNATE_REACTIVE_STATE_STORE;
 import static io.quarkus.smallrye.reactivemessaging.kafka.RedisStateStore.REDIS_STATE_STORE;
@@ -43,6 +44,7 @@
 import io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
 import io.quarkus.smallrye.reactivemessaging.kafka.DatabindProcessingStateCodec;
+import io.quarkus.smallrye.reactivemessaging.kafka.FileStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.KafkaConfigCustomizer;
@@ -145,6 +147,20 @@ public void checkpointRedis(BuildProducer<AdditionalBeanBuildItem> additionalBea
         }
     }
 
+    @BuildStep
+    public void checkpointFile(BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (hasStateStoreConfig(FILE_STATE_STORE, ConfigProvider.getConfig())) {
+            Optional<String> checkpointStateType = getConnectorProperty("checkpoint.state-type", ConfigProvider.getConfig());
+            checkpointStateType.ifPresent(
+                    s -> reflectiveClass.produce(ReflectiveClassBuildItem.builder(s)
+                            .reason(getClass().getName())
+                            .methods().fields().build()));
+            additionalBean.produce(new AdditionalBeanBuildItem(FileStateStore.Factory.class));
+            additionalBean.produce(new AdditionalBeanBuildItem(DatabindProcessingStateCodec.Factory.class));
+        }
+    }
+
     @BuildStep
     public void checkpointHibernateReactive(BuildProducer<AdditionalBeanBuildItem> additionalBean, Capabilities capabilities) {
         if (hasStateStoreConfig(HIBERNATE_REACTIVE_STATE_STORE, ConfigProvider.getConfig())) {
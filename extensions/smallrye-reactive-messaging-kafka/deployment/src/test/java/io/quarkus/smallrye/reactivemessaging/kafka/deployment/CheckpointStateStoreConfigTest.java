@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
 
+import static io.quarkus.smallrye.reactivemessaging.kafka.FileStateStore.FILE_STATE_STORE;
 import static io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore.HIBERNATE_ORM_STATE_STORE;
 import static io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore.HIBERNATE_REACTIVE_STATE_STORE;
 import static io.quarkus.smallrye.reactivemessaging.kafka.RedisStateStore.REDIS_STATE_STORE;
@@ -47,6 +48,13 @@ void testHasStateStoreConfigWithChannelConfig() {
         assertTrue(hasStateStoreConfig(HIBERNATE_REACTIVE_STATE_STORE, config));
     }
 
+    @Test
+    void testHasFileStateStoreConfig() {
+        createConfig(Map.of("mp.messaging.incoming.my-channel.checkpoint.state-store", FILE_STATE_STORE));
+        assertTrue(hasStateStoreConfig(FILE_STATE_STORE, config));
+        assertFalse(hasStateStoreConfig(REDIS_STATE_STORE, config));
+    }
+
     @Test
     void testHasStateStoreConfigWithInvalidChannelConfig() {
         createConfig(Map.of(
@@ -0,0 +1,165 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.smallrye.reactivemessaging.kafka.FileStateStore;
+import io.quarkus.smallrye.reactivemessaging.kafka.FileStateStore.FsyncPolicy;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.smallrye.reactive.messaging.kafka.commit.VertxJsonProcessingStateCodec;
+import io.vertx.mutiny.core.Vertx;
+
+public class FileStateStoreTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("topic", 0);
+
+    static Vertx vertx;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void init() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testRecoverFromLog() {
+        FileStateStore store = store(1000);
+        for (int i = 1; i <= 5; i++) {
+            persist(store, i);
+        }
+        store.close();
+
+        assertRecoveredState(store(1000), 5);
+    }
+
+    @Test
+    void testTruncatedTrailingRecord() throws IOException {
+        FileStateStore store = store(1000);
+        persist(store, 1);
+        persist(store, 2);
+        store.close();
+
+        // A crash while appending the second record
+        Path log = log();
+        long size = Files.size(log);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        store = store(1000);
+        assertState(store, 1);
+        persist(store, 3);
+        store.close();
+        assertEquals(2, records(log).size());
+        assertRecoveredState(store(1000), 3);
+    }
+
+    @Test
+    void testTornTrailingRecord() throws IOException {
+        FileStateStore store = store(1000);
+        persist(store, 1);
+        persist(store, 2);
+        store.close();
+
+        // The last record has the expected length, but its content was not entirely written
+        Path log = log();
+        long size = Files.size(log);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0 }), size - 1);
+        }
+
+        store = store(1000);
+        assertState(store, 1);
+        persist(store, 3);
+        store.close();
+        assertEquals(2, records(log).size());
+        assertRecoveredState(store(1000), 3);
+    }
+
+    @Test
+    void testCompaction() throws IOException {
+        FileStateStore store = store(3);
+        for (int i = 1; i <= 10; i++) {
+            persist(store, i);
+            assertTrue(records(log()).size() <= 3);
+        }
+        store.close();
+
+        assertFalse(Files.exists(log().resolveSibling(log().getFileName() + ".compact")));
+        assertRecoveredState(store(3), 10);
+    }
+
+    private FileStateStore store(int compactionThreshold) {
+        return new FileStateStore(directory, VertxJsonProcessingStateCodec.FACTORY.create(Integer.class),
+                FsyncPolicy.ALWAYS, compactionThreshold);
+    }
+
+    private Path log() {
+        return directory.resolve(PARTITION.topic() + "-" + PARTITION.partition() + ".log");
+    }
+
+    private static void persist(FileStateStore store, int offset) {
+        onContext(s -> s.persistProcessingState(Map.of(PARTITION, new ProcessingState<>(offset * 10, offset))), store);
+    }
+
+    private static void assertState(FileStateStore store, int offset) {
+        ProcessingState<?> state = onContext(s -> s.fetchProcessingState(List.of(PARTITION)), store).get(PARTITION);
+        assertEquals(offset, state.getOffset());
+        assertEquals(offset * 10, ((Number) state.getState()).intValue());
+    }
+
+    private static void assertRecoveredState(FileStateStore store, int offset) {
+        try {
+            assertState(store, offset);
+        } finally {
+            store.close();
+        }
+    }
+
+    // The store runs its file operations with executeBlocking on the current Vert.x context
+    private static <T> T onContext(Function<FileStateStore, Uni<T>> operation, FileStateStore store) {
+        return Uni.createFrom().<T> emitter(emitter -> vertx.getOrCreateContext().getDelegate()
+                .runOnContext(ignored -> operation.apply(store).subscribe().with(emitter::complete, emitter::fail)))
+                .await().atMost(Duration.ofSeconds(5));
+    }
+
+    // The payload lengths of the records of the log, which must only contain complete records
+    private static List<Integer> records(Path log) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(log));
+        List<Integer> lengths = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            int length = buffer.getInt();
+            buffer.getInt();
+            buffer.position(buffer.position() + length);
+            lengths.add(length);
+        }
+        return lengths;
+    }
+}
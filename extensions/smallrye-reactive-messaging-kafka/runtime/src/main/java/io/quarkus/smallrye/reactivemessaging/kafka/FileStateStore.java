@@ -0,0 +1,297 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32C;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.jboss.logging.Logger;
+
+import io.smallrye.common.annotation.Identifier;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.KafkaConsumer;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingStateCodec;
+import io.smallrye.reactive.messaging.kafka.commit.VertxJsonProcessingStateCodec;
+import io.smallrye.reactive.messaging.providers.helpers.CDIUtils;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * A checkpoint state store keeping the processing state on the local file system, without any external service.
+ * <p>
+ * Each partition gets an append-only log file, in which every persisted state is appended as a checksummed record.
+ * The last valid record is the current state: a record torn by a crash is detected and truncated when the log is opened.
+ * Logs are compacted to their last record once enough records have been appended.
+ */
+public class FileStateStore implements CheckpointStateStore {
+
+    private static final Logger LOGGER = Logger.getLogger(FileStateStore.class);
+
+    public static final String FILE_STATE_STORE = "quarkus-file";
+
+    /**
+     * When the appended records are flushed to the storage device.
+     */
+    public enum FsyncPolicy {
+        /**
+         * After every persisted state: no state is lost if the machine crashes.
+         */
+        ALWAYS,
+        /**
+         * Left to the operating system: states persisted shortly before a machine crash may be lost,
+         * in which case the corresponding records are processed again.
+         */
+        NEVER
+    }
+
+    // Record header: payload length and payload checksum
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final ProcessingStateCodec stateCodec;
+    private final FsyncPolicy fsyncPolicy;
+    private final int compactionThreshold;
+    private final Map<TopicPartition, PartitionLog> logs = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public FileStateStore(Path directory, ProcessingStateCodec stateCodec, FsyncPolicy fsyncPolicy,
+            int compactionThreshold) {
+        this.directory = directory;
+        this.stateCodec = stateCodec;
+        this.fsyncPolicy = fsyncPolicy;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ApplicationScoped
+    @Identifier(FILE_STATE_STORE)
+    public static class Factory implements CheckpointStateStore.Factory {
+
+        @Inject
+        Instance<ProcessingStateCodec.Factory> stateCodecFactory;
+
+        @Override
+        public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, Vertx vertx,
+                KafkaConsumer<?, ?> consumer, Class<?> stateType) {
+            String consumerGroupId = (String) consumer.configuration().get(ConsumerConfig.GROUP_ID_CONFIG);
+            String prefix = KafkaCommitHandler.Strategy.CHECKPOINT + "." + FILE_STATE_STORE + ".";
+            Path directory = Path.of(config.config().getOptionalValue(prefix + "directory", String.class)
+                    .orElse("kafka-checkpoints"));
+            FsyncPolicy fsyncPolicy = config.config().getOptionalValue(prefix + "fsync", String.class)
+                    .map(s -> FsyncPolicy.valueOf(s.toUpperCase(Locale.ROOT)))
+                    .orElse(FsyncPolicy.ALWAYS);
+            int compactionThreshold = config.config().getOptionalValue(prefix + "compaction-threshold", Integer.class)
+                    .orElse(1000);
+            ProcessingStateCodec stateCodec = CDIUtils.getInstanceById(stateCodecFactory, config.getChannel(), () -> {
+                if (stateCodecFactory.isUnsatisfied()) {
+                    return VertxJsonProcessingStateCodec.FACTORY;
+                } else {
+                    return stateCodecFactory.get();
+                }
+            }).create(stateType);
+            return new FileStateStore(directory.resolve(consumerGroupId), stateCodec, fsyncPolicy, compactionThreshold);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            for (PartitionLog log : logs.values()) {
+                log.close();
+            }
+            logs.clear();
+        }
+    }
+
+    @Override
+    public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty() || closed.get()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        return Uni.createFrom().deferred(() -> Vertx.currentContext().executeBlocking(Uni.createFrom().item(() -> {
+            Map<TopicPartition, ProcessingState<?>> states = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                ProcessingState<?> state = log(partition).state;
+                if (state != null) {
+                    states.put(partition, state);
+                }
+            }
+            return states;
+        })));
+    }
+
+    @Override
+    public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> states) {
+        if (states.isEmpty() || closed.get()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().deferred(() -> Vertx.currentContext().executeBlocking(Uni.createFrom().<Void> item(() -> {
+            for (Map.Entry<TopicPartition, ProcessingState<?>> entry : states.entrySet()) {
+                PartitionLog log = log(entry.getKey());
+                ProcessingState<?> newState = entry.getValue();
+                ProcessingState<?> currentState = log.state;
+                if (ProcessingState.isEmptyOrNull(currentState) ||
+                        (!ProcessingState.isEmptyOrNull(newState) && newState.getOffset() >= currentState.getOffset())) {
+                    log.append(newState);
+                }
+            }
+            return null;
+        })));
+    }
+
+    private PartitionLog log(TopicPartition partition) {
+        return logs.computeIfAbsent(partition, tp -> {
+            try {
+                Files.createDirectories(directory);
+                return new PartitionLog(directory.resolve(tp.topic() + "-" + tp.partition() + ".log"));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to open the checkpoint log of " + tp, e);
+            }
+        });
+    }
+
+    private final class PartitionLog {
+
+        private final Path file;
+        private FileChannel channel;
+        private ProcessingState<?> state;
+        private byte[] lastRecord;
+        private int records;
+
+        PartitionLog(Path file) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            long validLength = recover();
+            if (validLength < channel.size()) {
+                LOGGER.warnf("Truncating the incomplete trailing record of the checkpoint log %s", file);
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+        }
+
+        /**
+         * Reads the log up to its last valid record.
+         *
+         * @return the length of the valid part of the log
+         */
+        private long recover() throws IOException {
+            long size = channel.size();
+            if (size == 0) {
+                return 0;
+            }
+            // Logs are kept small by compaction: read at once rather than mapped,
+            // a mapped region would prevent truncating or replacing the file on some platforms
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, Integer.MAX_VALUE));
+            while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+                // Keep reading
+            }
+            buffer.flip();
+            CRC32C crc = new CRC32C();
+            long validLength = 0;
+            while (buffer.remaining() >= HEADER_SIZE) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                lastRecord = payload;
+                records++;
+                validLength = buffer.position();
+            }
+            if (lastRecord != null) {
+                state = ProcessingState.getOrEmpty(stateCodec.decode(lastRecord));
+            }
+            return validLength;
+        }
+
+        void append(ProcessingState<?> newState) {
+            byte[] payload = stateCodec.encode(newState);
+            try {
+                if (records >= compactionThreshold) {
+                    compact();
+                }
+                write(channel, record(payload));
+                if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to persist the checkpoint state in " + file, e);
+            }
+            state = newState;
+            lastRecord = payload;
+            records++;
+        }
+
+        /**
+         * Replaces the log with a log containing only its last record.
+         * The new log is written aside and atomically moved, so that a crash leaves either the old or the new log.
+         */
+        private void compact() throws IOException {
+            Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                if (lastRecord != null) {
+                    write(out, record(lastRecord));
+                }
+                out.force(true);
+            }
+            channel.close();
+            Files.move(compacted, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            records = lastRecord != null ? 1 : 0;
+        }
+
+        private void write(FileChannel target, ByteBuffer record) throws IOException {
+            // A file channel write is not guaranteed to write the whole buffer
+            while (record.hasRemaining()) {
+                target.write(record);
+            }
+        }
+
+        private ByteBuffer record(byte[] payload) {
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                    .putInt(payload.length)
+                    .putInt((int) crc.getValue())
+                    .put(payload)
+                    .flip();
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.debugf(e, "Unable to close the checkpoint log %s", file);
+            }
+        }
+    }
+}
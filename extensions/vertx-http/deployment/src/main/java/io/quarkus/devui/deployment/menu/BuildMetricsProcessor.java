@@ -27,6 +27,12 @@ InternalPageBuildItem createBuildMetricsPages() {
                 .icon("font-awesome-solid:trowel")
                 .componentLink("qwc-build-items.js"));
 
+        buildMetricsPages.addPage(Page.webComponentPageBuilder()
+                .namespace("devui-build-metrics")
+                .title("Startup Timeline")
+                .icon("font-awesome-solid:stopwatch")
+                .componentLink("qwc-startup-timeline.js"));
+
         return buildMetricsPages;
     }
 }
\ No newline at end of file
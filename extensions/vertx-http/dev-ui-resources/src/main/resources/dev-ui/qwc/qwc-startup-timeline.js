@@ -0,0 +1,146 @@
+import { QwcHotReloadElement, html, css} from 'qwc-hot-reload-element';
+
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/grid';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import '@vaadin/grid/vaadin-grid-sort-column.js';
+import '@vaadin/icon';
+import '@vaadin/text-field';
+import '@vaadin/tabs';
+import '@vaadin/tabsheet';
+import '@vaadin/progress-bar';
+/**
+ * This component shows the Startup Timeline
+ */
+export class QwcStartupTimeline extends QwcHotReloadElement {
+
+  jsonRpc = new JsonRpc("devui-build-metrics", true);
+
+  static styles = css`
+      .startup-timeline {
+        height: 100%;
+        width: 100%;
+        display: flex;
+        flex-direction: column;
+        overflow: hidden;
+      }
+
+      vaadin-tabsheet, vaadin-grid {
+        height: 100%;
+      }
+
+      .summary {
+        margin-bottom: 15px;
+      }
+
+      .bar {
+        height: 10px;
+        background: var(--lumo-primary-color);
+      }
+
+      .datatable {
+        width: 100%;
+      }`;
+
+  static properties = {
+    _timeline: { state: true },
+    _filtered: { state: true, type: Array }
+  };
+
+  constructor() {
+    super();
+    this.hotReload();
+  }
+
+  hotReload(){
+    this.jsonRpc.getStartupTimeline().then(e => {
+      this._timeline = e.result;
+      this._filtered = this._timeline.entries;
+    });
+  }
+
+  render() {
+      if (this._timeline && this._filtered) {
+          return this._render();
+      }else {
+          return html`
+            <div style="color: var(--lumo-secondary-text-color);width: 95%;" >
+                <div>Loading startup timeline...</div>
+                <vaadin-progress-bar indeterminate></vaadin-progress-bar>
+            </div>
+            `;
+      }
+  }
+
+  _filter(e) {
+    const searchTerm = (e.detail.value || '').trim().toLowerCase();
+    if (searchTerm === '') {
+      this._filtered = this._timeline.entries;
+      return;
+    }
+    this._filtered = this._timeline.entries.filter((entry) => {
+      return entry.name && entry.name.toLowerCase().includes(searchTerm);
+    });
+  }
+
+  _render() {
+    return html`<div class="startup-timeline">
+            <div class="summary">Started in <strong>${this._millis(this._timeline.duration)}</strong> ms,
+                <strong>${this._timeline.entries.length}</strong> steps recorded.</div>
+            <vaadin-tabsheet>
+                <vaadin-tabs slot="tabs">
+                    <vaadin-tab id="steps-tab">Steps</vaadin-tab>
+                    <vaadin-tab id="class-loading-tab">Class loading</vaadin-tab>
+                </vaadin-tabs>
+                <div tab="steps-tab">
+                    <vaadin-text-field
+                            placeholder="Filter"
+                            style="width: 100%;"
+                            @value-changed="${(e) => this._filter(e)}">
+                        <vaadin-icon slot="prefix" icon="font-awesome-solid:filter"></vaadin-icon>
+                    </vaadin-text-field>
+                    <vaadin-grid .items="${this._filtered}" class="datatable" theme="row-stripes">
+                        <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Start (ms)" path="start"
+                                            ${columnBodyRenderer((entry) => html`${this._millis(entry.start)}`, [])}>
+                        </vaadin-grid-sort-column>
+                        <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Duration (ms)" path="duration"
+                                            ${columnBodyRenderer((entry) => html`${this._millis(entry.duration)}`, [])}>
+                        </vaadin-grid-sort-column>
+                        <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Phase" path="phase">
+                        </vaadin-grid-sort-column>
+                        <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Kind" path="kind">
+                        </vaadin-grid-sort-column>
+                        <vaadin-grid-sort-column resizable header="Name" path="name"
+                                            ${columnBodyRenderer((entry) => html`<code>${entry.name}</code>`, [])}>
+                        </vaadin-grid-sort-column>
+                        <vaadin-grid-column resizable header="Timeline"
+                                            ${columnBodyRenderer((entry) => this._barRenderer(entry), [])}>
+                        </vaadin-grid-column>
+                    </vaadin-grid>
+                </div>
+                <div tab="class-loading-tab">
+                    <vaadin-grid .items="${this._timeline.classLoading}" class="datatable" theme="row-stripes">
+                        <vaadin-grid-sort-column resizable header="Class path element" path="element"
+                                            ${columnBodyRenderer((element) => html`<code>${element.element}</code>`, [])}>
+                        </vaadin-grid-sort-column>
+                        <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Classes" path="classes">
+                        </vaadin-grid-sort-column>
+                        <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Bytes" path="bytes">
+                        </vaadin-grid-sort-column>
+                    </vaadin-grid>
+                </div>
+            </vaadin-tabsheet></div>`;
+  }
+
+  _barRenderer(entry) {
+    const total = this._timeline.duration > 0 ? this._timeline.duration : 1;
+    const left = Math.min(100, 100 * entry.start / total);
+    const width = Math.max(0.5, Math.min(100 - left, 100 * entry.duration / total));
+    return html`<div class="bar" style="margin-left: ${left}%; width: ${width}%;"></div>`;
+  }
+
+  _millis(micros) {
+    return (micros / 1000).toFixed(1);
+  }
+}
+customElements.define('qwc-startup-timeline', QwcStartupTimeline);
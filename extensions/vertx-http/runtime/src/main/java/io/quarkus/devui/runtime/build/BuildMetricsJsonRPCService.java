@@ -5,6 +5,7 @@
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import io.quarkus.runtime.util.StartupTimeline;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -52,6 +53,10 @@ public JsonObject getDependencyGraph(String buildStepId) {
         return null;
     }
 
+    public JsonObject getStartupTimeline() {
+        return new JsonObject(StartupTimeline.toJson());
+    }
+
     private Map<String, Object> buildStepMetrics() {
         BuildMetricsDevUIController controller = BuildMetricsDevUIController.get();
         return controller.getBuildStepsMetrics();
@@ -0,0 +1,166 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.quarkus.vertx.LocalEventDispatcher;
+import io.smallrye.common.annotation.Blocking;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryContext;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+
+public class LocalEventDispatcherTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(Consumers.class));
+
+    @Inject
+    LocalEventDispatcher dispatcher;
+
+    @Inject
+    Consumers consumers;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testSendIsOrdered() throws InterruptedException {
+        int count = 1000;
+        consumers.latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            dispatcher.send("ordered", i);
+        }
+        assertTrue(consumers.latch.await(5, TimeUnit.SECONDS));
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, consumers.received);
+        assertFalse(consumers.blockedEventLoop);
+    }
+
+    @Test
+    public void testBlockingPublish() throws InterruptedException {
+        consumers.latch = new CountDownLatch(2);
+        dispatcher.publish("blocking", "hello");
+        assertTrue(consumers.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("hello", "hello"), List.copyOf(consumers.blocking));
+        assertFalse(consumers.blockingOnEventLoop);
+    }
+
+    @Test
+    public void testRequest() throws Exception {
+        assertEquals("HELLO", dispatcher.request("upper", "hello").toCompletionStage().toCompletableFuture()
+                .get(5, TimeUnit.SECONDS));
+        Throwable failure = dispatcher.request("upper", "").toCompletionStage().toCompletableFuture()
+                .handle((r, t) -> t).get(5, TimeUnit.SECONDS);
+        assertInstanceOf(ReplyException.class, failure);
+        assertEquals(ConsumeEvent.FAILURE_CODE, ((ReplyException) failure).failureCode());
+    }
+
+    @Test
+    public void testRequestWithoutReplyTimesOut() throws Exception {
+        Throwable failure = dispatcher.request("ignored", "hello", Duration.ofMillis(100)).toCompletionStage()
+                .toCompletableFuture().handle((r, t) -> t).get(5, TimeUnit.SECONDS);
+        assertInstanceOf(ReplyException.class, failure);
+        assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) failure).failureType());
+    }
+
+    @Test
+    public void testClusteredAddressUsesEventBus() throws Exception {
+        List<String> sent = new CopyOnWriteArrayList<>();
+        Handler<DeliveryContext<Object>> interceptor = context -> {
+            sent.add(context.message().address());
+            context.next();
+        };
+        vertx.eventBus().addOutboundInterceptor(interceptor);
+        try {
+            assertEquals("clustered hello", dispatcher.request("clustered", "hello").toCompletionStage()
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS));
+            assertEquals("HELLO", dispatcher.request("upper", "hello").toCompletionStage()
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS));
+        } finally {
+            vertx.eventBus().removeOutboundInterceptor(interceptor);
+        }
+        assertTrue(sent.contains("clustered"));
+        assertFalse(sent.contains("upper"));
+    }
+
+    @ApplicationScoped
+    static class Consumers {
+
+        final List<Integer> received = new ArrayList<>();
+        final List<String> blocking = new CopyOnWriteArrayList<>();
+        volatile boolean blockedEventLoop;
+        volatile boolean blockingOnEventLoop;
+        volatile CountDownLatch latch;
+
+        @ConsumeEvent("ordered")
+        void ordered(Integer value) {
+            Context context = Vertx.currentContext();
+            if (context == null || !Context.isOnEventLoopThread()) {
+                blockedEventLoop = true;
+            }
+            received.add(value);
+            latch.countDown();
+        }
+
+        @ConsumeEvent("blocking")
+        @Blocking
+        void blocking1(String value) {
+            consume(value);
+        }
+
+        @ConsumeEvent("blocking")
+        @Blocking
+        void blocking2(String value) {
+            consume(value);
+        }
+
+        private void consume(String value) {
+            if (Context.isOnEventLoopThread()) {
+                blockingOnEventLoop = true;
+            }
+            blocking.add(value);
+            latch.countDown();
+        }
+
+        @ConsumeEvent("upper")
+        String upper(String value) {
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException("empty");
+            }
+            return value.toUpperCase();
+        }
+
+        @ConsumeEvent("ignored")
+        void ignored(String value) {
+        }
+
+        @ConsumeEvent(value = "clustered", local = false)
+        String clustered(String value) {
+            return "clustered " + value;
+        }
+    }
+}
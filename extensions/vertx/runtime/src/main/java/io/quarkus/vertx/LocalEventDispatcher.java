@@ -0,0 +1,59 @@
+package io.quarkus.vertx;
+
+import java.time.Duration;
+
+import io.vertx.core.Future;
+
+/**
+ * Delivers events straight to the local methods annotated with {@link ConsumeEvent}, without going through the event
+ * bus: the events are neither wrapped in event bus messages nor encoded, and no reply handler is registered.
+ * <p>
+ * The events sent to an address are delivered to each consumer in the order they were sent, in batches, on the context
+ * of the consumer. Events sent with this dispatcher are not ordered relative to the events sent to the same address
+ * with the {@link io.vertx.core.eventbus.EventBus}.
+ * <p>
+ * The events sent to an address without local consumer, or to an address with a consumer which is not
+ * {@linkplain ConsumeEvent#local() local}, and could therefore be consumed by other nodes of the cluster, are sent with
+ * the event bus.
+ */
+public interface LocalEventDispatcher {
+
+    /**
+     * Sends an event to one of the consumers of the address.
+     *
+     * @param address the address
+     * @param body the event
+     */
+    void send(String address, Object body);
+
+    /**
+     * Sends an event to all the consumers of the address.
+     *
+     * @param address the address
+     * @param body the event
+     */
+    void publish(String address, Object body);
+
+    /**
+     * Sends an event to one of the consumers of the address and expects a reply within the default send timeout of the
+     * event bus.
+     *
+     * @param address the address
+     * @param body the event
+     * @return the reply, failed with a {@link io.vertx.core.eventbus.ReplyException} if the consumer failed or did not
+     *         reply in time
+     * @see io.vertx.core.eventbus.DeliveryOptions#DEFAULT_TIMEOUT
+     */
+    <T> Future<T> request(String address, Object body);
+
+    /**
+     * Sends an event to one of the consumers of the address and expects a reply within the given timeout.
+     *
+     * @param address the address
+     * @param body the event
+     * @param timeout the timeout
+     * @return the reply, failed with a {@link io.vertx.core.eventbus.ReplyException} if the consumer failed or did not
+     *         reply in time
+     */
+    <T> Future<T> request(String address, Object body, Duration timeout);
+}
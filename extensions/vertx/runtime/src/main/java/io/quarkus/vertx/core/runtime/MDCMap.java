@@ -0,0 +1,196 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * The MDC map of a Vert.x context or a thread.
+ * <p>
+ * The entries are stored in an array of alternating keys and values, which is never modified once published: each
+ * update replaces the array with a new one. Taking a {@linkplain #snapshot() snapshot} of the map is therefore a
+ * constant time operation sharing the array, and the snapshot can be read by a log formatter while the original map
+ * keeps being updated. The lookups are linear, which is faster than hashing for the handful of entries an MDC usually
+ * holds.
+ * <p>
+ * The updates are atomic, so the map can be shared by the threads running the tasks of a context.
+ */
+final class MDCMap extends AbstractMap<String, Object> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private static final AtomicReferenceFieldUpdater<MDCMap, Object[]> ENTRIES = AtomicReferenceFieldUpdater
+            .newUpdater(MDCMap.class, Object[].class, "entries");
+
+    private volatile Object[] entries;
+
+    MDCMap() {
+        this(EMPTY);
+    }
+
+    private MDCMap(Object[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * @return a map with the current entries, which is not affected by the later updates of this map
+     */
+    MDCMap snapshot() {
+        return new MDCMap(entries);
+    }
+
+    /**
+     * @return whether all the values are strings, so that the map can be used as a map of strings
+     */
+    boolean hasStringValues() {
+        Object[] entries = this.entries;
+        for (int i = 1; i < entries.length; i += 2) {
+            if (!(entries[i] instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return entries.length >> 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(entries, key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object[] entries = this.entries;
+        int index = indexOf(entries, key);
+        return index >= 0 ? entries[index + 1] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        while (true) {
+            Object[] current = this.entries;
+            int index = indexOf(current, key);
+            Object[] updated;
+            Object oldValue;
+            if (index >= 0) {
+                oldValue = current[index + 1];
+                if (oldValue == value) {
+                    return oldValue;
+                }
+                updated = current.clone();
+                updated[index + 1] = value;
+            } else {
+                oldValue = null;
+                updated = Arrays.copyOf(current, current.length + 2);
+                updated[current.length] = key;
+                updated[current.length + 1] = value;
+            }
+            if (ENTRIES.compareAndSet(this, current, updated)) {
+                return oldValue;
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        while (true) {
+            Object[] current = this.entries;
+            int index = indexOf(current, key);
+            if (index < 0) {
+                return null;
+            }
+            Object[] updated = EMPTY;
+            if (current.length > 2) {
+                updated = new Object[current.length - 2];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 2, updated, index, current.length - index - 2);
+            }
+            if (ENTRIES.compareAndSet(this, current, updated)) {
+                return current[index + 1];
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries = EMPTY;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet(entries);
+    }
+
+    private static int indexOf(Object[] entries, Object key) {
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The entries when the set was created, the removals being applied to the map.
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        private final Object[] entries;
+
+        EntrySet(Object[] entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public int size() {
+            return entries.length >> 1;
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<>() {
+
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < entries.length;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (next >= entries.length) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, Object> entry = new SimpleImmutableEntry<>((String) entries[next], entries[next + 1]);
+                    next += 2;
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    if (next == 0) {
+                        throw new IllegalStateException();
+                    }
+                    MDCMap.this.remove(entries[next - 2]);
+                }
+            };
+        }
+    }
+}
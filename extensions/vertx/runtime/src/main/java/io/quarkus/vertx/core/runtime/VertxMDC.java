@@ -6,7 +6,6 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.logmanager.MDCProvider;
@@ -18,18 +17,18 @@
 public enum VertxMDC implements MDCProvider {
     INSTANCE;
 
-    final InheritableThreadLocal<Map<String, Object>> inheritableThreadLocalMap = new InheritableThreadLocal<>() {
+    final InheritableThreadLocal<MDCMap> inheritableThreadLocalMap = new InheritableThreadLocal<>() {
         @Override
-        protected Map<String, Object> childValue(Map<String, Object> parentValue) {
+        protected MDCMap childValue(MDCMap parentValue) {
             if (parentValue == null) {
                 return null;
             }
-            return new HashMap<>(parentValue);
+            return parentValue.snapshot();
         }
 
         @Override
-        protected Map<String, Object> initialValue() {
-            return new HashMap<>();
+        protected MDCMap initialValue() {
+            return new MDCMap();
         }
     };
 
@@ -240,14 +239,18 @@ public boolean isEmpty() {
     }
 
     /**
-     * Get a copy of the MDC map. This is a relatively expensive operation.
+     * Get a copy of the MDC map. This is a constant time operation when all the values are strings.
      * If the informed context is null it falls back to the thread local context map.
      *
      * @return a copy of the map
      */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public Map<String, String> copy(Context vertxContext) {
+        MDCMap contextualDataMap = contextualDataMap(vertxContext).snapshot();
+        if (contextualDataMap.hasStringValues()) {
+            return (Map) contextualDataMap;
+        }
         final HashMap<String, String> result = new HashMap<>();
-        Map<String, Object> contextualDataMap = contextualDataMap(vertxContext);
         for (Map.Entry<String, Object> entry : contextualDataMap.entrySet()) {
             result.put(entry.getKey(), entry.getValue().toString());
         }
@@ -255,13 +258,14 @@ public Map<String, String> copy(Context vertxContext) {
     }
 
     /**
-     * Get a copy of the MDC map. This is a relatively expensive operation.
+     * Get a copy of the MDC map. This is a constant time operation, the copy sharing the entries of the map until
+     * either of them is updated.
      * If the informed context is null it falls back to the thread local context map.
      *
      * @return a copy of the map
      */
     public Map<String, Object> copyObject(Context vertxContext) {
-        return new HashMap<>(contextualDataMap(vertxContext));
+        return contextualDataMap(vertxContext).snapshot();
     }
 
     /**
@@ -307,14 +311,12 @@ private Context getContext() {
      *
      * @return the current Contextual Data Map.
      */
-    @SuppressWarnings({ "unchecked" })
-    private Map<String, Object> contextualDataMap(Context ctx) {
+    private MDCMap contextualDataMap(Context ctx) {
         if (ctx == null) {
             return inheritableThreadLocalMap.get();
         }
 
         ConcurrentMap<Object, Object> lcd = Objects.requireNonNull((ContextInternal) ctx).localContextData();
-        return (ConcurrentMap<String, Object>) lcd.computeIfAbsent(VertxMDC.class.getName(),
-                k -> new ConcurrentHashMap<String, Object>());
+        return (MDCMap) lcd.computeIfAbsent(VertxMDC.class.getName(), k -> new MDCMap());
     }
 }
@@ -0,0 +1,57 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Delivers the events of the {@link LocalEventDispatcherImpl} to a consumer, in order, on the context of the consumer.
+ * <p>
+ * The events are queued, and a single task drains the queue on the context at a time, delivering up to
+ * {@value #BATCH_SIZE} events before yielding the event loop to the other tasks.
+ */
+final class LocalEventConsumer implements Handler<Void> {
+
+    static final int BATCH_SIZE = 64;
+
+    private final ContextInternal context;
+    private final Handler<Message<Object>> handler;
+    private final Queue<Message<Object>> queue = new ConcurrentLinkedQueue<>();
+    // the number of events queued since the last time the queue was seen empty
+    private final AtomicInteger pending = new AtomicInteger();
+
+    LocalEventConsumer(ContextInternal context, Handler<Message<Object>> handler) {
+        this.context = context;
+        this.handler = handler;
+    }
+
+    void deliver(Message<Object> message) {
+        queue.offer(message);
+        if (pending.getAndIncrement() == 0) {
+            context.runOnContext(this);
+        }
+    }
+
+    @Override
+    public void handle(Void ignored) {
+        int missed = pending.get();
+        int delivered = 0;
+        Message<Object> message;
+        while ((message = queue.poll()) != null) {
+            // each event is handled on its own duplicated context, as the event bus does
+            context.duplicate().dispatch(message, handler);
+            if (++delivered == BATCH_SIZE) {
+                context.runOnContext(this);
+                return;
+            }
+        }
+        if (pending.addAndGet(-missed) != 0) {
+            // events were queued while draining
+            context.runOnContext(this);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.quarkus.vertx.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.vertx.LocalEventDispatcher;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+
+/**
+ * The consumers are registered with their addresses when the {@link io.quarkus.vertx.ConsumeEvent} methods are
+ * registered on the event bus.
+ */
+public class LocalEventDispatcherImpl implements LocalEventDispatcher {
+
+    private final Vertx vertx;
+    private final Map<String, Consumers> consumers = new ConcurrentHashMap<>();
+
+    LocalEventDispatcherImpl(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    void register(String address, boolean local, LocalEventConsumer consumer) {
+        Consumers addressConsumers = consumers.computeIfAbsent(address, k -> new Consumers());
+        addressConsumers.list.add(consumer);
+        if (!local) {
+            addressConsumers.clustered = true;
+        }
+    }
+
+    void clear() {
+        consumers.clear();
+    }
+
+    @Override
+    public void send(String address, Object body) {
+        Consumers addressConsumers = localConsumers(address);
+        if (addressConsumers == null) {
+            vertx.eventBus().send(address, body);
+        } else {
+            addressConsumers.next().deliver(new LocalEventMessage(address, body, true, null));
+        }
+    }
+
+    @Override
+    public void publish(String address, Object body) {
+        Consumers addressConsumers = localConsumers(address);
+        if (addressConsumers == null) {
+            vertx.eventBus().publish(address, body);
+        } else {
+            for (LocalEventConsumer consumer : addressConsumers.list) {
+                consumer.deliver(new LocalEventMessage(address, body, false, null));
+            }
+        }
+    }
+
+    @Override
+    public <T> Future<T> request(String address, Object body) {
+        return request(address, body, Duration.ofMillis(DeliveryOptions.DEFAULT_TIMEOUT));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Future<T> request(String address, Object body, Duration timeout) {
+        long timeoutMillis = timeout.toMillis();
+        Consumers addressConsumers = localConsumers(address);
+        if (addressConsumers == null) {
+            return vertx.eventBus().<T> request(address, body, new DeliveryOptions().setSendTimeout(timeoutMillis))
+                    .map(Message::body);
+        }
+        Promise<Object> reply = Promise.promise();
+        // consumers which do not reply, e.g. void methods, never complete the promise: fail it as the event bus does
+        long timer = vertx.setTimer(timeoutMillis, id -> reply.tryFail(new ReplyException(ReplyFailure.TIMEOUT,
+                "Timed out after waiting " + timeoutMillis + "(ms) for a reply. address: " + address)));
+        reply.future().onComplete(ignored -> vertx.cancelTimer(timer));
+        addressConsumers.next().deliver(new LocalEventMessage(address, body, true, reply));
+        return (Future<T>) reply.future();
+    }
+
+    // the consumers of the address, null if the event bus must be used
+    private Consumers localConsumers(String address) {
+        Consumers addressConsumers = consumers.get(address);
+        if (addressConsumers == null || addressConsumers.clustered) {
+            return null;
+        }
+        return addressConsumers;
+    }
+
+    private static final class Consumers {
+
+        final List<LocalEventConsumer> list = new CopyOnWriteArrayList<>();
+        final AtomicInteger index = new AtomicInteger();
+        volatile boolean clustered;
+
+        // round-robin, as the event bus does for point-to-point messages
+        LocalEventConsumer next() {
+            return list.get(Math.floorMod(index.getAndIncrement(), list.size()));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.vertx.runtime;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+
+/**
+ * An event delivered by the {@link LocalEventDispatcherImpl}, which is not encoded and replies to a promise.
+ */
+final class LocalEventMessage implements Message<Object> {
+
+    private final String address;
+    private final Object body;
+    private final boolean send;
+    private final Promise<Object> reply;
+    private MultiMap headers;
+
+    LocalEventMessage(String address, Object body, boolean send, Promise<Object> reply) {
+        this.address = address;
+        this.body = body;
+        this.send = send;
+        this.reply = reply;
+    }
+
+    @Override
+    public String address() {
+        return address;
+    }
+
+    @Override
+    public MultiMap headers() {
+        if (headers == null) {
+            headers = MultiMap.caseInsensitiveMultiMap();
+        }
+        return headers;
+    }
+
+    @Override
+    public Object body() {
+        return body;
+    }
+
+    @Override
+    public String replyAddress() {
+        // there is no reply address, but the consumer must know a reply is expected
+        return reply != null ? address : null;
+    }
+
+    @Override
+    public boolean isSend() {
+        return send;
+    }
+
+    @Override
+    public void reply(Object message) {
+        reply(message, null);
+    }
+
+    @Override
+    public void reply(Object message, DeliveryOptions options) {
+        if (reply == null) {
+            return;
+        }
+        if (message instanceof ReplyException) {
+            reply.tryFail((ReplyException) message);
+        } else {
+            reply.tryComplete(message);
+        }
+    }
+
+    @Override
+    public <R> Future<Message<R>> replyAndRequest(Object message, DeliveryOptions options) {
+        return Future.failedFuture(new UnsupportedOperationException(
+                "The events delivered by the local event dispatcher do not support replyAndRequest"));
+    }
+
+    @Override
+    public void fail(int failureCode, String message) {
+        if (reply != null) {
+            reply.tryFail(new ReplyException(ReplyFailure.RECIPIENT_FAILURE, failureCode, message));
+        }
+    }
+}
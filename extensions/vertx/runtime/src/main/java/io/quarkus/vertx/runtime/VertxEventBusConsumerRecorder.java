@@ -49,6 +49,7 @@ public class VertxEventBusConsumerRecorder {
 
     static volatile Vertx vertx;
     static volatile List<MessageConsumer<?>> messageConsumers;
+    static volatile LocalEventDispatcherImpl localEventDispatcher;
 
     public void configureVertx(Supplier<Vertx> vertx,
             List<EventConsumerInfo> messageConsumerConfigurations,
@@ -56,6 +57,7 @@ public void configureVertx(Supplier<Vertx> vertx,
             List<Class<?>> selectorTypes) {
         VertxEventBusConsumerRecorder.vertx = vertx.get();
         VertxEventBusConsumerRecorder.messageConsumers = new CopyOnWriteArrayList<>();
+        VertxEventBusConsumerRecorder.localEventDispatcher = new LocalEventDispatcherImpl(VertxEventBusConsumerRecorder.vertx);
 
         registerMessageConsumers(messageConsumerConfigurations);
         registerCodecs(codecByClass, selectorTypes);
@@ -85,8 +87,13 @@ public static Vertx getVertx() {
         return vertx;
     }
 
+    public static LocalEventDispatcherImpl getLocalEventDispatcher() {
+        return localEventDispatcher;
+    }
+
     void destroy() {
         messageConsumers = null;
+        localEventDispatcher = null;
         vertx = null;
     }
 
@@ -107,6 +114,9 @@ void registerMessageConsumers(List<EventConsumerInfo> messageConsumerConfigurati
                 // If we don't all consumers will use the same event loop and so published messages (dispatched to all
                 // consumers) delivery is serialized.
                 ContextInternal context = vi.createEventLoopContext();
+                EventConsumerHandler handler = new EventConsumerHandler(invoker, blocking, runOnVirtualThread, ordered,
+                        context);
+                localEventDispatcher.register(address, local, new LocalEventConsumer(context, handler));
                 context.runOnContext(new Handler<Void>() {
                     @Override
                     public void handle(Void x) {
@@ -117,64 +127,7 @@ public void handle(Void x) {
                             consumer = eventBus.consumer(address);
                         }
 
-                        consumer.handler(new Handler<Message<Object>>() {
-                            @Override
-                            public void handle(Message<Object> m) {
-                                // Will run on the context used for the consumer registration.
-                                // It's a duplicated context, but we need to mark it as safe.
-                                // The safety comes from the fact that it's instantiated by Vert.x for every
-                                // message.
-                                setCurrentContextSafe(true);
-                                if (blocking) {
-                                    if (runOnVirtualThread) {
-                                        VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
-                                            @Override
-                                            public void run() {
-                                                try {
-                                                    invoker.invoke(m);
-                                                } catch (Exception e) {
-                                                    if (m.replyAddress() == null) {
-                                                        // No reply handler
-                                                        throw wrapIfNecessary(e);
-                                                    } else {
-                                                        m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
-                                                    }
-                                                }
-                                            }
-                                        });
-                                    } else {
-                                        Future<Void> future = Vertx.currentContext().executeBlocking(new Callable<Void>() {
-                                            @Override
-                                            public Void call() {
-                                                try {
-                                                    invoker.invoke(m);
-                                                } catch (Exception e) {
-                                                    if (m.replyAddress() == null) {
-                                                        // No reply handler
-                                                        throw wrapIfNecessary(e);
-                                                    } else {
-                                                        m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
-                                                    }
-                                                }
-                                                return null;
-                                            }
-                                        }, ordered);
-                                        future.onFailure(context::reportException);
-                                    }
-                                } else {
-                                    try {
-                                        invoker.invoke(m);
-                                    } catch (Exception e) {
-                                        if (m.replyAddress() == null) {
-                                            // No reply handler
-                                            throw wrapIfNecessary(e);
-                                        } else {
-                                            m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
-                                        }
-                                    }
-                                }
-                            }
-                        });
+                        consumer.handler(handler);
 
                         consumer.completionHandler(new Handler<AsyncResult<Void>>() {
                             @Override
@@ -202,6 +155,70 @@ public void handle(AsyncResult<Void> ar) {
         }
     }
 
+    /**
+     * Invokes an event consumer method, on the context of the message or on a worker thread.
+     */
+    static final class EventConsumerHandler implements Handler<Message<Object>> {
+
+        private final EventConsumerInvoker invoker;
+        private final boolean blocking;
+        private final boolean runOnVirtualThread;
+        private final boolean ordered;
+        private final ContextInternal context;
+
+        EventConsumerHandler(EventConsumerInvoker invoker, boolean blocking, boolean runOnVirtualThread, boolean ordered,
+                ContextInternal context) {
+            this.invoker = invoker;
+            this.blocking = blocking;
+            this.runOnVirtualThread = runOnVirtualThread;
+            this.ordered = ordered;
+            this.context = context;
+        }
+
+        @Override
+        public void handle(Message<Object> m) {
+            // Will run on the context used for the consumer registration.
+            // It's a duplicated context, but we need to mark it as safe.
+            // The safety comes from the fact that it's instantiated by Vert.x for every
+            // message.
+            setCurrentContextSafe(true);
+            if (blocking) {
+                if (runOnVirtualThread) {
+                    VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            invoke(m);
+                        }
+                    });
+                } else {
+                    Future<Void> future = Vertx.currentContext().executeBlocking(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            invoke(m);
+                            return null;
+                        }
+                    }, ordered);
+                    future.onFailure(context::reportException);
+                }
+            } else {
+                invoke(m);
+            }
+        }
+
+        private void invoke(Message<Object> m) {
+            try {
+                invoker.invoke(m);
+            } catch (Exception e) {
+                if (m.replyAddress() == null) {
+                    // No reply handler
+                    throw wrapIfNecessary(e);
+                } else {
+                    m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                }
+            }
+        }
+    }
+
     static RuntimeException wrapIfNecessary(Throwable e) {
         if (e instanceof Error) {
             throw (Error) e;
@@ -229,6 +246,7 @@ void unregisterMessageConsumers() {
             throw new IllegalStateException("Unable to unregister all message consumer methods", e);
         }
         messageConsumers.clear();
+        localEventDispatcher.clear();
     }
 
     @SuppressWarnings("unchecked")
@@ -14,12 +14,13 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.vertx.LocalEventDispatcher;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
 
 /**
- * Expose the Vert.x event bus and produces Mutiny instances.
+ * Expose the Vert.x event bus and the local event dispatcher, and produces Mutiny instances.
  * <p>
  * The original Vert.x instance is coming from the core artifact.
  *
@@ -49,6 +50,14 @@ public io.vertx.mutiny.core.eventbus.EventBus mutinyEventBus(io.vertx.mutiny.cor
         return mutiny.eventBus();
     }
 
+    @Singleton
+    @Produces
+    public LocalEventDispatcher localEventDispatcher(Vertx vertx) {
+        LocalEventDispatcherImpl dispatcher = VertxEventBusConsumerRecorder.getLocalEventDispatcher();
+        // the consumers are not registered yet, all the events go through the event bus
+        return dispatcher != null ? dispatcher : new LocalEventDispatcherImpl(vertx);
+    }
+
     /**
      * Undeploy verticles backed by contextual instances of {@link ApplicationScoped} beans before the application context is
      * destroyed. Otherwise, Vertx may attempt to stop the verticles after the CDI container is shut down.
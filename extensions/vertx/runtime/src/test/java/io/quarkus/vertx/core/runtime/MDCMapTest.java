@@ -0,0 +1,79 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MDCMapTest {
+
+    @Test
+    public void putGetRemove() {
+        MDCMap map = new MDCMap();
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertNull(map.put("a", "1"));
+        Assertions.assertNull(map.put("b", 2));
+        Assertions.assertEquals("1", map.put("a", "3"));
+        Assertions.assertEquals(2, map.size());
+        Assertions.assertEquals("3", map.get("a"));
+        Assertions.assertEquals(2, map.get("b"));
+        Assertions.assertNull(map.get("c"));
+
+        Assertions.assertEquals("3", map.remove("a"));
+        Assertions.assertNull(map.remove("a"));
+        Assertions.assertEquals(Map.of("b", 2), map);
+        map.clear();
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void snapshotIsNotAffectedByUpdates() {
+        MDCMap map = new MDCMap();
+        map.put("a", "1");
+        map.put("b", "2");
+        MDCMap snapshot = map.snapshot();
+
+        map.put("a", "3");
+        map.remove("b");
+        map.put("c", "4");
+        Assertions.assertEquals(Map.of("a", "1", "b", "2"), snapshot);
+        Assertions.assertEquals(Map.of("a", "3", "c", "4"), map);
+
+        // and the other way round
+        snapshot.put("d", "5");
+        Assertions.assertEquals(Map.of("a", "3", "c", "4"), map);
+    }
+
+    @Test
+    public void entrySet() {
+        MDCMap map = new MDCMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, i);
+        }
+        Map<String, Object> copy = new HashMap<>(map);
+        Assertions.assertEquals(20, copy.size());
+        Assertions.assertEquals(copy, map);
+        Assertions.assertEquals(copy.hashCode(), map.hashCode());
+
+        Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if ((Integer) iterator.next().getValue() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        Assertions.assertEquals(10, map.size());
+        Assertions.assertFalse(map.containsKey("key0"));
+        Assertions.assertTrue(map.containsKey("key1"));
+    }
+
+    @Test
+    public void stringValues() {
+        MDCMap map = new MDCMap();
+        map.put("a", "1");
+        Assertions.assertTrue(map.hasStringValues());
+        map.put("b", 2);
+        Assertions.assertFalse(map.hasStringValues());
+    }
+}
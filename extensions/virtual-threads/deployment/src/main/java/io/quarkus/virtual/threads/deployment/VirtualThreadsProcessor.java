@@ -13,7 +13,9 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.NativeMonitoringBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.pkg.NativeConfig;
 import io.quarkus.virtual.threads.VirtualThreads;
 import io.quarkus.virtual.threads.VirtualThreadsConfig;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
@@ -39,4 +41,15 @@ public void setup(VirtualThreadsConfig config, VirtualThreadsRecorder recorder,
                         .done());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void startPinningMonitor(VirtualThreadsConfig config, VirtualThreadsRecorder recorder,
+            ShutdownContextBuildItem shutdownContextBuildItem,
+            BuildProducer<NativeMonitoringBuildItem> nativeMonitoring) {
+        if (config.enabled() && config.pinningMonitor().enabled()) {
+            nativeMonitoring.produce(new NativeMonitoringBuildItem(NativeConfig.MonitoringOption.JFR));
+            recorder.startPinningMonitor(shutdownContextBuildItem);
+        }
+    }
+
 }
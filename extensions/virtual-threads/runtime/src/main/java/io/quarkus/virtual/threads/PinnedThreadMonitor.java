@@ -0,0 +1,234 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Records the pinning of carrier threads by virtual threads, and the virtual threads which could not be scheduled,
+ * with a JFR stream of the {@code jdk.VirtualThreadPinned} and {@code jdk.VirtualThreadSubmitFailed} events.
+ * <p>
+ * The pinning events are aggregated by site, the first frame of the stack trace outside the JDK, so that the memory
+ * used is bounded by the maximum number of sites. The pinning events of the sites beyond this maximum are aggregated
+ * in the {@value #OTHER_SITE} site. The stack trace of the first pinning of each site is logged.
+ */
+public final class PinnedThreadMonitor {
+
+    private static final Logger logger = Logger.getLogger("io.quarkus.virtual-threads");
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    public static final String OTHER_SITE = "<other>";
+    private static final int MAX_LOGGED_FRAMES = 16;
+
+    private static volatile PinnedThreadMonitor current;
+
+    private final int maxSites;
+    private final Map<String, PinningSite> sites = new ConcurrentHashMap<>();
+    private final List<Consumer<PinningSite>> siteListeners = new CopyOnWriteArrayList<>();
+    private final LongAdder submitFailed = new LongAdder();
+    private volatile RecordingStream stream;
+
+    PinnedThreadMonitor(int maxSites) {
+        this.maxSites = maxSites;
+    }
+
+    /**
+     * @return the running monitor, {@code null} if the monitor is not enabled
+     */
+    public static PinnedThreadMonitor current() {
+        return current;
+    }
+
+    static void start(VirtualThreadsConfig.PinningMonitorConfig config) {
+        PinnedThreadMonitor monitor = new PinnedThreadMonitor(config.maxSites());
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(config.threshold()).withStackTrace();
+        stream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+        stream.onEvent(PINNED_EVENT, monitor::onPinned);
+        stream.onEvent(SUBMIT_FAILED_EVENT, monitor::onSubmitFailed);
+        stream.setMaxAge(Duration.ofSeconds(10));
+        stream.startAsync();
+        monitor.stream = stream;
+        current = monitor;
+        logger.debugf("Monitoring the pinning of carrier threads longer than %s", config.threshold());
+    }
+
+    static void stop() {
+        PinnedThreadMonitor monitor = current;
+        current = null;
+        if (monitor != null && monitor.stream != null) {
+            monitor.stream.close();
+        }
+    }
+
+    /**
+     * @return the number of times a carrier thread was pinned
+     */
+    public long pinnedCount() {
+        long count = 0;
+        for (PinningSite site : sites.values()) {
+            count += site.count();
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of virtual threads which could not be scheduled on a carrier thread
+     */
+    public long submitFailedCount() {
+        return submitFailed.sum();
+    }
+
+    /**
+     * @return the pinning sites, the most frequent first
+     */
+    public List<PinningSite> sites() {
+        List<PinningSite> list = new ArrayList<>(sites.values());
+        list.sort(Comparator.comparingLong(PinningSite::count).reversed());
+        return list;
+    }
+
+    /**
+     * Registers a listener notified when a new pinning site is recorded.
+     */
+    public void addSiteListener(Consumer<PinningSite> listener) {
+        siteListeners.add(listener);
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        record(siteOf(frames), event.getDuration(), frames);
+    }
+
+    void record(String name, Duration duration, List<RecordedFrame> frames) {
+        PinningSite site = sites.get(name);
+        if (site == null) {
+            if (sites.size() >= maxSites) {
+                name = OTHER_SITE;
+            }
+            PinningSite created = new PinningSite(name);
+            site = sites.putIfAbsent(name, created);
+            if (site == null) {
+                site = created;
+                if (!OTHER_SITE.equals(name)) {
+                    logger.warnf("A virtual thread pinned its carrier thread for %d ms at %s%s", duration.toMillis(), name,
+                            toString(frames));
+                }
+                for (Consumer<PinningSite> listener : siteListeners) {
+                    listener.accept(site);
+                }
+            }
+        }
+        site.record(duration);
+    }
+
+    void onSubmitFailed(RecordedEvent event) {
+        submitFailed.increment();
+        if (submitFailed.sum() == 1) {
+            logger.warnf("A virtual thread could not be scheduled on a carrier thread: %s",
+                    event.getString("exceptionMessage"));
+        }
+    }
+
+    // the first frame outside the JDK, which is usually the code holding a monitor
+    static String siteOf(List<RecordedFrame> frames) {
+        RecordedFrame site = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (site == null) {
+                site = frame;
+            }
+            if (!isJdkClass(frame.getMethod().getType().getName())) {
+                site = frame;
+                break;
+            }
+        }
+        return site != null ? toString(site) : OTHER_SITE;
+    }
+
+    static boolean isJdkClass(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")
+                || className.startsWith("com.sun.");
+    }
+
+    private static String toString(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String toString(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        int count = 0;
+        for (RecordedFrame frame : frames) {
+            if (count++ == MAX_LOGGED_FRAMES) {
+                sb.append("\n\t...");
+                break;
+            }
+            sb.append("\n\tat ").append(toString(frame));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The pinning events of a site.
+     */
+    public static final class PinningSite {
+
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        PinningSite(String name) {
+            this.name = name;
+        }
+
+        void record(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * @return the first frame outside the JDK, as {@code class.method:line}, or {@value PinnedThreadMonitor#OTHER_SITE}
+         */
+        public String name() {
+            return name;
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public Duration totalDuration() {
+            return Duration.ofNanos(totalNanos.sum());
+        }
+
+        public Duration maxDuration() {
+            return Duration.ofNanos(maxNanos.get());
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + count() + " times, " + totalDuration().toMillis() + " ms)";
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.MDC;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.ManagedContext;
+import io.vertx.core.Vertx;
+
+/**
+ * A scope to run subtasks concurrently on virtual threads and wait for all of them, in the spirit of
+ * {@code java.util.concurrent.StructuredTaskScope}.
+ * <p>
+ * Subtasks are forked from the thread which opened the scope, and run with its context: the Vert.x duplicated context,
+ * which carries the OpenTelemetry context and the MDC when there is one, and otherwise the MDC and the CDI request
+ * context of the thread. When a subtask fails, the other subtasks are cancelled and {@link #join()} throws the failure.
+ * When the deadline of the scope is reached, the subtasks are cancelled and {@link #join()} throws a
+ * {@link TimeoutException}. A scope opened from a subtask cannot outlive the deadline of the enclosing scope.
+ * Closing the scope cancels the subtasks still running and waits for them to finish.
+ *
+ * <pre>
+ * try (TaskScope scope = TaskScope.open(Duration.ofSeconds(2))) {
+ *     TaskScope.Subtask&lt;User&gt; user = scope.fork(() -&gt; users.get(id));
+ *     TaskScope.Subtask&lt;List&lt;Order&gt;&gt; orders = scope.fork(() -&gt; orders.list(id));
+ *     scope.join();
+ *     return new Summary(user.get(), orders.get());
+ * }
+ * </pre>
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger("io.quarkus.virtual-threads");
+
+    // the scope of the subtask running on the current thread, used to inherit its deadline
+    private static final ThreadLocal<TaskScope> CURRENT = new ThreadLocal<>();
+
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final ExecutorService executor;
+    // in System.nanoTime() terms, or NO_DEADLINE
+    final long deadline;
+    private final Thread owner = Thread.currentThread();
+    private final long start = System.nanoTime();
+    private final List<SubtaskImpl<?>> subtasks = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition completed = lock.newCondition();
+    private int running;
+    private int failed;
+    private Throwable failure;
+    private boolean cancelled;
+    private boolean closed;
+
+    TaskScope(ExecutorService executor, Duration timeout) {
+        this.executor = executor;
+        long deadline = timeout == null ? NO_DEADLINE : start + timeout.toNanos();
+        TaskScope parent = CURRENT.get();
+        if (parent != null && parent.deadline != NO_DEADLINE
+                && (deadline == NO_DEADLINE || parent.deadline - deadline < 0)) {
+            deadline = parent.deadline;
+        }
+        this.deadline = deadline;
+    }
+
+    /**
+     * Opens a scope without deadline, unless it is opened from a subtask of a scope with a deadline.
+     */
+    public static TaskScope open() {
+        return new TaskScope(VirtualThreadsRecorder.getCurrent(), null);
+    }
+
+    /**
+     * Opens a scope whose subtasks are cancelled after the given timeout, or at the deadline of the enclosing scope if
+     * it is earlier.
+     */
+    public static TaskScope open(Duration timeout) {
+        return new TaskScope(VirtualThreadsRecorder.getCurrent(), timeout);
+    }
+
+    /**
+     * Starts a subtask on a new virtual thread.
+     *
+     * @throws IllegalStateException if the scope is closed, or not called from the thread which opened the scope
+     * @throws RejectedExecutionException if the subtask cannot be started
+     */
+    public <T> Subtask<T> fork(Callable<? extends T> task) {
+        checkOwner();
+        SubtaskImpl<T> subtask = new SubtaskImpl<>(task);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The scope is closed");
+            }
+            subtasks.add(subtask);
+            if (cancelled) {
+                subtask.state = Subtask.State.CANCELLED;
+                return subtask;
+            }
+            running++;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            executor.execute(subtask);
+        } catch (RejectedExecutionException e) {
+            lock.lock();
+            try {
+                subtasks.remove(subtask);
+                running--;
+                completed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        return subtask;
+    }
+
+    /**
+     * Waits for all the subtasks to complete.
+     *
+     * @throws ExecutionException if a subtask failed, the other subtasks are cancelled
+     * @throws TimeoutException if the deadline of the scope is reached, the subtasks are cancelled
+     * @throws InterruptedException if the current thread is interrupted, the subtasks are cancelled
+     */
+    public TaskScope join() throws InterruptedException, ExecutionException, TimeoutException {
+        checkOwner();
+        lock.lock();
+        try {
+            while (running > 0 && failure == null) {
+                if (deadline == NO_DEADLINE) {
+                    completed.await();
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                completed.awaitNanos(remaining);
+            }
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            if (running > 0) {
+                cancelAll();
+                throw new TimeoutException("The subtasks did not complete within the deadline of the scope");
+            }
+            return this;
+        } catch (InterruptedException e) {
+            cancelAll();
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels the subtasks still running, waits for them to finish and closes the scope.
+     * <p>
+     * The subtasks are interrupted: a subtask which does not respond to interruption delays the closing of the scope.
+     * If the current thread is interrupted while waiting, it keeps waiting and its interrupt status is set again.
+     */
+    @Override
+    public void close() {
+        checkOwner();
+        boolean interrupted = false;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            cancelAll();
+            while (running > 0) {
+                try {
+                    completed.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            lock.unlock();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        logger.debugf("Task scope completed %d subtask(s), %d failed, in %d ms", subtasks.size(), failed,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos()));
+    }
+
+    /**
+     * @return the number of forked subtasks
+     */
+    public int forked() {
+        lock.lock();
+        try {
+            return subtasks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of failed subtasks, which does not include the cancelled subtasks
+     */
+    public int failed() {
+        lock.lock();
+        try {
+            return failed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the time elapsed since the scope was opened
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(elapsedNanos());
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - start;
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("The scope can only be used by the thread which opened it");
+        }
+    }
+
+    // called with the lock held
+    private void cancelAll() {
+        cancelled = true;
+        for (SubtaskImpl<?> subtask : subtasks) {
+            if (subtask.state == Subtask.State.UNAVAILABLE) {
+                subtask.state = Subtask.State.CANCELLED;
+                if (subtask.thread != null) {
+                    subtask.thread.interrupt();
+                }
+            }
+        }
+    }
+
+    private void complete(SubtaskImpl<?> subtask, Throwable t) {
+        lock.lock();
+        try {
+            running--;
+            if (subtask.thread != null) {
+                subtask.thread = null;
+                // the subtask may have been cancelled after it completed, the thread must not stay interrupted
+                Thread.interrupted();
+            }
+            if (subtask.state == Subtask.State.UNAVAILABLE) {
+                if (t == null) {
+                    subtask.state = Subtask.State.SUCCESS;
+                } else {
+                    subtask.state = Subtask.State.FAILED;
+                    failed++;
+                    if (failure == null) {
+                        failure = t;
+                        cancelAll();
+                    }
+                }
+            }
+            completed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A subtask forked in a {@link TaskScope}.
+     */
+    public interface Subtask<T> {
+
+        enum State {
+            /**
+             * The subtask has not completed yet.
+             */
+            UNAVAILABLE,
+            SUCCESS,
+            FAILED,
+            CANCELLED
+        }
+
+        State state();
+
+        /**
+         * @return the result of the subtask
+         * @throws IllegalStateException if the subtask did not complete successfully
+         */
+        T get();
+
+        /**
+         * @return the exception thrown by the subtask
+         * @throws IllegalStateException if the subtask did not fail
+         */
+        Throwable exception();
+    }
+
+    private final class SubtaskImpl<T> implements Subtask<T>, Runnable {
+
+        private final Callable<? extends T> task;
+        private final ManagedContext requestContext;
+        private final InjectableContext.ContextState requestContextState;
+        private final Map<String, Object> mdc;
+        // guarded by the lock of the scope
+        private State state = State.UNAVAILABLE;
+        // the thread running the subtask, guarded by the lock of the scope
+        private Thread thread;
+        private volatile T result;
+        private volatile Throwable exception;
+
+        SubtaskImpl(Callable<? extends T> task) {
+            this.task = task;
+            ArcContainer container = Arc.container();
+            if (container != null && container.requestContext().isActive()) {
+                this.requestContext = container.requestContext();
+                this.requestContextState = requestContext.getState();
+            } else {
+                this.requestContext = null;
+                this.requestContextState = null;
+            }
+            // the MDC is stored in the Vert.x duplicated context when there is one, which is propagated by the executor
+            this.mdc = Vertx.currentContext() == null ? MDC.getMap() : null;
+        }
+
+        @Override
+        public void run() {
+            boolean started;
+            lock.lock();
+            try {
+                started = state != State.CANCELLED;
+                if (started) {
+                    thread = Thread.currentThread();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!started) {
+                // cancelled before it started
+                complete(this, null);
+                return;
+            }
+            TaskScope previousScope = CURRENT.get();
+            CURRENT.set(TaskScope.this);
+            boolean activated = false;
+            Map<String, Object> previousMdc = null;
+            Throwable t = null;
+            try {
+                if (requestContext != null && !requestContext.isActive()) {
+                    requestContext.activate(requestContextState);
+                    activated = true;
+                }
+                if (mdc != null && !mdc.isEmpty()) {
+                    previousMdc = MDC.getMap();
+                    for (Map.Entry<String, Object> entry : mdc.entrySet()) {
+                        MDC.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                result = task.call();
+            } catch (Throwable e) {
+                exception = e;
+                t = e;
+            } finally {
+                if (previousMdc != null) {
+                    MDC.clear();
+                    for (Map.Entry<String, Object> entry : previousMdc.entrySet()) {
+                        MDC.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                if (activated) {
+                    requestContext.deactivate();
+                }
+                if (previousScope != null) {
+                    CURRENT.set(previousScope);
+                } else {
+                    CURRENT.remove();
+                }
+                complete(this, t);
+            }
+        }
+
+        @Override
+        public State state() {
+            lock.lock();
+            try {
+                return state;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public T get() {
+            if (state() != State.SUCCESS) {
+                throw new IllegalStateException("The subtask did not complete successfully: " + state());
+            }
+            return result;
+        }
+
+        @Override
+        public Throwable exception() {
+            if (state() != State.FAILED) {
+                throw new IllegalStateException("The subtask did not fail: " + state());
+            }
+            return exception;
+        }
+    }
+}
@@ -41,4 +41,32 @@ public interface VirtualThreadsConfig {
      */
     @WithDefault("true")
     boolean enabled();
+
+    /**
+     * Pinning monitor configuration.
+     */
+    PinningMonitorConfig pinningMonitor();
+
+    interface PinningMonitorConfig {
+
+        /**
+         * If {@code true}, the pinning of carrier threads by virtual threads and the virtual threads which could not be
+         * scheduled are recorded with JFR, on Java 21+. The pinning events are aggregated by site, and the first pinning of
+         * each site is logged with its stack trace.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The minimum duration of the recorded pinning events.
+         */
+        @WithDefault("20ms")
+        Duration threshold();
+
+        /**
+         * The maximum number of pinning sites. The pinning events of further sites are aggregated together.
+         */
+        @WithDefault("64")
+        int maxSites();
+    }
 }
@@ -14,6 +14,7 @@
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.util.JavaVersionUtil;
 
 @Recorder
 public class VirtualThreadsRecorder {
@@ -84,6 +85,18 @@ public void run() {
         }
     }
 
+    public void startPinningMonitor(ShutdownContext shutdownContext) {
+        if (config.enabled() && config.pinningMonitor().enabled() && JavaVersionUtil.isJava21OrHigher()) {
+            PinnedThreadMonitor.start(config.pinningMonitor());
+            shutdownContext.addShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    PinnedThreadMonitor.stop();
+                }
+            });
+        }
+    }
+
     public Supplier<ExecutorService> getCurrentSupplier() {
         return VIRTUAL_THREADS_EXECUTOR_SUPPLIER;
     }
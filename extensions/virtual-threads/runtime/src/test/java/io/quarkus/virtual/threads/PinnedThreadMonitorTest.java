@@ -0,0 +1,51 @@
+package io.quarkus.virtual.threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PinnedThreadMonitorTest {
+
+    @Test
+    void aggregateBySite() {
+        PinnedThreadMonitor monitor = new PinnedThreadMonitor(10);
+        monitor.record("org.acme.Foo.bar:12", Duration.ofMillis(30), List.of());
+        monitor.record("org.acme.Foo.bar:12", Duration.ofMillis(50), List.of());
+        monitor.record("org.acme.Baz.qux:7", Duration.ofMillis(25), List.of());
+
+        assertThat(monitor.pinnedCount()).isEqualTo(3);
+        List<PinnedThreadMonitor.PinningSite> sites = monitor.sites();
+        assertThat(sites).hasSize(2);
+        assertThat(sites.get(0).name()).isEqualTo("org.acme.Foo.bar:12");
+        assertThat(sites.get(0).count()).isEqualTo(2);
+        assertThat(sites.get(0).totalDuration()).isEqualTo(Duration.ofMillis(80));
+        assertThat(sites.get(0).maxDuration()).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    void boundedNumberOfSites() {
+        PinnedThreadMonitor monitor = new PinnedThreadMonitor(2);
+        List<String> created = new ArrayList<>();
+        monitor.addSiteListener(site -> created.add(site.name()));
+        for (int i = 0; i < 10; i++) {
+            monitor.record("org.acme.Foo.bar:" + i, Duration.ofMillis(20), List.of());
+        }
+
+        assertThat(monitor.pinnedCount()).isEqualTo(10);
+        assertThat(monitor.sites()).hasSize(3);
+        assertThat(monitor.sites().get(0).name()).isEqualTo(PinnedThreadMonitor.OTHER_SITE);
+        assertThat(monitor.sites().get(0).count()).isEqualTo(8);
+        assertThat(created).containsExactly("org.acme.Foo.bar:0", "org.acme.Foo.bar:1", PinnedThreadMonitor.OTHER_SITE);
+    }
+
+    @Test
+    void jdkClasses() {
+        assertThat(PinnedThreadMonitor.isJdkClass("java.lang.VirtualThread")).isTrue();
+        assertThat(PinnedThreadMonitor.isJdkClass("jdk.internal.misc.Unsafe")).isTrue();
+        assertThat(PinnedThreadMonitor.isJdkClass("org.acme.Foo")).isFalse();
+    }
+}
@@ -0,0 +1,155 @@
+package io.quarkus.virtual.threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskScopeTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createExecutor() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void join() throws Exception {
+        try (TaskScope scope = new TaskScope(executor, null)) {
+            TaskScope.Subtask<String> hello = scope.fork(() -> "hello");
+            TaskScope.Subtask<Integer> answer = scope.fork(() -> 42);
+            scope.join();
+            assertThat(hello.get()).isEqualTo("hello");
+            assertThat(answer.get()).isEqualTo(42);
+            assertThat(scope.forked()).isEqualTo(2);
+            assertThat(scope.failed()).isZero();
+        }
+    }
+
+    @Test
+    void failureCancelsSiblings() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (TaskScope scope = new TaskScope(executor, null)) {
+            TaskScope.Subtask<Object> slow = scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return null;
+            });
+            TaskScope.Subtask<Object> failing = scope.fork(() -> {
+                started.await();
+                throw new IllegalStateException("boom");
+            });
+            assertThatThrownBy(scope::join).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(failing.state()).isEqualTo(TaskScope.Subtask.State.FAILED);
+            assertThat(slow.state()).isEqualTo(TaskScope.Subtask.State.CANCELLED);
+            assertThat(scope.failed()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void deadline() {
+        try (TaskScope scope = new TaskScope(executor, Duration.ofMillis(100))) {
+            TaskScope.Subtask<Object> slow = scope.fork(() -> {
+                Thread.sleep(10_000);
+                return null;
+            });
+            assertThatThrownBy(scope::join).isInstanceOf(TimeoutException.class);
+            assertThat(slow.state()).isEqualTo(TaskScope.Subtask.State.CANCELLED);
+        }
+    }
+
+    @Test
+    void nestedScopeInheritsDeadline() throws Exception {
+        try (TaskScope scope = new TaskScope(executor, Duration.ofSeconds(10))) {
+            TaskScope.Subtask<Long> nested = scope.fork(() -> {
+                try (TaskScope inner = new TaskScope(executor, Duration.ofSeconds(30))) {
+                    return inner.deadline;
+                }
+            });
+            scope.join();
+            assertThat(nested.get()).isEqualTo(scope.deadline);
+        }
+    }
+
+    @Test
+    void mdcIsPropagated() throws Exception {
+        MDC.put("requestId", "abc");
+        try (TaskScope scope = new TaskScope(executor, null)) {
+            TaskScope.Subtask<Object> requestId = scope.fork(() -> MDC.get("requestId"));
+            scope.join();
+            assertThat(requestId.get()).isEqualTo("abc");
+        } finally {
+            MDC.remove("requestId");
+        }
+    }
+
+    @Test
+    void forkFromAnotherThread() throws Exception {
+        try (TaskScope scope = new TaskScope(executor, null)) {
+            TaskScope.Subtask<Object> fork = scope.fork(() -> scope.fork(() -> "nested"));
+            assertThatThrownBy(scope::join).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(fork.state()).isEqualTo(TaskScope.Subtask.State.FAILED);
+        }
+    }
+
+    @Test
+    void closeWaitsForCancelledSubtasks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        try (TaskScope scope = new TaskScope(executor, null)) {
+            scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    // a subtask which takes time to stop once cancelled
+                    Thread.sleep(200);
+                    finished.set(true);
+                }
+                return null;
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(finished).isTrue();
+    }
+
+    @Test
+    void rejectedFork() throws Exception {
+        ExecutorService stopped = Executors.newSingleThreadExecutor();
+        stopped.shutdown();
+        try (TaskScope scope = new TaskScope(stopped, null)) {
+            assertThatThrownBy(() -> scope.fork(() -> "rejected")).isInstanceOf(RejectedExecutionException.class);
+            // the rejected subtask is not waited for
+            scope.join();
+            assertThat(scope.forked()).isZero();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.commons.classloading;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the classes, and their bytes, defined from each class path element by the Quarkus class loaders.
+ * <p>
+ * The counts are only collected when the {@value #ENABLED_PROPERTY} system property is set to {@code true}, and are
+ * reported by the startup timeline. This class is loaded parent first, so the counts are shared by all the class loaders.
+ */
+public final class ClassLoadingStatistics {
+
+    public static final String ENABLED_PROPERTY = "quarkus.debug.startup-timeline";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final ConcurrentMap<String, Counts> COUNTS = new ConcurrentHashMap<>();
+
+    private ClassLoadingStatistics() {
+        //Not meant to be instantiated
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Records a class defined from the given class path element, does nothing if the statistics are not enabled.
+     *
+     * @param element the name of the class path element
+     * @param bytes the size of the class
+     */
+    public static void classDefined(final String element, final int bytes) {
+        if (!ENABLED) {
+            return;
+        }
+        Counts counts = COUNTS.get(element);
+        if (counts == null) {
+            //Important: avoid indy!
+            Counts newCounts = new Counts();
+            counts = COUNTS.putIfAbsent(element, newCounts);
+            if (counts == null) {
+                counts = newCounts;
+            }
+        }
+        counts.classes.increment();
+        counts.bytes.add(bytes);
+    }
+
+    /**
+     * @return the number of classes and of bytes defined so far, by class path element name
+     */
+    public static Map<String, long[]> snapshot() {
+        Map<String, long[]> result = new TreeMap<>();
+        for (Map.Entry<String, Counts> entry : COUNTS.entrySet()) {
+            result.put(entry.getKey(), new long[] { entry.getValue().classes.sum(), entry.getValue().bytes.sum() });
+        }
+        return result;
+    }
+
+    private static final class Counts {
+        final LongAdder classes = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+    }
+}
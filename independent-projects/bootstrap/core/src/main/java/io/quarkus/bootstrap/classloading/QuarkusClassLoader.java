@@ -28,6 +28,8 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.commons.classloading.ClassLoaderHelper;
+import io.quarkus.commons.classloading.ClassLoadingStatistics;
+import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.paths.ManifestAttributes;
 import io.quarkus.paths.PathVisit;
 
@@ -561,6 +563,11 @@ protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundE
                         if (Driver.class.isAssignableFrom(cl)) {
                             driverLoaded = true;
                         }
+                        if (ClassLoadingStatistics.isEnabled()) {
+                            ArtifactKey key = classPathElement.getDependencyKey();
+                            ClassLoadingStatistics.classDefined(
+                                    key != null ? key.toString() : String.valueOf(classPathElement.getRoot()), data.length);
+                        }
                         return cl;
                     }
                 }
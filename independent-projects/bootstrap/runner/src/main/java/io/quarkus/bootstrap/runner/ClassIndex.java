@@ -0,0 +1,419 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An exact index of the classes of the fast-jar class path, giving the location of each class within its jar.
+ * <p>
+ * The index is written during the build, sorted by class resource name, and memory mapped at startup.
+ * The jars themselves are memory mapped the first time a class is loaded from them, and the class data is read directly
+ * at the recorded offset: the central directory of the jars is never read, and the jars are not kept open.
+ * <p>
+ * Multi-release and signed jars, as well as jars with class entries which cannot be read this way, are not indexed,
+ * in which case their classes are loaded through the {@link JarResource} as usual. A jar which does not have the size recorded in the index is
+ * never read through the index.
+ *
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+public final class ClassIndex {
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+
+    // name offset, name length, jar index, compression method, padding, local header offset, compressed size, size
+    private static final int ENTRY_SIZE = 24;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_SIZE = 22;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private static final ByteBuffer UNUSABLE = ByteBuffer.allocate(0);
+    private static final Entry NOT_INDEXED = new Entry(null, null, -1, -1, -1, -1, -1);
+
+    private final ByteBuffer index;
+    private final int entries;
+    private final int entriesStart;
+    private final int namesStart;
+    private final JarResource[] jars;
+    private final long[] jarSizes;
+    private final AtomicReferenceArray<ByteBuffer> mappedJars;
+
+    private ClassIndex(ByteBuffer index, int entries, int entriesStart, JarResource[] jars, long[] jarSizes) {
+        this.index = index;
+        this.entries = entries;
+        this.entriesStart = entriesStart;
+        this.namesStart = entriesStart + entries * ENTRY_SIZE;
+        this.jars = jars;
+        this.jarSizes = jarSizes;
+        this.mappedJars = new AtomicReferenceArray<>(jars.length);
+    }
+
+    /**
+     * Write the index of the given class path.
+     */
+    public static void write(OutputStream outputStream, Path applicationRoot, List<Path> classPath) throws IOException {
+        // the first jar of the class path wins, as with the directory index, so the classes which cannot be indexed
+        // still hide the classes of the same name in the following jars
+        Map<String, Entry> byName = new HashMap<>();
+        List<Path> indexedJars = new ArrayList<>();
+        for (Path jar : classPath) {
+            if (!Files.isRegularFile(jar)) {
+                continue;
+            }
+            List<Entry> jarEntries = readCentralDirectory(jar, indexedJars.size());
+            if (jarEntries == null) {
+                try (ZipFile zip = new ZipFile(jar.toFile())) {
+                    zip.stream().map(ZipEntry::getName).filter(n -> n.endsWith(".class"))
+                            .forEach(n -> byName.putIfAbsent(n, NOT_INDEXED));
+                }
+                continue;
+            }
+            indexedJars.add(jar);
+            for (Entry entry : jarEntries) {
+                byName.putIfAbsent(entry.name, entry);
+            }
+        }
+        List<Entry> sorted = new ArrayList<>(byName.size());
+        for (Entry entry : byName.values()) {
+            if (entry != NOT_INDEXED) {
+                sorted.add(entry);
+            }
+        }
+        sorted.sort((a, b) -> Arrays.compareUnsigned(a.nameBytes, b.nameBytes));
+
+        try (DataOutputStream data = new DataOutputStream(outputStream)) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(indexedJars.size());
+            for (Path jar : indexedJars) {
+                byte[] path = applicationRoot.relativize(jar).toString().replace('\\', '/')
+                        .getBytes(StandardCharsets.UTF_8);
+                data.writeInt(path.length);
+                data.write(path);
+                data.writeLong(Files.size(jar));
+            }
+            data.writeInt(sorted.size());
+            int nameOffset = 0;
+            for (Entry entry : sorted) {
+                data.writeInt(nameOffset);
+                data.writeShort(entry.nameBytes.length);
+                data.writeShort(entry.jarIndex);
+                data.writeShort(entry.method);
+                data.writeShort(0);
+                data.writeInt((int) entry.localHeaderOffset);
+                data.writeInt((int) entry.compressedSize);
+                data.writeInt((int) entry.size);
+                nameOffset += entry.nameBytes.length;
+            }
+            for (Entry entry : sorted) {
+                data.write(entry.nameBytes);
+            }
+            data.flush();
+        }
+    }
+
+    /**
+     * Map the index, if it exists and matches the given class path.
+     *
+     * @return the index, or {@code null} if it cannot be used
+     */
+    static ClassIndex read(Path file, Path appRoot, ClassLoadingResource[] classPath) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        final ByteBuffer index;
+        try (FileChannel channel = FileChannel.open(file)) {
+            index = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (index.getInt(0) != MAGIC || index.getInt(4) != VERSION) {
+            return null;
+        }
+        int numJars = index.getInt(8);
+        int pos = 12;
+        JarResource[] jars = new JarResource[numJars];
+        long[] jarSizes = new long[numJars];
+        for (int i = 0; i < numJars; i++) {
+            int length = index.getInt(pos);
+            byte[] path = new byte[length];
+            index.get(pos + 4, path);
+            pos += 4 + length;
+            jarSizes[i] = index.getLong(pos);
+            pos += 8;
+            jars[i] = findJar(appRoot.resolve(new String(path, StandardCharsets.UTF_8)), classPath);
+            if (jars[i] == null) {
+                // not built for this class path
+                return null;
+            }
+        }
+        int entries = index.getInt(pos);
+        return new ClassIndex(index, entries, pos + 4, jars, jarSizes);
+    }
+
+    private static JarResource findJar(Path path, ClassLoadingResource[] classPath) {
+        for (ClassLoadingResource resource : classPath) {
+            if (resource instanceof JarResource && ((JarResource) resource).jarPath.equals(path)) {
+                return (JarResource) resource;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the entry of the given class resource, or {@code -1} if it is not indexed
+     */
+    int find(String classResource) {
+        byte[] name = classResource.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = entries - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareName(mid, name);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareName(int entry, byte[] name) {
+        int entryPos = entriesStart + entry * ENTRY_SIZE;
+        int offset = namesStart + index.getInt(entryPos);
+        int length = index.getShort(entryPos + 4) & 0xFFFF;
+        int common = Math.min(length, name.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(index.get(offset + i) & 0xFF, name[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, name.length);
+    }
+
+    /**
+     * @return the jar containing the given entry
+     */
+    JarResource getResource(int entry) {
+        return jars[index.getShort(entriesStart + entry * ENTRY_SIZE + 6) & 0xFFFF];
+    }
+
+    /**
+     * @return the data of the given entry, or {@code null} if it cannot be read through the index
+     */
+    byte[] getData(int entry) {
+        int entryPos = entriesStart + entry * ENTRY_SIZE;
+        int nameLength = index.getShort(entryPos + 4) & 0xFFFF;
+        int jarIndex = index.getShort(entryPos + 6) & 0xFFFF;
+        int method = index.getShort(entryPos + 8) & 0xFFFF;
+        int localHeaderOffset = index.getInt(entryPos + 12);
+        int compressedSize = index.getInt(entryPos + 16);
+        int size = index.getInt(entryPos + 20);
+
+        ByteBuffer jar = mappedJar(jarIndex);
+        if (jar == UNUSABLE || localHeaderOffset + LOCAL_HEADER_SIZE > jar.capacity()
+                || jar.getInt(localHeaderOffset) != LOCAL_HEADER_SIGNATURE
+                || (jar.getShort(localHeaderOffset + 26) & 0xFFFF) != nameLength) {
+            return null;
+        }
+        int dataStart = localHeaderOffset + LOCAL_HEADER_SIZE + nameLength
+                + (jar.getShort(localHeaderOffset + 28) & 0xFFFF);
+        if ((long) dataStart + compressedSize > jar.capacity()) {
+            return null;
+        }
+        byte[] data = new byte[size];
+        if (method == STORED) {
+            jar.get(dataStart, data);
+            return data;
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(jar.slice(dataStart, compressedSize));
+            int read = 0;
+            while (read < size) {
+                int n = inflater.inflate(data, read, size - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            return read == size ? data : null;
+        } catch (DataFormatException e) {
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private ByteBuffer mappedJar(int jarIndex) {
+        ByteBuffer jar = mappedJars.get(jarIndex);
+        if (jar != null) {
+            return jar;
+        }
+        Path path = jars[jarIndex].jarPath;
+        try (FileChannel channel = FileChannel.open(path)) {
+            if (channel.size() != jarSizes[jarIndex]) {
+                // the jar was modified after the build
+                jar = UNUSABLE;
+            } else {
+                jar = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException e) {
+            jar = UNUSABLE;
+        }
+        // Mapping the same jar twice is harmless, keep the first one
+        return mappedJars.compareAndSet(jarIndex, null, jar) ? jar : mappedJars.get(jarIndex);
+    }
+
+    /**
+     * Drop the mapped jars, the index stays usable and maps them again if needed.
+     */
+    void close() {
+        for (int i = 0; i < mappedJars.length(); i++) {
+            mappedJars.set(i, null);
+        }
+    }
+
+    /**
+     * @return the class entries of the given jar, or {@code null} if the jar cannot be indexed
+     */
+    private static List<Entry> readCentralDirectory(Path jar, int jarIndex) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar)) {
+            long fileSize = channel.size();
+            if (fileSize < END_SIZE || fileSize > Integer.MAX_VALUE) {
+                return null;
+            }
+            int tailSize = (int) Math.min(fileSize, END_SIZE + 0xFFFF);
+            ByteBuffer tail = read(channel, fileSize - tailSize, tailSize);
+            int end = -1;
+            for (int i = tailSize - END_SIZE; i >= 0; i--) {
+                if (tail.getInt(i) == END_SIGNATURE) {
+                    end = i;
+                    break;
+                }
+            }
+            if (end < 0) {
+                return null;
+            }
+            int total = tail.getShort(end + 10) & 0xFFFF;
+            long cenSize = tail.getInt(end + 12) & 0xFFFFFFFFL;
+            long cenOffset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+            if (total == 0xFFFF || cenOffset + cenSize > fileSize) {
+                // zip64
+                return null;
+            }
+            ByteBuffer cen = read(channel, cenOffset, (int) cenSize);
+            List<Entry> result = new ArrayList<>(total);
+            int pos = 0;
+            while (pos + CENTRAL_HEADER_SIZE <= cenSize && cen.getInt(pos) == CENTRAL_HEADER_SIGNATURE) {
+                int flags = cen.getShort(pos + 8) & 0xFFFF;
+                int method = cen.getShort(pos + 10) & 0xFFFF;
+                long compressedSize = cen.getInt(pos + 20) & 0xFFFFFFFFL;
+                long size = cen.getInt(pos + 24) & 0xFFFFFFFFL;
+                int nameLength = cen.getShort(pos + 28) & 0xFFFF;
+                int extraLength = cen.getShort(pos + 30) & 0xFFFF;
+                int commentLength = cen.getShort(pos + 32) & 0xFFFF;
+                long localHeaderOffset = cen.getInt(pos + 42) & 0xFFFFFFFFL;
+                byte[] nameBytes = new byte[nameLength];
+                cen.get(pos + CENTRAL_HEADER_SIZE, nameBytes);
+                pos += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+
+                String name = decodeName(nameBytes, flags);
+                if (name == null) {
+                    // let the JarFile decode it
+                    return null;
+                }
+                if (name.startsWith(SerializedApplication.META_INF_VERSIONS) || isSignature(name)) {
+                    // the JarFile would select the versioned entry, or verify the signature
+                    return null;
+                }
+                if (!name.endsWith(".class")) {
+                    continue;
+                }
+                if ((flags & 1) != 0 || (method != STORED && method != DEFLATED)
+                        || size > Integer.MAX_VALUE || localHeaderOffset > Integer.MAX_VALUE) {
+                    return null;
+                }
+                result.add(new Entry(name, nameBytes, jarIndex, method, localHeaderOffset, compressedSize, size));
+            }
+            return result;
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        return buffer;
+    }
+
+    private static String decodeName(byte[] nameBytes, int flags) {
+        if ((flags & 0x800) != 0) {
+            return new String(nameBytes, StandardCharsets.UTF_8);
+        }
+        for (byte b : nameBytes) {
+            if (b < 0) {
+                // not ASCII, and not flagged as UTF-8
+                return null;
+            }
+        }
+        return new String(nameBytes, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean isSignature(String name) {
+        if (!name.startsWith("META-INF/") || name.indexOf('/', 9) != -1) {
+            return false;
+        }
+        return name.endsWith(".SF") || name.endsWith(".RSA") || name.endsWith(".DSA") || name.endsWith(".EC");
+    }
+
+    private static final class Entry {
+        final String name;
+        final byte[] nameBytes;
+        final int jarIndex;
+        final int method;
+        final long localHeaderOffset;
+        final long compressedSize;
+        final long size;
+
+        Entry(String name, byte[] nameBytes, int jarIndex, int method, long localHeaderOffset, long compressedSize,
+                long size) {
+            this.name = name;
+            this.nameBytes = nameBytes;
+            this.jarIndex = jarIndex;
+            this.method = method;
+            this.localHeaderOffset = localHeaderOffset;
+            this.compressedSize = compressedSize;
+            this.size = size;
+        }
+    }
+}
@@ -14,6 +14,8 @@
 import org.crac.Context;
 import org.crac.Resource;
 
+import io.quarkus.commons.classloading.ClassLoadingStatistics;
+
 /**
  * Classloader used with the fast-jar package type.
  *
@@ -45,6 +47,8 @@ public final class RunnerClassLoader extends ClassLoader {
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
     private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    // the exact location of the classes, may be null
+    private final ClassIndex classIndex;
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
@@ -56,12 +60,21 @@ public final class RunnerClassLoader extends ClassLoader {
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+        this(parent, resourceDirectoryMap, parentFirstPackages, nonExistentResources, fullyIndexedDirectories,
+                directlyIndexedResourcesIndexMap, null);
+    }
+
+    RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
+            Set<String> parentFirstPackages, Set<String> nonExistentResources,
+            List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap,
+            ClassIndex classIndex) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
         this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.classIndex = classIndex;
 
         resource = new CracResource();
         org.crac.Core.getGlobalContext().register(resource);
@@ -101,6 +114,16 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         }
         if (resources != null) {
             String classResource = fromClassNameToResourceName(name);
+            if (classIndex != null) {
+                int entry = classIndex.find(classResource);
+                if (entry >= 0) {
+                    byte[] data = classIndex.getData(entry);
+                    if (data != null) {
+                        definePackage(packageName, resources);
+                        return defineClass(name, data, classIndex.getResource(entry));
+                    }
+                }
+            }
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
                 byte[] data = resource.getResourceData(classResource);
@@ -149,7 +172,13 @@ private void definePackage(String pkgName, ClassLoadingResource[] resources) {
     private Class<?> defineClass(String name, byte[] data, ClassLoadingResource resource) {
         Class<?> loaded;
         try {
-            return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            Class<?> defined = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            if (ClassLoadingStatistics.isEnabled()) {
+                ClassLoadingStatistics.classDefined(resource instanceof JarResource
+                        ? ((JarResource) resource).jarPath.getFileName().toString()
+                        : resource.toString(), data.length);
+            }
+            return defined;
         } catch (LinkageError e) {
             loaded = findLoadedClass(name);
             if (loaded != null) {
@@ -316,6 +345,9 @@ public void close() {
                 i.close();
             }
         }
+        if (classIndex != null) {
+            classIndex.close();
+        }
     }
 
     public void resetInternalCaches() {
@@ -339,6 +371,9 @@ public void beforeCheckpoint(Context<? extends Resource> ctx) {
                         currentlyBufferedResources[i] = null;
                     }
                 }
+                if (classIndex != null) {
+                    classIndex.close();
+                }
             }
         }
 
@@ -158,9 +158,11 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 }
                 directlyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            ClassIndex classIndex = ClassIndex.read(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_INDEX_DAT), appRoot,
+                    allClassLoadingResources);
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap, classIndex);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init();
             }
@@ -0,0 +1,85 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClassIndexTest {
+
+    private static final Path JARS = Path.of("src", "test", "resources", "jars").toAbsolutePath();
+
+    @Test
+    public void testClassDataIsReadThroughTheIndex(@TempDir Path tmp) throws Exception {
+        Path simple = JARS.resolve("simple-project-1.0.jar");
+        Path trivial = JARS.resolve("trivial-project-1.0.jar");
+        JarResource simpleResource = new JarResource(null, simple);
+        JarResource trivialResource = new JarResource(null, trivial);
+
+        ClassIndex index = writeAndRead(tmp, List.of(simple, trivial),
+                new ClassLoadingResource[] { simpleResource, trivialResource });
+        assertNotNull(index);
+
+        int entry = index.find("org/simple/SimplePojo1.class");
+        assertSame(simpleResource, index.getResource(entry));
+        assertArrayEquals(readEntry(simple, "org/simple/SimplePojo1.class"), index.getData(entry));
+
+        entry = index.find("org/trivial/TrivialPojo.class");
+        assertSame(trivialResource, index.getResource(entry));
+        assertArrayEquals(readEntry(trivial, "org/trivial/TrivialPojo.class"), index.getData(entry));
+
+        assertEquals(-1, index.find("org/simple/Missing.class"));
+    }
+
+    @Test
+    public void testClassIsLoadedThroughTheIndex(@TempDir Path tmp) throws Exception {
+        Path simple = JARS.resolve("simple-project-1.0.jar");
+        JarResource simpleResource = new JarResource(null, simple);
+        ClassLoadingResource[] resources = { simpleResource };
+
+        RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                Map.of("org/simple", resources), Collections.emptySet(), Collections.emptySet(),
+                Collections.emptyList(), Collections.emptyMap(), writeAndRead(tmp, List.of(simple), resources));
+        Class<?> loaded = runnerClassLoader.loadClass("org.simple.SimplePojo1");
+        assertSame(runnerClassLoader, loaded.getClassLoader());
+        runnerClassLoader.close();
+    }
+
+    @Test
+    public void testIndexOfAnotherClassPathIsIgnored(@TempDir Path tmp) throws Exception {
+        Path simple = JARS.resolve("simple-project-1.0.jar");
+        Path trivial = JARS.resolve("trivial-project-1.0.jar");
+
+        assertNull(writeAndRead(tmp, List.of(simple, trivial),
+                new ClassLoadingResource[] { new JarResource(null, simple) }));
+    }
+
+    private static ClassIndex writeAndRead(Path tmp, List<Path> jars, ClassLoadingResource[] resources)
+            throws Exception {
+        Path file = tmp.resolve(QuarkusEntryPoint.QUARKUS_CLASS_INDEX_DAT);
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            ClassIndex.write(out, JARS, jars);
+        }
+        return ClassIndex.read(file, JARS, resources);
+    }
+
+    private static byte[] readEntry(Path jar, String name) throws Exception {
+        try (ZipFile zip = new ZipFile(jar.toFile()); InputStream in = zip.getInputStream(zip.getEntry(name))) {
+            return in.readAllBytes();
+        }
+    }
+}
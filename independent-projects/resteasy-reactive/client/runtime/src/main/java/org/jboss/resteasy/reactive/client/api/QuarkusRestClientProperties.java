@@ -110,4 +110,34 @@ public class QuarkusRestClientProperties {
      */
     public static final String LOGGING_BODY_LIMIT = "io.quarkus.rest.client.logging.body-limit";
 
+    /**
+     * Set to true to serialise the request entity straight to the connection, on a worker thread, instead of buffering it
+     * entirely in memory first. Bodies larger than a chunk are sent with chunked transfer encoding, unless a
+     * {@code Content-Length} header is set.
+     * <p>
+     * The entity is still buffered when writer interceptors are registered, as they may need the whole entity.
+     */
+    public static final String STREAMING_REQUEST_BODY = "io.quarkus.rest.client.streaming-request-body";
+
+    /**
+     * The maximum number of HTTP/2 connections per host, the connection pool size by default.
+     */
+    public static final String HTTP2_MAX_POOL_SIZE = "io.quarkus.rest.client.http2-max-pool-size";
+
+    /**
+     * The maximum number of concurrent streams on an HTTP/2 connection, before a new connection is opened.
+     * By default, the limit advertised by the server is used.
+     */
+    public static final String HTTP2_MULTIPLEXING_LIMIT = "io.quarkus.rest.client.http2-multiplexing-limit";
+
+    /**
+     * The maximum number of requests waiting for a connection, per host. Requests beyond the limit fail immediately.
+     */
+    public static final String MAX_WAIT_QUEUE_SIZE = "io.quarkus.rest.client.max-wait-queue-size";
+
+    /**
+     * The name of the client in the connection pool metrics, no metrics are collected if not set.
+     */
+    public static final String METRICS_NAME = "io.quarkus.rest.client.metrics-name";
+
 }
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -31,6 +32,7 @@
 import org.jboss.resteasy.reactive.client.impl.AsyncInvokerImpl;
 import org.jboss.resteasy.reactive.client.impl.InputStreamReadStream;
 import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.client.impl.StreamingRequestBodyOutputStream;
 import org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder;
 import org.jboss.resteasy.reactive.client.impl.multipart.QuarkusMultipartForm;
 import org.jboss.resteasy.reactive.client.impl.multipart.QuarkusMultipartFormUpload;
@@ -190,6 +192,10 @@ public Buffer apply(io.vertx.mutiny.core.buffer.Buffer buffer) {
                                 }
                             }));
                     attachSentHandlers(sent, httpClientRequest, requestContext);
+                } else if (requestContext.isStreamingRequestBody() && !hasWriterInterceptors(requestContext)) {
+                    Future<HttpClientResponse> sent = httpClientRequest.response();
+                    ClientSendRequestHandler.this.sendStreamingBody(httpClientRequest, requestContext);
+                    attachSentHandlers(sent, httpClientRequest, requestContext);
                 } else {
                     Future<HttpClientResponse> sent;
                     Buffer actualEntity;
@@ -512,6 +518,43 @@ private QuarkusMultipartFormUpload setMultipartHeadersAndPrepareBody(HttpClientR
         return multipartFormUpload;
     }
 
+    /**
+     * Serialise the entity on a worker thread, straight to the request, which is ended once the entity is written.
+     */
+    private void sendStreamingBody(HttpClientRequest httpClientRequest, RestClientRequestContext state) {
+        MultivaluedMap<String, String> headerMap = state.getRequestHeadersAsMap();
+        updateRequestHeadersFromConfig(state, headerMap);
+        Entity<?> entity = state.getEntity();
+        setEntityRelatedHeaders(headerMap, entity);
+
+        StreamingRequestBodyOutputStream out = new StreamingRequestBodyOutputStream(httpClientRequest, new Runnable() {
+            @Override
+            public void run() {
+                // set the Vertx headers once the writer is done with them
+                setVertxHeaders(httpClientRequest, headerMap);
+                if (loggingScope != LoggingScope.NONE) {
+                    clientLogger.logRequest(httpClientRequest, null, false);
+                }
+            }
+        }, maxChunkSize);
+        Vertx.currentContext().owner().executeBlocking(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                try {
+                    if (!state.writeEntity(entity, headerMap, out)) {
+                        throw new ProcessingException("No MessageBodyWriter found for " + entity.getEntity().getClass()
+                                + " and media type " + entity.getMediaType());
+                    }
+                    out.close();
+                } catch (Throwable t) {
+                    httpClientRequest.reset(0, t);
+                    throw t;
+                }
+                return null;
+            }
+        }, false);
+    }
+
     private Buffer setRequestHeadersAndPrepareBody(HttpClientRequest httpClientRequest,
             RestClientRequestContext state)
             throws IOException {
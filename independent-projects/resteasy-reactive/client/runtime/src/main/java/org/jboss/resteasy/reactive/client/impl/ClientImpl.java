@@ -4,10 +4,14 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MAX_POOL_SIZE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_WAIT_QUEUE_SIZE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.METRICS_NAME;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.NAME;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED;
 
@@ -164,7 +168,24 @@ public Vertx get() {
             log.debugf("Setting connectionPoolSize to %d", connectionPoolSize);
         }
         options.setMaxPoolSize((int) connectionPoolSize);
-        options.setHttp2MaxPoolSize((int) connectionPoolSize);
+
+        Object http2MaxPoolSize = configuration.getProperty(HTTP2_MAX_POOL_SIZE);
+        if (http2MaxPoolSize == null) {
+            http2MaxPoolSize = connectionPoolSize;
+        } else {
+            log.debugf("Setting http2MaxPoolSize to %d", http2MaxPoolSize);
+        }
+        options.setHttp2MaxPoolSize((int) http2MaxPoolSize);
+
+        Object http2MultiplexingLimit = configuration.getProperty(HTTP2_MULTIPLEXING_LIMIT);
+        if (http2MultiplexingLimit != null) {
+            options.setHttp2MultiplexingLimit((int) http2MultiplexingLimit);
+        }
+
+        Object maxWaitQueueSize = configuration.getProperty(MAX_WAIT_QUEUE_SIZE);
+        if (maxWaitQueueSize != null) {
+            options.getPoolOptions().setMaxWaitQueueSize((int) maxWaitQueueSize);
+        }
 
         Object keepAliveEnabled = configuration.getProperty(KEEP_ALIVE_ENABLED);
         if (keepAliveEnabled != null) {
@@ -186,6 +207,12 @@ public Vertx get() {
             options.setName((String) name);
         }
 
+        Object metricsName = configuration.getProperty(METRICS_NAME);
+        if (metricsName != null) {
+            // follows the prefix|name convention of the Vert.x metrics names
+            options.setMetricsName("rest-client|" + metricsName);
+        }
+
         Object shared = configuration.getProperty(SHARED);
         if (shared != null && (boolean) shared) {
             log.debugf("Sharing of the HTTP client '%s' enabled", options.getName());
@@ -230,6 +257,36 @@ public ClientContext getClientContext() {
         return clientContext;
     }
 
+    /**
+     * Open connections to the given URI ahead of the first requests, by sending concurrent {@code OPTIONS} requests
+     * to it. With HTTP/1.1, each request opens a new connection, which is then kept in the pool. With HTTP/2, the
+     * requests are multiplexed on as few connections as the multiplexing limit allows.
+     * <p>
+     * This method does not block, failures are only logged.
+     *
+     * @param uri the URI to connect to
+     * @param connections the number of connections to open
+     */
+    public void prewarm(URI uri, int connections) {
+        abortIfClosed();
+        RequestOptions requestOptions = new RequestOptions()
+                .setMethod(HttpMethod.OPTIONS)
+                .setAbsoluteURI(uri.toString())
+                .setFollowRedirects(false);
+        log.debugf("Opening %d connections to %s", connections, uri);
+        for (int i = 0; i < connections; i++) {
+            httpClient.request(requestOptions)
+                    .compose(HttpClientRequest::send)
+                    .compose(HttpClientResponse::body)
+                    .onFailure(new Handler<Throwable>() {
+                        @Override
+                        public void handle(Throwable t) {
+                            log.debugf(t, "Unable to open a connection to %s", uri);
+                        }
+                    });
+        }
+    }
+
     @Override
     public void close() {
         if (isClosed)
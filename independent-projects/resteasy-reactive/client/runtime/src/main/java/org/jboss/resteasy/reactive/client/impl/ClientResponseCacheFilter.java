@@ -0,0 +1,575 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.jaxrs.StatusTypeImpl;
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+import org.jboss.resteasy.reactive.common.util.DateUtil;
+
+/**
+ * An in-memory cache of the responses of a client, following the rules of a shared cache of RFC 9111.
+ * <p>
+ * Only the responses to {@code GET} requests with an explicit freshness lifetime ({@code Cache-Control: s-maxage} or
+ * {@code max-age}, or {@code Expires}) or a validator ({@code ETag} or {@code Last-Modified}) are stored. Fresh
+ * responses are served without contacting the server, stale responses are revalidated with a conditional request,
+ * and served while being revalidated in the background within their {@code stale-while-revalidate} window. Successful
+ * unsafe requests invalidate the responses stored for their URI.
+ * <p>
+ * The least recently used responses are evicted when the total size of the stored bodies exceeds the maximum size.
+ * The outcome of each request is set in the {@value #CACHE_RESULT} request property.
+ */
+@Priority(Priorities.USER + 1000)
+public class ClientResponseCacheFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    private static final Logger log = Logger.getLogger(ClientResponseCacheFilter.class);
+
+    /**
+     * The request property set to the outcome of the request: {@value #HIT}, {@value #STALE}, {@value #MISS} or
+     * {@value #REVALIDATED}.
+     */
+    public static final String CACHE_RESULT = "io.quarkus.rest.client.cache-result";
+    public static final String HIT = "hit";
+    public static final String STALE = "stale";
+    public static final String MISS = "miss";
+    public static final String REVALIDATED = "revalidated";
+
+    private static final String REQUEST_TIME = ClientResponseCacheFilter.class.getName() + ".request-time";
+    private static final String VALIDATED_ENTRY = ClientResponseCacheFilter.class.getName() + ".validated-entry";
+    private static final String BACKGROUND_REVALIDATION = ClientResponseCacheFilter.class.getName()
+            + ".background-revalidation";
+
+    // the statuses which are cacheable by default, see RFC 9110 section 15.1
+    private static final Set<Integer> CACHEABLE_STATUSES = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+
+    private final long maxSize;
+    private final long maxEntrySize;
+    private final LinkedHashMap<String, List<Entry>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+
+    /**
+     * @param maxSize the maximum total size of the stored response bodies, in bytes
+     * @param maxEntrySize the maximum size of a stored response body, in bytes
+     */
+    public ClientResponseCacheFilter(long maxSize, long maxEntrySize) {
+        this.maxSize = maxSize;
+        this.maxEntrySize = Math.min(maxEntrySize, maxSize);
+    }
+
+    @Override
+    public void filter(ClientRequestContext request) {
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return;
+        }
+        request.setProperty(REQUEST_TIME, System.currentTimeMillis());
+        if (request.getProperty(BACKGROUND_REVALIDATION) != null) {
+            return;
+        }
+        MultivaluedMap<String, Object> headers = request.getHeaders();
+        Directives directives = Directives.parse(request.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        if (directives.noStore || headers.containsKey(HttpHeaders.IF_NONE_MATCH)
+                || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE)) {
+            // the request bypasses the cache
+            return;
+        }
+        String key = key(request.getUri());
+        Entry entry = lookup(key, request);
+        if (entry == null) {
+            misses.increment();
+            request.setProperty(CACHE_RESULT, MISS);
+            return;
+        }
+        long age = entry.currentAge(System.currentTimeMillis());
+        boolean mayServe = !directives.noCache
+                && (directives.maxAge < 0 || age <= TimeUnit.SECONDS.toMillis(directives.maxAge));
+        if (mayServe && age < entry.freshnessLifetime) {
+            hits.increment();
+            request.setProperty(CACHE_RESULT, HIT);
+            request.abortWith(entry.toResponse(age));
+            return;
+        }
+        if (mayServe && age < entry.freshnessLifetime + entry.staleWhileRevalidate) {
+            staleHits.increment();
+            request.setProperty(CACHE_RESULT, STALE);
+            if (entry.revalidating.compareAndSet(false, true)) {
+                revalidateInBackground(request, entry);
+            }
+            request.abortWith(entry.toResponse(age));
+            return;
+        }
+        // the server has to validate the stored response
+        misses.increment();
+        request.setProperty(CACHE_RESULT, MISS);
+        if (entry.etag != null) {
+            headers.putSingle(HttpHeaders.IF_NONE_MATCH, entry.etag);
+        } else if (entry.lastModified != null) {
+            headers.putSingle(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified);
+        } else {
+            // the stored response only had a freshness lifetime, it cannot be validated
+            remove(key, entry);
+            return;
+        }
+        request.setProperty(VALIDATED_ENTRY, entry);
+    }
+
+    @Override
+    public void filter(ClientRequestContext request, ClientResponseContext response) throws IOException {
+        Object result = request.getProperty(CACHE_RESULT);
+        if (HIT.equals(result) || STALE.equals(result)) {
+            // served from the cache
+            return;
+        }
+        String method = request.getMethod();
+        if (!HttpMethod.GET.equals(method)) {
+            if (!HttpMethod.HEAD.equals(method) && !HttpMethod.OPTIONS.equals(method) && response.getStatus() < 400) {
+                invalidate(key(request.getUri()));
+            }
+            return;
+        }
+        Long requestTime = (Long) request.getProperty(REQUEST_TIME);
+        if (requestTime == null) {
+            return;
+        }
+        long responseTime = System.currentTimeMillis();
+        String key = key(request.getUri());
+        Entry validated = (Entry) request.getProperty(VALIDATED_ENTRY);
+        if (validated != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            Entry updated = validated.revalidated(response.getHeaders(), requestTime, responseTime);
+            store(key, updated);
+            revalidations.increment();
+            request.setProperty(CACHE_RESULT, REVALIDATED);
+            response.setStatusInfo(new StatusTypeImpl(updated.status, updated.reasonPhrase));
+            MultivaluedMap<String, String> headers = response.getHeaders();
+            headers.clear();
+            headers.putAll(updated.headers);
+            response.setEntityStream(updated.body != null ? new ByteArrayInputStream(updated.body) : null);
+            return;
+        }
+        if (validated != null) {
+            validated.revalidating.set(false);
+        }
+        Entry entry = toEntry(request, response, requestTime, responseTime);
+        if (entry != null) {
+            store(key, entry);
+        } else if (validated != null) {
+            remove(key, validated);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    /**
+     * @return the total size of the stored response bodies, in bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    private Entry toEntry(ClientRequestContext request, ClientResponseContext response, long requestTime,
+            long responseTime) throws IOException {
+        if (!CACHEABLE_STATUSES.contains(response.getStatus())) {
+            return null;
+        }
+        Directives directives = Directives.parse(response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        if (directives.noStore || directives.privateResponse) {
+            return null;
+        }
+        if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+                && !directives.publicResponse && directives.sMaxAge < 0 && !directives.mustRevalidate) {
+            // see RFC 9111 section 3.5
+            return null;
+        }
+        Map<String, String> vary = new LinkedHashMap<>();
+        String varyHeader = response.getHeaderString(HttpHeaders.VARY);
+        if (varyHeader != null) {
+            for (String name : varyHeader.split(",")) {
+                name = name.trim();
+                if (name.equals("*")) {
+                    return null;
+                }
+                if (!name.isEmpty()) {
+                    vary.put(name, request.getHeaderString(name));
+                }
+            }
+        }
+        String etag = response.getHeaderString(HttpHeaders.ETAG);
+        String lastModified = response.getHeaderString(HttpHeaders.LAST_MODIFIED);
+        Date date = parseDate(response.getHeaderString(HttpHeaders.DATE));
+        long freshnessLifetime = freshnessLifetime(directives, response.getHeaderString(HttpHeaders.EXPIRES), date);
+        if (freshnessLifetime <= 0 && etag == null && lastModified == null) {
+            return null;
+        }
+        String contentLength = response.getHeaderString(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null && parseLong(contentLength, 0) > maxEntrySize) {
+            return null;
+        }
+        InputStream entityStream = response.getEntityStream();
+        byte[] body = null;
+        if (entityStream != null) {
+            if (entityStream instanceof VertxClientInputStream) {
+                // the body is being streamed, reading it here would buffer it
+                return null;
+            }
+            body = entityStream.readAllBytes();
+            response.setEntityStream(new ByteArrayInputStream(body));
+            if (body.length > maxEntrySize) {
+                return null;
+            }
+        }
+        CaseInsensitiveMap<String> headers = new CaseInsensitiveMap<>();
+        headers.putAll(response.getHeaders());
+        return new Entry(response.getStatus(), response.getStatusInfo().getReasonPhrase(), headers, body, vary, etag,
+                lastModified, date, parseLong(response.getHeaderString("Age"), 0), requestTime, responseTime,
+                freshnessLifetime, directives);
+    }
+
+    private static long freshnessLifetime(Directives directives, String expires, Date date) {
+        if (directives.noCache) {
+            return 0;
+        }
+        if (directives.sMaxAge >= 0) {
+            return TimeUnit.SECONDS.toMillis(directives.sMaxAge);
+        }
+        if (directives.maxAge >= 0) {
+            return TimeUnit.SECONDS.toMillis(directives.maxAge);
+        }
+        if (expires != null) {
+            Date expiresDate = parseDate(expires);
+            if (expiresDate == null) {
+                // invalid dates, e.g. 0, represent a time in the past
+                return 0;
+            }
+            return expiresDate.getTime() - (date != null ? date.getTime() : System.currentTimeMillis());
+        }
+        return 0;
+    }
+
+    private synchronized Entry lookup(String key, ClientRequestContext request) {
+        List<Entry> variants = entries.get(key);
+        if (variants == null) {
+            return null;
+        }
+        for (Entry entry : variants) {
+            if (entry.matches(request)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private synchronized void store(String key, Entry entry) {
+        List<Entry> variants = entries.get(key);
+        if (variants == null) {
+            variants = new ArrayList<>(1);
+            entries.put(key, variants);
+        } else {
+            Iterator<Entry> it = variants.iterator();
+            while (it.hasNext()) {
+                Entry variant = it.next();
+                if (variant.vary.equals(entry.vary)) {
+                    it.remove();
+                    size -= variant.size();
+                }
+            }
+        }
+        variants.add(entry);
+        size += entry.size();
+        // evict the least recently used responses
+        Iterator<List<Entry>> it = entries.values().iterator();
+        while (size > maxSize && it.hasNext()) {
+            List<Entry> evicted = it.next();
+            if (evicted == variants) {
+                continue;
+            }
+            for (Entry variant : evicted) {
+                size -= variant.size();
+            }
+            it.remove();
+        }
+    }
+
+    private synchronized void remove(String key, Entry entry) {
+        List<Entry> variants = entries.get(key);
+        if (variants != null && variants.remove(entry)) {
+            size -= entry.size();
+            if (variants.isEmpty()) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    private synchronized void invalidate(String key) {
+        List<Entry> variants = entries.remove(key);
+        if (variants != null) {
+            for (Entry variant : variants) {
+                size -= variant.size();
+            }
+        }
+    }
+
+    private void revalidateInBackground(ClientRequestContext request, Entry entry) {
+        Invocation.Builder builder = request.getClient().target(request.getUri()).request();
+        for (Map.Entry<String, List<String>> header : request.getStringHeaders().entrySet()) {
+            for (String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        // without validator, the response is fetched again and replaces the stored one
+        if (entry.etag != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, entry.etag);
+        } else if (entry.lastModified != null) {
+            builder.header(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified);
+        }
+        builder.property(BACKGROUND_REVALIDATION, Boolean.TRUE)
+                .property(VALIDATED_ENTRY, entry)
+                .rx()
+                .get()
+                .whenComplete(new BiConsumer<Response, Throwable>() {
+                    @Override
+                    public void accept(Response response, Throwable t) {
+                        if (response != null) {
+                            response.close();
+                        }
+                        if (t != null) {
+                            entry.revalidating.set(false);
+                            log.debugf(t, "Unable to revalidate the cached response of %s", request.getUri());
+                        }
+                    }
+                });
+    }
+
+    private static String key(URI uri) {
+        return uri.toString();
+    }
+
+    private static Date parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return DateUtil.parseDate(value);
+        } catch (DateUtil.DateParseException e) {
+            return null;
+        }
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    static final class Entry {
+        final int status;
+        final String reasonPhrase;
+        final MultivaluedMap<String, String> headers;
+        final byte[] body;
+        final Map<String, String> vary;
+        final String etag;
+        final String lastModified;
+        final Directives directives;
+        // the age of the response when it was received, see RFC 9111 section 4.2.3
+        final long correctedInitialAge;
+        final long responseTime;
+        final long freshnessLifetime;
+        final long staleWhileRevalidate;
+        final AtomicBoolean revalidating = new AtomicBoolean();
+
+        Entry(int status, String reasonPhrase, MultivaluedMap<String, String> headers, byte[] body,
+                Map<String, String> vary, String etag, String lastModified, Date date, long ageSeconds, long requestTime,
+                long responseTime, long freshnessLifetime, Directives directives) {
+            this.status = status;
+            this.reasonPhrase = reasonPhrase;
+            this.headers = headers;
+            this.body = body;
+            this.vary = vary;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.directives = directives;
+            long apparentAge = date != null ? Math.max(0, responseTime - date.getTime()) : 0;
+            long responseDelay = responseTime - requestTime;
+            this.correctedInitialAge = Math.max(apparentAge, TimeUnit.SECONDS.toMillis(ageSeconds) + responseDelay);
+            this.responseTime = responseTime;
+            this.freshnessLifetime = freshnessLifetime;
+            this.staleWhileRevalidate = directives.mustRevalidate || directives.noCache || directives.staleWhileRevalidate < 0
+                    ? 0
+                    : TimeUnit.SECONDS.toMillis(directives.staleWhileRevalidate);
+        }
+
+        long currentAge(long now) {
+            return correctedInitialAge + now - responseTime;
+        }
+
+        long size() {
+            return body != null ? body.length : 0;
+        }
+
+        boolean matches(ClientRequestContext request) {
+            for (Map.Entry<String, String> header : vary.entrySet()) {
+                if (!Objects.equals(header.getValue(), request.getHeaderString(header.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return the entry updated with the headers of a {@code 304 Not Modified} response, see RFC 9111 section 4.3.4
+         */
+        Entry revalidated(MultivaluedMap<String, String> notModifiedHeaders, long requestTime, long responseTime) {
+            CaseInsensitiveMap<String> updatedHeaders = new CaseInsensitiveMap<>();
+            updatedHeaders.putAll(headers);
+            for (Map.Entry<String, List<String>> header : notModifiedHeaders.entrySet()) {
+                String name = header.getKey().toLowerCase(Locale.ROOT);
+                if (name.equals("content-length") || name.equals("transfer-encoding")) {
+                    continue;
+                }
+                updatedHeaders.put(header.getKey(), header.getValue());
+            }
+            Directives updatedDirectives = Directives.parse(updatedHeaders.getFirst(HttpHeaders.CACHE_CONTROL));
+            Date date = parseDate(updatedHeaders.getFirst(HttpHeaders.DATE));
+            return new Entry(status, reasonPhrase, updatedHeaders, body, vary,
+                    updatedHeaders.getFirst(HttpHeaders.ETAG), updatedHeaders.getFirst(HttpHeaders.LAST_MODIFIED), date,
+                    parseLong(updatedHeaders.getFirst("Age"), 0), requestTime, responseTime,
+                    freshnessLifetime(updatedDirectives, updatedHeaders.getFirst(HttpHeaders.EXPIRES), date),
+                    updatedDirectives);
+        }
+
+        Response toResponse(long age) {
+            Response.ResponseBuilder builder = Response.status(status, reasonPhrase);
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (header.getKey().equalsIgnoreCase("Age")) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+            builder.header("Age", TimeUnit.MILLISECONDS.toSeconds(age));
+            if (body != null) {
+                builder.entity(body);
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * The {@code Cache-Control} directives used by the cache.
+     */
+    static final class Directives {
+        static final Directives NONE = new Directives();
+
+        boolean noStore;
+        boolean noCache;
+        boolean privateResponse;
+        boolean publicResponse;
+        boolean mustRevalidate;
+        long maxAge = -1;
+        long sMaxAge = -1;
+        long staleWhileRevalidate = -1;
+
+        static Directives parse(String cacheControl) {
+            if (cacheControl == null || cacheControl.isEmpty()) {
+                return NONE;
+            }
+            Directives directives = new Directives();
+            for (String directive : cacheControl.split(",")) {
+                String name = directive;
+                String value = null;
+                int eq = directive.indexOf('=');
+                if (eq >= 0) {
+                    name = directive.substring(0, eq);
+                    value = directive.substring(eq + 1).trim();
+                    if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+                        value = value.substring(1, value.length() - 1);
+                    }
+                }
+                switch (name.trim().toLowerCase(Locale.ROOT)) {
+                    case "no-store":
+                        directives.noStore = true;
+                        break;
+                    case "no-cache":
+                        // the qualified form, listing header names, is handled as the unqualified one
+                        directives.noCache = true;
+                        break;
+                    case "private":
+                        directives.privateResponse = true;
+                        break;
+                    case "public":
+                        directives.publicResponse = true;
+                        break;
+                    case "must-revalidate":
+                    case "proxy-revalidate":
+                        directives.mustRevalidate = true;
+                        break;
+                    case "max-age":
+                        directives.maxAge = parseLong(value, -1);
+                        break;
+                    case "s-maxage":
+                        directives.sMaxAge = parseLong(value, -1);
+                        // s-maxage implies proxy-revalidate for shared caches
+                        directives.mustRevalidate = true;
+                        break;
+                    case "stale-while-revalidate":
+                        directives.staleWhileRevalidate = parseLong(value, -1);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return directives;
+        }
+    }
+}
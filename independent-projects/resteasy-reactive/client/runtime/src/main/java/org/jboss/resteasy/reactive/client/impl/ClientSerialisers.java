@@ -3,6 +3,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
@@ -115,13 +116,7 @@ public static Buffer invokeClientWriter(Entity<?> entity, Object entityObject, C
         if (writer.isWriteable(entityClass, entityType, entity.getAnnotations(), entity.getMediaType())) {
             if ((writerInterceptors == null) || writerInterceptors.length == 0) {
                 VertxBufferOutputStream out = new VertxBufferOutputStream();
-                if (writer instanceof ClientMessageBodyWriter cw) {
-                    cw.writeTo(entityObject, entityClass, entityType, entity.getAnnotations(),
-                            entity.getMediaType(), headerMap, out, clientRequestContext);
-                } else {
-                    writer.writeTo(entityObject, entityClass, entityType, entity.getAnnotations(),
-                            entity.getMediaType(), headerMap, out);
-                }
+                writeTo(entity, entityObject, entityClass, entityType, headerMap, writer, clientRequestContext, out);
                 return out.getBuffer();
             } else {
                 return runClientWriterInterceptors(entityObject, entityClass, entityType, entity.getAnnotations(),
@@ -133,6 +128,33 @@ public static Buffer invokeClientWriter(Entity<?> entity, Object entityObject, C
         return null;
     }
 
+    /**
+     * Serialise the entity straight to the given stream, without running the writer interceptors.
+     *
+     * @return {@code false} if the writer cannot write the entity
+     */
+    public static boolean invokeClientWriter(Entity<?> entity, Object entityObject, Class<?> entityClass, Type entityType,
+            MultivaluedMap<String, String> headerMap, MessageBodyWriter writer,
+            RestClientRequestContext clientRequestContext, OutputStream out) throws IOException {
+        if (!writer.isWriteable(entityClass, entityType, entity.getAnnotations(), entity.getMediaType())) {
+            return false;
+        }
+        writeTo(entity, entityObject, entityClass, entityType, headerMap, writer, clientRequestContext, out);
+        return true;
+    }
+
+    private static void writeTo(Entity<?> entity, Object entityObject, Class<?> entityClass, Type entityType,
+            MultivaluedMap<String, String> headerMap, MessageBodyWriter writer,
+            RestClientRequestContext clientRequestContext, OutputStream out) throws IOException {
+        if (writer instanceof ClientMessageBodyWriter cw) {
+            cw.writeTo(entityObject, entityClass, entityType, entity.getAnnotations(),
+                    entity.getMediaType(), headerMap, out, clientRequestContext);
+        } else {
+            writer.writeTo(entityObject, entityClass, entityType, entity.getAnnotations(),
+                    entity.getMediaType(), headerMap, out);
+        }
+    }
+
     public static Buffer runClientWriterInterceptors(Object entity, Class<?> entityClass, Type entityType,
             Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> headers, MessageBodyWriter writer,
             WriterInterceptor[] writerInterceptors, Map<String, Object> properties,
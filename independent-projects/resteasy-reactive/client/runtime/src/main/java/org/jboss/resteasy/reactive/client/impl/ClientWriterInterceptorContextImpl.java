@@ -1,6 +1,5 @@
 package org.jboss.resteasy.reactive.client.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
@@ -25,10 +24,11 @@
 public class ClientWriterInterceptorContextImpl extends AbstractClientInterceptorContextImpl
         implements WriterInterceptorContext {
 
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(); //TODO: real bloocking IO
+    // interceptors may need the whole entity, e.g. to compute a digest, so it is buffered
+    private final VertxBufferOutputStream buffer = new VertxBufferOutputStream();
     boolean done = false;
     private int index = 0;
-    private OutputStream outputStream = baos;
+    private OutputStream outputStream = buffer;
     private final RestClientRequestContext clientRequestContext;
     private final Serialisers serialisers;
     private final ConfigurationImpl configuration;
@@ -79,7 +79,7 @@ public void proceed() throws IOException, WebApplicationException {
             }
 
             outputStream.close();
-            result = Buffer.buffer(baos.toByteArray());
+            result = buffer.getBuffer();
             done = true;
         } else {
             interceptors[index++].aroundWriteTo(this);
@@ -3,6 +3,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -263,6 +264,35 @@ public ClientRequestContextImpl getOrCreateClientRequestContext() {
         return clientRequestContext;
     }
 
+    /**
+     * Serialise the entity straight to the given stream, without running the writer interceptors.
+     *
+     * @return {@code false} if no writer could write the entity
+     */
+    public boolean writeEntity(Entity<?> entity, MultivaluedMap<String, String> headerMap, OutputStream out)
+            throws IOException {
+        Object entityObject = entity.getEntity();
+        Class<?> entityClass;
+        Type entityType;
+        if (entityObject instanceof GenericEntity) {
+            GenericEntity<?> genericEntity = (GenericEntity<?>) entityObject;
+            entityClass = genericEntity.getRawType();
+            entityType = genericEntity.getType();
+            entityObject = genericEntity.getEntity();
+        } else {
+            entityType = entityClass = entityObject.getClass();
+        }
+        List<MessageBodyWriter<?>> writers = restClient.getClientContext().getSerialisers().findWriters(configuration,
+                entityClass, entity.getMediaType(),
+                RuntimeType.CLIENT);
+        for (MessageBodyWriter<?> w : writers) {
+            if (ClientSerialisers.invokeClientWriter(entity, entityObject, entityClass, entityType, headerMap, w, this, out)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public Buffer writeEntity(Entity<?> entity, MultivaluedMap<String, String> headerMap, WriterInterceptor[] interceptors)
             throws IOException {
         Object entityObject = entity.getEntity();
@@ -518,6 +548,15 @@ public boolean isMultiBufferUpload() {
         return entity != null && entity.getEntity() instanceof Multi;
     }
 
+    /**
+     * @return whether the entity should be serialised straight to the connection,
+     *         see {@link QuarkusRestClientProperties#STREAMING_REQUEST_BODY}
+     */
+    public boolean isStreamingRequestBody() {
+        return entity != null && entity.getEntity() != null
+                && getBooleanProperty(QuarkusRestClientProperties.STREAMING_REQUEST_BODY, false);
+    }
+
     public boolean isMultipart() {
         return entity != null && entity.getEntity() instanceof QuarkusMultipartForm;
     }
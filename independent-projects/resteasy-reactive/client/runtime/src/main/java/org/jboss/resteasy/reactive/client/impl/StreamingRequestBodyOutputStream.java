@@ -0,0 +1,151 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import io.vertx.core.http.HttpClientRequest;
+
+/**
+ * An {@link OutputStream} writing the request body straight to the connection, in chunks of a fixed size.
+ * <p>
+ * It must be used from a worker thread: when the write queue of the request is full, writes block until it is drained,
+ * so that at most a few chunks of the body are held in memory whatever its size. A body smaller than a chunk is sent
+ * in a single write, with a {@code Content-Length} header, otherwise the request uses chunked transfer encoding unless
+ * a {@code Content-Length} was set.
+ */
+public class StreamingRequestBodyOutputStream extends OutputStream {
+
+    private final HttpClientRequest request;
+    private final Runnable beforeFirstWrite;
+    private final int chunkSize;
+    private final Object drainLock = new Object();
+
+    private ByteBuf chunk;
+    private boolean started;
+    private boolean closed;
+    private boolean waitingForDrain;
+
+    /**
+     * @param request the request
+     * @param beforeFirstWrite called once, before anything is written to the request, e.g. to set the headers
+     * @param chunkSize the size of the chunks
+     */
+    public StreamingRequestBodyOutputStream(HttpClientRequest request, Runnable beforeFirstWrite, int chunkSize) {
+        this.request = request;
+        this.beforeFirstWrite = beforeFirstWrite;
+        this.chunkSize = chunkSize;
+        request.drainHandler(new Handler<>() {
+            @Override
+            public void handle(Void event) {
+                synchronized (drainLock) {
+                    waitingForDrain = false;
+                    drainLock.notifyAll();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        chunk().writeByte(b);
+        if (!chunk.isWritable()) {
+            flushChunk();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            ByteBuf current = chunk();
+            int n = Math.min(len, current.writableBytes());
+            current.writeBytes(b, off, n);
+            off += n;
+            len -= n;
+            if (!current.isWritable()) {
+                flushChunk();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!started) {
+            // the whole body fits in a single chunk, send it with a content length
+            beforeFirstWrite.run();
+            if (chunk == null) {
+                request.end();
+            } else {
+                request.end(Buffer.buffer(chunk));
+            }
+        } else {
+            if (chunk != null && chunk.isReadable()) {
+                awaitWritable();
+                request.end(Buffer.buffer(chunk));
+            } else {
+                request.end();
+            }
+        }
+        chunk = null;
+    }
+
+    private ByteBuf chunk() {
+        if (chunk == null) {
+            chunk = VertxByteBufAllocator.DEFAULT.heapBuffer(chunkSize, chunkSize);
+        }
+        return chunk;
+    }
+
+    private void flushChunk() throws IOException {
+        if (!started) {
+            started = true;
+            beforeFirstWrite.run();
+            if (!request.headers().contains("Content-Length")) {
+                request.setChunked(true);
+            }
+        }
+        awaitWritable();
+        Buffer buffer = Buffer.buffer(chunk);
+        chunk = null;
+        request.write(buffer);
+    }
+
+    private void awaitWritable() throws IOException {
+        synchronized (drainLock) {
+            if (!request.writeQueueFull()) {
+                return;
+            }
+            waitingForDrain = true;
+            // the drain handler may have been called before the flag was set
+            while (waitingForDrain && request.writeQueueFull()) {
+                if (request.response().isComplete()) {
+                    // the request failed, or the server responded without reading the whole body
+                    throw new IOException("The request completed before its body was written");
+                }
+                try {
+                    drainLock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the request to be written");
+                }
+            }
+            waitingForDrain = false;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+}
@@ -27,7 +27,10 @@ public void write(byte[] b, int off, int len) throws IOException {
         buffer.appendBytes(b, off, len);
     }
 
+    /**
+     * @return the written bytes, without copying them: the stream must not be written to afterwards
+     */
     public Buffer getBuffer() {
-        return this.buffer.copy();
+        return this.buffer;
     }
 }
@@ -14,10 +14,10 @@
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import jakarta.ws.rs.WebApplicationException;
@@ -42,6 +42,8 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
 
     public static final String MULTIPART_FORM_DATA = "multipart/form-data";
 
+    private static final int BLOCKING_READ_BUFFER_SIZE = 8192;
+
     private final Supplier<Executor> executorSupplier;
 
     private Path tempFileLocation;
@@ -196,6 +198,8 @@ private final class MultiPartUploadHandler implements FormDataParser, MultipartP
         private CaseInsensitiveMap<String> headers;
         private long currentFileSize;
         private long currentEntitySize;
+        private int fileCount;
+        private final long startTime = System.nanoTime();
         private final MultipartParser.ParseState parser;
 
         private MultiPartUploadHandler(final ResteasyReactiveRequestContext exchange, final String boundary,
@@ -241,7 +245,7 @@ public FormData parseBlocking() throws Exception {
                 return existing;
             }
             try (InputStream inputStream = exchange.getInputStream()) {
-                byte[] buf = new byte[1024];
+                byte[] buf = new byte[BLOCKING_READ_BUFFER_SIZE];
                 int c;
                 while ((c = inputStream.read(buf)) > 0) {
                     parser.parse(ByteBuffer.wrap(buf, 0, c));
@@ -315,6 +319,7 @@ public void data(final ByteBuffer buffer) throws IOException {
 
                     FileOutputStream fileOutputStream = new FileOutputStream(file.toFile());
                     contentBytes.writeTo(fileOutputStream);
+                    contentBytes.reset();
 
                     fileChannel = fileOutputStream.getChannel();
                 } catch (IOException e) {
@@ -323,15 +328,24 @@ public void data(final ByteBuffer buffer) throws IOException {
             }
 
             if (file == null) {
-                while (buffer.hasRemaining()) {
-                    contentBytes.write(buffer.get());
-                }
-                if (maxAttributeSize > 0 && contentBytes.size() > maxAttributeSize) {
+                // the limit is checked before the data is buffered, so that oversized attributes are not held in memory
+                if (maxAttributeSize > 0 && contentBytes.size() + buffer.remaining() > maxAttributeSize) {
                     data.deleteFiles();
                     throw new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
                 }
+                if (buffer.hasArray()) {
+                    contentBytes.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    buffer.position(buffer.limit());
+                } else {
+                    while (buffer.hasRemaining()) {
+                        contentBytes.write(buffer.get());
+                    }
+                }
             } else {
-                fileChannel.write(buffer);
+                // the data is written from the request buffer to the file, without going through a byte array
+                while (buffer.hasRemaining()) {
+                    fileChannel.write(buffer);
+                }
             }
         }
 
@@ -339,6 +353,7 @@ public void data(final ByteBuffer buffer) throws IOException {
         public void endPart() {
             if (file != null) {
                 data.add(currentName, file, fileName, headers);
+                fileCount++;
                 file = null;
                 contentBytes.reset();
                 try {
@@ -348,7 +363,7 @@ public void endPart() {
                     throw new RuntimeException(e);
                 }
             } else if (fileName != null) {
-                data.add(currentName, Arrays.copyOf(contentBytes.toByteArray(), contentBytes.size()), fileName, headers);
+                data.add(currentName, contentBytes.toByteArray(), fileName, headers);
                 contentBytes.reset();
             } else {
 
@@ -367,7 +382,7 @@ public void endPart() {
                         throw new RuntimeException(e);
                     }
                 } else {
-                    data.add(currentName, Arrays.copyOf(contentBytes.toByteArray(), contentBytes.size()), null, headers);
+                    data.add(currentName, contentBytes.toByteArray(), null, headers);
                 }
 
                 contentBytes.reset();
@@ -390,6 +405,12 @@ public void close() throws IOException {
             if (fileChannel != null) {
                 fileChannel.close();
             }
+            if (log.isDebugEnabled()) {
+                long durationNanos = Math.max(System.nanoTime() - startTime, 1);
+                log.debugf("Parsed multipart request of %d bytes with %d file(s) in %d ms (%d KB/s)", currentEntitySize,
+                        fileCount, TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                        currentEntitySize * TimeUnit.SECONDS.toNanos(1) / durationNanos / 1024);
+            }
             //we have to dispatch this, as it may result in file IO
             if (deleteUploadsOnEnd) {
                 deleteFiles();
@@ -283,7 +283,8 @@ public void handle(Buffer event) {
                 if (devModeTccl != null) {
                     Thread.currentThread().setContextClassLoader(devModeTccl);
                 }
-                callback.data(ByteBuffer.wrap(event.getBytes()));
+                // the buffers handed to request handlers are not pooled, so their memory can be used without a copy
+                callback.data(event.getByteBuf().nioBuffer());
             }
         });
         request.endHandler(new Handler<Void>() {
@@ -12,6 +12,7 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import io.quarkus.runtime.logging.QuarkusAsyncHandler;
 import io.quarkus.test.QuarkusUnitTest;
 
 public class AsyncFileHandlerTest {
@@ -26,10 +27,10 @@ public class AsyncFileHandlerTest {
 
     @Test
     public void asyncFileHandlerConfigurationTest() {
-        Handler handler = getHandler(AsyncHandler.class);
+        Handler handler = getHandler(QuarkusAsyncHandler.class);
         assertThat(handler.getLevel()).isEqualTo(Level.INFO);
 
-        AsyncHandler asyncHandler = (AsyncHandler) handler;
+        QuarkusAsyncHandler asyncHandler = (QuarkusAsyncHandler) handler;
         assertThat(asyncHandler.getHandlers()).isNotEmpty();
         assertThat(asyncHandler.getQueueLength()).isEqualTo(1024);
         assertThat(asyncHandler.getOverflowAction()).isEqualTo(AsyncHandler.OverflowAction.BLOCK);